@@ -0,0 +1,113 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * GameSaverBenchmark.java
+ */
+package controller;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import model.BenchmarkQuestions;
+import model.Direction;
+import model.Maze;
+import model.MazeState;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark for saving a game with {@link GameSaver} and loading it back, for
+ * several maze sizes, in the binary save format and as a mapped save. Compression
+ * settings are compared by {@link SaveCompressionBenchmark}.
+ *
+ * @version 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameSaverBenchmark {
+
+    /**
+     * The width and height of the maze.
+     */
+    @Param({"5", "100", "1000"})
+    public int mySize;
+
+    /**
+     * The number of questions in the bank.
+     */
+    @Param({"60"})
+    public int myBankSize;
+
+    /**
+     * A snapshot of the game being saved.
+     */
+    private MazeState myState;
+
+    /**
+     * The file the game is saved to.
+     */
+    private File myFile;
+
+    /**
+     * Builds a maze with a few rooms visited and a door locked.
+     * @throws IOException if the save file cannot be created.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        final Maze maze = new Maze(BenchmarkQuestions.generator(myBankSize), mySize, mySize);
+        if (mySize > 1) {
+            maze.move(Direction.EAST);
+            maze.processAnswer(Direction.EAST, true);
+            maze.move(Direction.SOUTH);
+            maze.processAnswer(Direction.SOUTH, false);
+        }
+        myState = maze.snapshot();
+        myFile = File.createTempFile("trivia-maze-bench", ".tmz");
+    }
+
+    /**
+     * Deletes the save file.
+     */
+    @TearDown
+    public void tearDown() {
+        myFile.delete();
+    }
+
+    /**
+     * Measures saving the game in the binary save format and loading it back.
+     * @return The loaded game.
+     * @throws IOException if the file cannot be written or read.
+     */
+    @Benchmark
+    public MazeState saveAndLoadState() throws IOException {
+        GameSaver.saveState(myState, myFile.getPath());
+        return GameSaver.loadState(myFile.getPath());
+    }
+
+    /**
+     * Measures saving the game as a mapped save and loading it back, which maps the
+     * file instead of reading it.
+     * @return The loaded game.
+     * @throws IOException if the file cannot be written or read.
+     */
+    @Benchmark
+    public MazeState saveAndLoadMapped() throws IOException {
+        GameSaver.saveMapped(myState, myFile.getPath());
+        return GameSaver.loadState(myFile.getPath());
+    }
+}
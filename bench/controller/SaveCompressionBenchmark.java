@@ -0,0 +1,166 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * SaveCompressionBenchmark.java
+ */
+package controller;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import model.DoorGrid;
+import model.MazeState;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark for writing and reading saves with each {@link SaveCompression}
+ * setting, by maze size. Every room of the maze has been visited and about one door
+ * in ten is locked.
+ * <p>
+ * JMH reports the time; run {@code java controller.SaveCompressionBenchmark} for the
+ * size of each save.
+ * </p>
+ *
+ * @version 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaveCompressionBenchmark {
+
+    /**
+     * The width and height of the maze.
+     */
+    @Param({"5", "100", "1000"})
+    public int mySize;
+
+    /**
+     * The compression, as named by {@link SaveCompression#PROPERTY}.
+     */
+    @Param({"none", "fast", "deflate", "9"})
+    public String myCompression;
+
+    /**
+     * The game being saved.
+     */
+    private MazeState myState;
+
+    /**
+     * The compression setting.
+     */
+    private SaveCompression mySetting;
+
+    /**
+     * The saved game.
+     */
+    private byte[] mySaved;
+
+    /**
+     * Builds the game and saves it once for the read benchmark.
+     * @throws IOException never, the save is written to memory.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        myState = explored(mySize);
+        mySetting = SaveCompression.parse(myCompression);
+        mySaved = write(myState, mySetting);
+    }
+
+    /**
+     * Measures writing the game.
+     * @return The saved game.
+     * @throws IOException never, the save is written to memory.
+     */
+    @Benchmark
+    public byte[] write() throws IOException {
+        return write(myState, mySetting);
+    }
+
+    /**
+     * Measures reading the game.
+     * @return The game read back.
+     * @throws IOException if the save is not valid.
+     */
+    @Benchmark
+    public MazeState read() throws IOException {
+        return MazeStateCodec.read(new ByteArrayInputStream(mySaved));
+    }
+
+    /**
+     * Builds a game of the given size with every room visited.
+     * @param theSize - The width and height of the maze.
+     * @return The game.
+     */
+    private static MazeState explored(final int theSize) {
+        final Random random = new Random(42);
+        final DoorGrid grid = new DoorGrid(theSize, theSize);
+        grid.openInterior();
+        for (int edge = 0; edge < grid.getEdgeCount(); edge++) {
+            if (random.nextInt(10) == 0) {
+                grid.markAnsweredIncorrectly(edge);
+            }
+        }
+        final int rooms = theSize * theSize;
+        final int[] indexes = new int[rooms];
+        final int[] questionIds = new int[rooms];
+        for (int i = 0; i < rooms; i++) {
+            indexes[i] = i;
+            questionIds[i] = 1 + random.nextInt(60);
+        }
+        return new MazeState(theSize, theSize, grid.getWords(), 0, 0, 0, 0, 0, 0L,
+                             indexes, questionIds);
+    }
+
+    /**
+     * Saves a game to memory.
+     * @param theState - The game.
+     * @param theSetting - The compression.
+     * @return The saved bytes.
+     * @throws IOException never, the save is written to memory.
+     */
+    private static byte[] write(final MazeState theState, final SaveCompression theSetting)
+                                throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        MazeStateCodec.write(theState, 0L, theSetting, bytes);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Prints the size of a save with each compression setting.
+     * @param theArgs - The maze sizes to test. Defaults to 5, 100 and 1000.
+     * @throws IOException never, the saves are written to memory.
+     */
+    public static void main(final String[] theArgs) throws IOException {
+        final String[] sizes = theArgs.length > 0 ? theArgs : new String[] {"5", "100", "1000"};
+        final String[] settings = {"none", "fast", "deflate", "9"};
+        System.out.printf("%10s", "size");
+        for (String setting : settings) {
+            System.out.printf(" %12s", setting);
+        }
+        System.out.println();
+        for (String arg : sizes) {
+            final MazeState state = explored(Integer.parseInt(arg));
+            System.out.printf("%10s", arg);
+            for (String setting : settings) {
+                System.out.printf(" %12d", write(state, SaveCompression.parse(setting)).length);
+            }
+            System.out.println();
+        }
+    }
+}
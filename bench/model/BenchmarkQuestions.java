@@ -0,0 +1,67 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * BenchmarkQuestions.java
+ */
+package model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds question banks for the benchmarks, so they can run without a database. The
+ * bank cycles through the three question types like the seeded database does.
+ *
+ * @version 10/17/2026
+ */
+public final class BenchmarkQuestions {
+
+    /**
+     * Private constructor, this class only has static methods.
+     */
+    private BenchmarkQuestions() {
+        super();
+    }
+
+    /**
+     * Creates a bank of questions.
+     * @param theSize - The number of questions.
+     * @return The questions, a third of each type.
+     */
+    public static List<Question> bank(final int theSize) {
+        final List<Question> questions = new ArrayList<>(theSize);
+        for (int i = 0; i < theSize; i++) {
+            switch (i % 3) {
+                case 0 -> questions.add(new TrueFalse("True or false " + i + "?", i & 1));
+                case 1 -> questions.add(new ShortAnswer("Short answer " + i + "?",
+                                                        "Answer " + i));
+                default -> questions.add(multipleChoice(i));
+            }
+        }
+        return questions;
+    }
+
+    /**
+     * Creates a generator that draws from a bank of questions.
+     * @param theSize - The number of questions in the bank.
+     * @return The generator.
+     */
+    public static QuestionGenerator generator(final int theSize) {
+        return new QuestionGenerator(new QuestionPool(bank(theSize)));
+    }
+
+    /**
+     * Creates a multiple choice question with four options.
+     * @param theNumber - The number of the question.
+     * @return The question.
+     */
+    public static MultipleChoice multipleChoice(final int theNumber) {
+        final Map<String, String> choices = new LinkedHashMap<>();
+        choices.put("A", "Option A of " + theNumber);
+        choices.put("B", "Option B of " + theNumber);
+        choices.put("C", "Option C of " + theNumber);
+        choices.put("D", "Option D of " + theNumber);
+        return new MultipleChoice("Multiple choice " + theNumber + "?", choices, "B");
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * MazeBenchmark.java
+ */
+package model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for building a {@link Maze} and for the calls made on every turn:
+ * checking and making a move, answering the question, and checking for game over.
+ * Each is measured for several maze sizes and question bank sizes.
+ *
+ * @version 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MazeBenchmark {
+
+    /**
+     * The width and height of the maze.
+     */
+    @Param({"5", "100", "1000"})
+    public int mySize;
+
+    /**
+     * The number of questions in the bank.
+     */
+    @Param({"60", "10000"})
+    public int myBankSize;
+
+    /**
+     * Draws the room questions.
+     */
+    private QuestionGenerator myGenerator;
+
+    /**
+     * A maze the player walks back and forth in, with its history not recording so the
+     * log does not grow from call to call.
+     */
+    private Maze myMaze;
+
+    /**
+     * The direction of the next step back and forth.
+     */
+    private Direction myNext;
+
+    /**
+     * Builds the question bank and the maze.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        myGenerator = BenchmarkQuestions.generator(myBankSize);
+        myMaze = new Maze(myGenerator, mySize, mySize);
+        myMaze.getHistory().setRecording(false);
+        myNext = Direction.EAST;
+    }
+
+    /**
+     * A new maze for each call that locks a door, kept apart so only
+     * {@link #answerIncorrectly} pays for building it.
+     */
+    @State(Scope.Thread)
+    public static class FreshMaze {
+
+        /**
+         * The maze.
+         */
+        private Maze myMaze;
+
+        /**
+         * Builds a new maze before each call.
+         * @param theBenchmark - The benchmark state holding the size and questions.
+         */
+        @Setup(Level.Invocation)
+        public void setUp(final MazeBenchmark theBenchmark) {
+            myMaze = new Maze(theBenchmark.myGenerator, theBenchmark.mySize,
+                              theBenchmark.mySize);
+        }
+    }
+
+    /**
+     * Measures building a maze.
+     * @return The maze.
+     */
+    @Benchmark
+    public Maze construct() {
+        return new Maze(myGenerator, mySize, mySize);
+    }
+
+    /**
+     * Measures checking if the player can move.
+     * @return True if the player can move east.
+     */
+    @Benchmark
+    public boolean canMove() {
+        return myMaze.canMove(Direction.EAST);
+    }
+
+    /**
+     * Measures asking to move and answering correctly, stepping east and west in turn.
+     * @return The x coordinate after the move.
+     */
+    @Benchmark
+    public int moveAndAnswerCorrectly() {
+        myMaze.move(myNext);
+        myMaze.processAnswer(myNext, true);
+        myNext = myNext == Direction.EAST ? Direction.WEST : Direction.EAST;
+        return myMaze.getCurrentX();
+    }
+
+    /**
+     * Measures answering incorrectly, which locks a door and updates the exit tracking.
+     * @param theFresh - A maze where no door has been locked yet.
+     * @return True if the game is over.
+     */
+    @Benchmark
+    public boolean answerIncorrectly(final FreshMaze theFresh) {
+        theFresh.myMaze.move(Direction.EAST);
+        theFresh.myMaze.processAnswer(Direction.EAST, false);
+        return theFresh.myMaze.isGameOver();
+    }
+
+    /**
+     * Measures checking for game over.
+     * @return True if the game is over.
+     */
+    @Benchmark
+    public boolean isGameOver() {
+        return myMaze.isGameOver();
+    }
+}
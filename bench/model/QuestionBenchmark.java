@@ -0,0 +1,112 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * QuestionBenchmark.java
+ */
+package model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for picking a random question and for checking an answer with each
+ * kind of question, for several question bank sizes.
+ *
+ * @version 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuestionBenchmark {
+
+    /**
+     * The number of questions in the bank.
+     */
+    @Param({"60", "10000", "1000000"})
+    public int myBankSize;
+
+    /**
+     * Draws questions from the bank.
+     */
+    private QuestionGenerator myGenerator;
+
+    /**
+     * A true/false question.
+     */
+    private TrueFalse myTrueFalse;
+
+    /**
+     * A short answer question.
+     */
+    private ShortAnswer myShortAnswer;
+
+    /**
+     * A multiple choice question.
+     */
+    private MultipleChoice myMultipleChoice;
+
+    /**
+     * Builds the question bank.
+     */
+    @Setup
+    public void setUp() {
+        myGenerator = BenchmarkQuestions.generator(myBankSize);
+        myGenerator.getPool().size();
+        myTrueFalse = new TrueFalse("Is this a benchmark?", 1);
+        myShortAnswer = new ShortAnswer("What is being measured?", "Short Answer Matching");
+        myMultipleChoice = BenchmarkQuestions.multipleChoice(0);
+    }
+
+    /**
+     * Measures picking a random question.
+     * @return The question.
+     */
+    @Benchmark
+    public Question getRandomQes() {
+        return myGenerator.getRandomQes();
+    }
+
+    /**
+     * Measures checking a right and a wrong true/false answer.
+     * @param theHole - Consumes the results.
+     */
+    @Benchmark
+    public void trueFalseIsMatch(final Blackhole theHole) {
+        theHole.consume(myTrueFalse.isMatch("True"));
+        theHole.consume(myTrueFalse.isMatch("False"));
+    }
+
+    /**
+     * Measures checking a right and a wrong short answer.
+     * @param theHole - Consumes the results.
+     */
+    @Benchmark
+    public void shortAnswerIsMatch(final Blackhole theHole) {
+        theHole.consume(myShortAnswer.isMatch("Short Answer Matching"));
+        theHole.consume(myShortAnswer.isMatch("Something else entirely"));
+    }
+
+    /**
+     * Measures checking a right and a wrong multiple choice answer.
+     * @param theHole - Consumes the results.
+     */
+    @Benchmark
+    public void multipleChoiceIsMatch(final Blackhole theHole) {
+        theHole.consume(myMultipleChoice.isMatch("B"));
+        theHole.consume(myMultipleChoice.isMatch("C"));
+    }
+}
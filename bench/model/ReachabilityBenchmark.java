@@ -0,0 +1,74 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * ReachabilityBenchmark.java
+ */
+package model;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the time and heap allocation of {@link Reachability#isReachable} on an
+ * open maze, where each search has to visit every room. After warm up the bytes
+ * allocated per call should be zero whatever the maze size.
+ * <p>
+ * Run with the maze sizes to test, for example {@code java model.ReachabilityBenchmark 100 1000}.
+ * </p>
+ *
+ * @version 10/17/2026
+ */
+public final class ReachabilityBenchmark {
+
+    /**
+     * Calls made before measuring.
+     */
+    private static final int WARM_UP = 20;
+
+    /**
+     * Calls measured per size.
+     */
+    private static final int CALLS = 50;
+
+    /**
+     * Private constructor, this class only has a main method.
+     */
+    private ReachabilityBenchmark() {
+        super();
+    }
+
+    /**
+     * Runs the benchmark.
+     * @param theArgs - The maze sizes to test. Defaults to 100, 1000 and 3000.
+     */
+    public static void main(final String[] theArgs) {
+        final String[] sizes = theArgs.length > 0 ? theArgs : new String[] {"100", "1000", "3000"};
+        final com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long thread = Thread.currentThread().getId();
+
+        System.out.printf("%10s %14s %16s%n", "size", "us/call", "bytes/call");
+        for (String arg : sizes) {
+            final int size = Integer.parseInt(arg);
+            final DoorGrid grid = new DoorGrid(size, size);
+            grid.openInterior();
+            final int exit = grid.getRoomCount() - 1;
+            // Lock the doors into the exit so every search visits the whole maze.
+            grid.markAnsweredIncorrectly(grid.edgeOf(exit, Direction.NORTH));
+            grid.markAnsweredIncorrectly(grid.edgeOf(exit, Direction.WEST));
+            final Reachability reach = new Reachability(grid);
+
+            boolean result = false;
+            for (int i = 0; i < WARM_UP; i++) {
+                result |= reach.isReachable(0, exit);
+            }
+            final long bytesBefore = threads.getThreadAllocatedBytes(thread);
+            final long start = System.nanoTime();
+            for (int i = 0; i < CALLS; i++) {
+                result |= reach.isReachable(0, exit);
+            }
+            final long elapsed = System.nanoTime() - start;
+            final long bytes = threads.getThreadAllocatedBytes(thread) - bytesBefore;
+            System.out.printf("%10d %14.1f %16d%s%n", size, elapsed / 1000.0 / CALLS,
+                              bytes / CALLS, result ? " (unexpected path)" : "");
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * AutosaveService.java
+ */
+
+package controller;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import model.MazeState;
+
+/**
+ * The {@code AutosaveService} class writes game snapshots to a save file on a background
+ * thread, so saving never blocks the game.
+ * <p>
+ * The caller takes a {@link MazeState} snapshot on the game thread, which shares the
+ * pages of the doors with the game and lists the room ids, and hands it to
+ * {@link #save}. Copying the doors, encoding and writing happen on a single worker
+ * thread through {@link GameSaver#saveState}, which replaces the file atomically. If
+ * snapshots arrive faster than they can be written, only the newest waiting one is
+ * written. Saves to a slot made with {@link #saveToSlot} run on the same thread, so
+ * saves never write at the same time.
+ * </p>
+ * <p>
+ * How often the game autosaves is read from the {@value #PERIOD_PROPERTY} system
+ * property, in seconds; see {@link #getConfiguredPeriod()}.
+ * </p>
+ *
+ * @version 10/17/2026
+ */
+public final class AutosaveService implements AutoCloseable {
+
+    /**
+     * System property holding the autosave period in seconds. Zero turns autosave off.
+     */
+    public static final String PERIOD_PROPERTY = "triviamaze.autosave.seconds";
+
+    /**
+     * Autosave period in seconds when the property is not set.
+     */
+    public static final int DEFAULT_PERIOD = 30;
+
+    /**
+     * The file snapshots are written to.
+     */
+    private final String myFileName;
+
+    /**
+     * The thread that writes the snapshots.
+     */
+    private final ExecutorService myWorker;
+
+    /**
+     * The newest snapshot not yet written, or null.
+     */
+    private final AtomicReference<MazeState> myPending = new AtomicReference<>();
+
+    /**
+     * Creates a service that saves to the given file.
+     *
+     * @param theFileName the name of the save file
+     */
+    public AutosaveService(final String theFileName) {
+        myFileName = theFileName;
+        myWorker = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "autosave " + theFileName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the configured autosave period.
+     *
+     * @return the period in seconds, or 0 if autosave is turned off
+     */
+    public static int getConfiguredPeriod() {
+        return Math.max(0, Integer.getInteger(PERIOD_PROPERTY, DEFAULT_PERIOD));
+    }
+
+    /**
+     * Gets the name of the save file.
+     *
+     * @return the file name
+     */
+    public String getFileName() {
+        return myFileName;
+    }
+
+    /**
+     * Queues a snapshot to be written in the background, replacing any snapshot still
+     * waiting to be written.
+     *
+     * @param theState the snapshot to write
+     * @return a future that completes once this snapshot, or a newer one, is on disk
+     */
+    public CompletableFuture<Void> save(final MazeState theState) {
+        myPending.set(theState);
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        myWorker.execute(() -> {
+            final MazeState state = myPending.getAndSet(null);
+            try {
+                if (state != null) {
+                    GameSaver.saveState(state, myFileName);
+                }
+                result.complete(null);
+            } catch (IOException | RuntimeException e) {
+                System.out.println("Autosave to " + myFileName + " failed: " + e.getMessage());
+                // Put the snapshot back so a save queued behind this one retries it.
+                myPending.compareAndSet(null, state);
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Saves a snapshot to a new save slot in the background, after any snapshot
+     * waiting to be autosaved.
+     *
+     * @param theState the snapshot to write
+     * @param theSlots the save slots
+     * @return a future that completes with the slot number once the save is on disk
+     */
+    public CompletableFuture<Integer> saveToSlot(final MazeState theState,
+                                                 final SaveSlots theSlots) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return theSlots.saveNew(theState);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, myWorker);
+    }
+
+    /**
+     * Writes any waiting snapshot and stops the worker thread.
+     */
+    @Override
+    public void close() {
+        myWorker.shutdown();
+        try {
+            if (!myWorker.awaitTermination(5, TimeUnit.SECONDS)) {
+                System.out.println("Autosave to " + myFileName + " did not finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
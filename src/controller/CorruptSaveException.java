@@ -0,0 +1,43 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * CorruptSaveException.java
+ */
+
+package controller;
+
+import java.io.StreamCorruptedException;
+
+/**
+ * The {@code CorruptSaveException} class is thrown when a save file is damaged: it is
+ * cut short, fails a checksum, or holds values no game could have saved. Callers can
+ * catch it to fall back to another save, see {@link GameSaver#loadNewest}.
+ *
+ * @version 10/17/2026
+ */
+public class CorruptSaveException extends StreamCorruptedException {
+
+    /**
+     * The serial version UID for serialization.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates an exception with a message.
+     *
+     * @param theMessage what is wrong with the save
+     */
+    public CorruptSaveException(final String theMessage) {
+        super(theMessage);
+    }
+
+    /**
+     * Creates an exception with a message and the error that revealed the damage.
+     *
+     * @param theMessage what is wrong with the save
+     * @param theCause the error that revealed the damage
+     */
+    public CorruptSaveException(final String theMessage, final Throwable theCause) {
+        super(theMessage);
+        initCause(theCause);
+    }
+}
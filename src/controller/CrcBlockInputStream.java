@@ -0,0 +1,185 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * CrcBlockInputStream.java
+ */
+
+package controller;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+
+/**
+ * The {@code CrcBlockInputStream} class reads blocks written by
+ * {@link CrcBlockOutputStream}. Each block is read whole and its checksum checked
+ * before any of its bytes are handed out, so damage is reported as soon as the damaged
+ * block is reached rather than after decoding bad data.
+ *
+ * @version 10/17/2026
+ */
+final class CrcBlockInputStream extends FilterInputStream {
+
+    /**
+     * The stream the blocks are read from.
+     */
+    private final DataInputStream myIn;
+
+    /**
+     * The data of the current block.
+     */
+    private final byte[] myBlock = new byte[CrcBlockOutputStream.BLOCK_SIZE];
+
+    /**
+     * The checksum of each block.
+     */
+    private final CRC32C myCrc = new CRC32C();
+
+    /**
+     * The position of the next byte in the current block.
+     */
+    private int myPosition;
+
+    /**
+     * The number of bytes in the current block.
+     */
+    private int myCount;
+
+    /**
+     * The number of blocks read.
+     */
+    private int myBlocks;
+
+    /**
+     * Whether the final block has been read.
+     */
+    private boolean myLast;
+
+    /**
+     * Creates a stream reading blocks from another stream.
+     *
+     * @param theIn where to read the blocks from
+     */
+    CrcBlockInputStream(final InputStream theIn) {
+        super(theIn);
+        myIn = new DataInputStream(theIn);
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return myBlock[myPosition++] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] theBytes, final int theOffset, final int theLength)
+                    throws IOException {
+        Objects.checkFromIndexSize(theOffset, theLength, theBytes.length);
+        if (theLength == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        final int count = Math.min(theLength, myCount - myPosition);
+        System.arraycopy(myBlock, myPosition, theBytes, theOffset, count);
+        myPosition += count;
+        return count;
+    }
+
+    @Override
+    public long skip(final long theCount) throws IOException {
+        if (theCount <= 0 || !fill()) {
+            return 0;
+        }
+        final int count = (int) Math.min(theCount, myCount - myPosition);
+        myPosition += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return myCount - myPosition;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(final int theLimit) {
+        // Marks are not supported.
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    /**
+     * Reads and checks the rest of the blocks, discarding their data.
+     *
+     * @throws CorruptSaveException if a block is damaged or missing
+     * @throws IOException if an I/O error occurs
+     */
+    public void verifyRest() throws IOException {
+        myPosition = myCount;
+        while (!myLast) {
+            readBlock();
+        }
+        myPosition = myCount;
+    }
+
+    /**
+     * Makes sure there are bytes left in the current block, reading blocks as needed.
+     *
+     * @return false if the final block has been used up
+     * @throws IOException if an I/O error occurs or a block is damaged
+     */
+    private boolean fill() throws IOException {
+        while (myPosition == myCount) {
+            if (myLast) {
+                return false;
+            }
+            readBlock();
+        }
+        return true;
+    }
+
+    /**
+     * Reads the next block and checks its checksum.
+     *
+     * @throws CorruptSaveException if the block is damaged or missing
+     * @throws IOException if an I/O error occurs
+     */
+    private void readBlock() throws IOException {
+        try {
+            final int length = myIn.readInt();
+            final int count = length & ~CrcBlockOutputStream.LAST_BLOCK;
+            if (count > CrcBlockOutputStream.BLOCK_SIZE) {
+                throw new CorruptSaveException("Block " + myBlocks + " has invalid length "
+                                               + count);
+            }
+            myIn.readFully(myBlock, 0, count);
+            final int stored = myIn.readInt();
+            myCrc.reset();
+            CrcBlockOutputStream.updateInt(myCrc, length);
+            myCrc.update(myBlock, 0, count);
+            if ((int) myCrc.getValue() != stored) {
+                throw new CorruptSaveException("Block " + myBlocks + " failed its checksum");
+            }
+            myLast = length < 0;
+            myPosition = 0;
+            myCount = count;
+            myBlocks++;
+        } catch (EOFException e) {
+            throw new CorruptSaveException("Save is cut short in block " + myBlocks, e);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * CrcBlockOutputStream.java
+ */
+
+package controller;
+
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+
+/**
+ * The {@code CrcBlockOutputStream} class splits what is written to it into blocks of
+ * up to {@value #BLOCK_SIZE} bytes, each followed by its CRC32C checksum, so that
+ * {@link CrcBlockInputStream} can check every block before handing out its bytes.
+ * <p>
+ * Each block is an int holding its length, with {@link #LAST_BLOCK} set on the final
+ * block, then the data, then an int CRC32C of the length and data. Blocks are only
+ * written when full and by {@link #finish()}, so flushing does not fragment the data.
+ * </p>
+ *
+ * @version 10/17/2026
+ */
+final class CrcBlockOutputStream extends FilterOutputStream {
+
+    /**
+     * The largest number of data bytes in a block.
+     */
+    static final int BLOCK_SIZE = 64 * 1024;
+
+    /**
+     * Bit set in the length of the final block.
+     */
+    static final int LAST_BLOCK = 0x80000000;
+
+    /**
+     * The stream the blocks are written to.
+     */
+    private final DataOutputStream myOut;
+
+    /**
+     * The data of the block being filled.
+     */
+    private final byte[] myBlock = new byte[BLOCK_SIZE];
+
+    /**
+     * The checksum of each block.
+     */
+    private final CRC32C myCrc = new CRC32C();
+
+    /**
+     * The number of bytes in the block being filled.
+     */
+    private int myCount;
+
+    /**
+     * Whether the final block has been written.
+     */
+    private boolean myFinished;
+
+    /**
+     * Creates a stream writing blocks to another stream.
+     *
+     * @param theOut where to write the blocks
+     */
+    CrcBlockOutputStream(final OutputStream theOut) {
+        super(theOut);
+        myOut = new DataOutputStream(theOut);
+    }
+
+    @Override
+    public void write(final int theByte) throws IOException {
+        if (myCount == BLOCK_SIZE) {
+            writeBlock(false);
+        }
+        myBlock[myCount++] = (byte) theByte;
+    }
+
+    @Override
+    public void write(final byte[] theBytes, final int theOffset, final int theLength)
+                      throws IOException {
+        Objects.checkFromIndexSize(theOffset, theLength, theBytes.length);
+        int offset = theOffset;
+        int remaining = theLength;
+        while (remaining > 0) {
+            if (myCount == BLOCK_SIZE) {
+                writeBlock(false);
+            }
+            final int count = Math.min(remaining, BLOCK_SIZE - myCount);
+            System.arraycopy(theBytes, offset, myBlock, myCount, count);
+            myCount += count;
+            offset += count;
+            remaining -= count;
+        }
+    }
+
+    /**
+     * Flushes the stream underneath. Bytes of a block that is not full stay buffered
+     * until it fills or {@link #finish()} is called.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void flush() throws IOException {
+        myOut.flush();
+    }
+
+    /**
+     * Writes the final block and flushes, without closing the stream underneath.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public void finish() throws IOException {
+        if (!myFinished) {
+            writeBlock(true);
+            myFinished = true;
+            myOut.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        finish();
+        super.close();
+    }
+
+    /**
+     * Writes the buffered bytes as one block.
+     *
+     * @param theLast whether this is the final block
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeBlock(final boolean theLast) throws IOException {
+        final int length = theLast ? myCount | LAST_BLOCK : myCount;
+        myCrc.reset();
+        updateInt(myCrc, length);
+        myCrc.update(myBlock, 0, myCount);
+        myOut.writeInt(length);
+        myOut.write(myBlock, 0, myCount);
+        myOut.writeInt((int) myCrc.getValue());
+        myCount = 0;
+    }
+
+    /**
+     * Adds the four big-endian bytes of an int to a checksum.
+     *
+     * @param theCrc the checksum
+     * @param theValue the int
+     */
+    static void updateInt(final CRC32C theCrc, final int theValue) {
+        theCrc.update(theValue >>> 24);
+        theCrc.update(theValue >>> 16);
+        theCrc.update(theValue >>> 8);
+        theCrc.update(theValue);
+    }
+}
@@ -0,0 +1,721 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * GameJournal.java
+ */
+
+package controller;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import model.DoorGrid;
+import model.GameChange;
+import model.GameHistory;
+import model.Maze;
+import model.MazeEvent;
+import model.MazeEventType;
+import model.MazeListener;
+import model.MazeState;
+import model.Question;
+import model.Room;
+import model.Trivia;
+
+/**
+ * The {@code GameJournal} class keeps a game recoverable after a crash without rewriting
+ * the whole save on every turn. It writes a full snapshot once, then appends a few bytes
+ * to a journal file for every change the {@link Maze} reports: a room being created, a
+ * move, a door being locked, and the statistics after each answer. An undo, redo or seek
+ * through the game's {@link GameHistory} is written as the doors it changed, the
+ * position and the statistics it ended at.
+ * <p>
+ * Every record holds absolute values (a position, not a step; a locked door, not a
+ * toggle), so replaying a record twice or replaying old records on a newer snapshot
+ * gives the same result. When the journal grows past its threshold it is compacted: a
+ * snapshot of the game is written atomically by a background thread while records keep
+ * being appended, and once it is on disk the journal is moved to an old journal and
+ * started over with the records written since the snapshot was taken. Recovery replays
+ * the old journal, if a crash left one, before the journal. A crash at any point only
+ * leaves records that replay harmlessly.
+ * </p>
+ * <p>
+ * The first time a journal is attached, the snapshot and journal left by the session
+ * before, possibly by a crash, are kept as the previous pair instead of being
+ * overwritten, so that game can still be recovered with {@link #recoverPrevious()}.
+ * They are replaced when the next session starts.
+ * </p>
+ * <p>
+ * Journal format: int magic ("TMZJ"), short version, byte compression codec, then
+ * records of a one byte type followed by its values, compressed as the codec says. A
+ * compressed journal is flushed after every record, so it can be read up to the last
+ * one. A record cut short by a crash is ignored. Journals of any other version are
+ * rejected.
+ * </p>
+ *
+ * @version 10/17/2026
+ */
+public final class GameJournal implements MazeListener, AutoCloseable {
+
+    /**
+     * The first four bytes of every journal, "TMZJ".
+     */
+    public static final int MAGIC = 0x544D5A4A;
+
+    /**
+     * The version of the journal format, the only one written and read by this class.
+     */
+    public static final int VERSION = 2;
+
+    /**
+     * Journal size in bytes that triggers compaction when no other size is given.
+     */
+    public static final long DEFAULT_THRESHOLD = 64 * 1024;
+
+    /**
+     * Added to the file names of the previous session's snapshot and journal.
+     */
+    public static final String PREVIOUS_SUFFIX = ".previous";
+
+    /**
+     * Added to the journal file name while it is being replaced after a compaction.
+     */
+    private static final String OLD_SUFFIX = ".old";
+
+    /**
+     * Record of a created room: int index, int question id.
+     */
+    private static final byte ROOM = 1;
+
+    /**
+     * Record of the player's position: int x, int y.
+     */
+    private static final byte MOVE = 2;
+
+    /**
+     * Record of a locked door: int edge.
+     */
+    private static final byte DOOR_CLOSED = 3;
+
+    /**
+     * Record of the statistics: int right, int wrong, int tries, long time.
+     */
+    private static final byte STATS = 4;
+
+    /**
+     * Record of both flags of a door, as from {@link DoorGrid#getFlags}: int edge,
+     * byte flags.
+     */
+    private static final byte DOOR = 5;
+
+    /**
+     * The file holding the snapshot the journal applies to.
+     */
+    private final String mySnapshotFile;
+
+    /**
+     * The journal file.
+     */
+    private final String myJournalFile;
+
+    /**
+     * Journal size in bytes that triggers compaction.
+     */
+    private final long myThreshold;
+
+    /**
+     * How the journal and its snapshots are compressed.
+     */
+    private final SaveCompression myCompression;
+
+    /**
+     * The game being journaled, or null.
+     */
+    private Maze myMaze;
+
+    /**
+     * The open journal, or null.
+     */
+    private DataOutputStream myOut;
+
+    /**
+     * The records of the command being delivered.
+     */
+    private final ByteArrayOutputStream myRecordBytes = new ByteArrayOutputStream();
+
+    /**
+     * Writes into {@link #myRecordBytes}.
+     */
+    private final DataOutputStream myRecord = new DataOutputStream(myRecordBytes);
+
+    /**
+     * The thread that writes compaction snapshots.
+     */
+    private final ExecutorService myWorker;
+
+    /**
+     * The snapshot being written by a compaction, or null.
+     */
+    private CompletableFuture<Void> myCompaction;
+
+    /**
+     * The records appended since the snapshot being written was taken, or null.
+     */
+    private ByteArrayOutputStream myPendingRecords;
+
+    /**
+     * The position in the game's history after the last command that was written.
+     */
+    private int myHistoryPosition;
+
+    /**
+     * Whether the previous session's files have been set aside.
+     */
+    private boolean myKeptPrevious;
+
+    /**
+     * Creates a journal compressed as configured by {@link SaveCompression#getConfigured()}.
+     *
+     * @param theSnapshotFile the file holding the snapshot the journal applies to
+     * @param theJournalFile the journal file
+     * @param theThreshold the journal size in bytes that triggers compaction
+     */
+    public GameJournal(final String theSnapshotFile, final String theJournalFile,
+                       final long theThreshold) {
+        this(theSnapshotFile, theJournalFile, theThreshold, SaveCompression.getConfigured());
+    }
+
+    /**
+     * Creates a journal.
+     *
+     * @param theSnapshotFile the file holding the snapshot the journal applies to
+     * @param theJournalFile the journal file
+     * @param theThreshold the journal size in bytes, before compression, that triggers
+     *                     compaction
+     * @param theCompression how the journal and its snapshots are compressed
+     */
+    public GameJournal(final String theSnapshotFile, final String theJournalFile,
+                       final long theThreshold, final SaveCompression theCompression) {
+        mySnapshotFile = theSnapshotFile;
+        myJournalFile = theJournalFile;
+        myThreshold = theThreshold;
+        myCompression = theCompression;
+        myWorker = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "journal " + theJournalFile);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts journaling a game, replacing any game journaled before. A snapshot of the
+     * game is written first and the journal is started over. The first time, the files
+     * of the previous session are set aside first.
+     *
+     * @param theMaze the game to journal
+     * @throws IOException if the snapshot or the journal cannot be written
+     */
+    public void attach(final Maze theMaze) throws IOException {
+        detach();
+        if (!myKeptPrevious) {
+            keepPrevious();
+            myKeptPrevious = true;
+        }
+        myMaze = theMaze;
+        myHistoryPosition = theMaze.getHistory().getPosition();
+        compact();
+        theMaze.addMazeListener(this, MazeEventType.ROOM, MazeEventType.MOVE,
+                                MazeEventType.DOOR_CLOSED, MazeEventType.STATS,
+                                MazeEventType.RESTORED);
+    }
+
+    /**
+     * Moves the snapshot and journal of the previous session to the previous pair,
+     * replacing the pair from the session before that. If the previous session wrote no
+     * snapshot, or discarded it, the older pair is only deleted.
+     *
+     * @throws IOException if the files cannot be moved
+     */
+    private void keepPrevious() throws IOException {
+        final Path snapshot = Path.of(mySnapshotFile);
+        final Path journal = Path.of(myJournalFile);
+        final Path previousSnapshot = Path.of(mySnapshotFile + PREVIOUS_SUFFIX);
+        final Path previousJournal = Path.of(myJournalFile + PREVIOUS_SUFFIX);
+        final Path oldJournal = Path.of(myJournalFile + OLD_SUFFIX);
+        final Path previousOldJournal = Path.of(myJournalFile + PREVIOUS_SUFFIX + OLD_SUFFIX);
+        Files.deleteIfExists(previousOldJournal);
+        Files.deleteIfExists(previousJournal);
+        Files.deleteIfExists(previousSnapshot);
+        if (!Files.exists(snapshot)) {
+            return;
+        }
+        Files.move(snapshot, previousSnapshot);
+        if (Files.exists(journal)) {
+            Files.move(journal, previousJournal);
+        }
+        if (Files.exists(oldJournal)) {
+            Files.move(oldJournal, previousOldJournal);
+        }
+    }
+
+    /**
+     * Checks if the previous session left a game to recover.
+     *
+     * @return true if there is a previous snapshot
+     */
+    public boolean hasPrevious() {
+        return Files.exists(Path.of(mySnapshotFile + PREVIOUS_SUFFIX));
+    }
+
+    /**
+     * Rebuilds the latest state of the game journaled in the previous session.
+     *
+     * @return the recovered game state
+     * @throws IOException if there is no previous game, or its snapshot cannot be read or
+     *                     its journal is not valid
+     */
+    public MazeState recoverPrevious() throws IOException {
+        return recover(mySnapshotFile + PREVIOUS_SUFFIX, myJournalFile + PREVIOUS_SUFFIX);
+    }
+
+    /**
+     * Stops journaling and deletes the snapshot and journal, for a game that is over and
+     * needs no recovery.
+     */
+    public void discard() {
+        detach();
+        try {
+            Files.deleteIfExists(Path.of(myJournalFile));
+            Files.deleteIfExists(Path.of(myJournalFile + OLD_SUFFIX));
+            Files.deleteIfExists(Path.of(mySnapshotFile));
+        } catch (IOException e) {
+            System.out.println("Could not delete " + mySnapshotFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes a new snapshot of the game and starts the journal over, on the calling
+     * thread, after any compaction still being written.
+     *
+     * @throws IOException if the snapshot or the journal cannot be written
+     */
+    public void compact() throws IOException {
+        if (myMaze == null) {
+            return;
+        }
+        awaitCompaction();
+        append();
+        GameSaver.saveState(myMaze.snapshot(), mySnapshotFile, myCompression);
+        startJournal();
+        Files.deleteIfExists(Path.of(myJournalFile + OLD_SUFFIX));
+    }
+
+    /**
+     * Takes a snapshot of the game and has the worker write it. Records appended from
+     * now on are also kept for the journal that will follow the snapshot.
+     */
+    private void startCompaction() {
+        final MazeState state = myMaze.snapshot();
+        myPendingRecords = new ByteArrayOutputStream();
+        myCompaction = CompletableFuture.runAsync(() -> {
+            try {
+                GameSaver.saveState(state, mySnapshotFile, myCompression);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, myWorker);
+    }
+
+    /**
+     * Starts the journal over once the compaction snapshot is on disk: the journal is
+     * moved to the old journal, a new one is started with the records appended since
+     * the snapshot was taken, and the old journal is deleted. If the snapshot could not
+     * be written the journal is kept and compacted again later.
+     *
+     * @throws IOException if the journal cannot be replaced
+     */
+    private void finishCompaction() throws IOException {
+        final CompletableFuture<Void> compaction = myCompaction;
+        final byte[] pending = myPendingRecords.toByteArray();
+        myCompaction = null;
+        myPendingRecords = null;
+        try {
+            compaction.join();
+        } catch (CompletionException e) {
+            System.out.println("Could not compact " + myJournalFile + ": "
+                               + e.getCause().getMessage());
+            return;
+        }
+        final Path old = Path.of(myJournalFile + OLD_SUFFIX);
+        myOut.close();
+        myOut = null;
+        Files.move(Path.of(myJournalFile), old, StandardCopyOption.REPLACE_EXISTING);
+        startJournal();
+        myOut.write(pending);
+        myOut.flush();
+        Files.delete(old);
+    }
+
+    /**
+     * Waits for a compaction being written and starts the journal over after it.
+     *
+     * @throws IOException if the journal cannot be replaced
+     */
+    void awaitCompaction() throws IOException {
+        if (myCompaction != null) {
+            myCompaction.exceptionally(e -> null).join();
+            finishCompaction();
+        }
+    }
+
+    /**
+     * Closes the journal, if open, and starts a new one with only a header.
+     *
+     * @throws IOException if the journal cannot be written
+     */
+    private void startJournal() throws IOException {
+        if (myOut != null) {
+            myOut.close();
+        }
+        final OutputStream file = new FileOutputStream(myJournalFile);
+        final DataOutputStream header = new DataOutputStream(file);
+        header.writeInt(MAGIC);
+        header.writeShort(VERSION);
+        header.writeByte(myCompression.getCodec());
+        header.flush();
+        myOut = new DataOutputStream(new BufferedOutputStream(
+                myCompression.compress(file, true)));
+    }
+
+    /**
+     * Gets the size of the records written since the journal was started over.
+     *
+     * @return the size in bytes before compression, or 0 if nothing is being journaled
+     */
+    public long size() {
+        return myOut == null ? 0 : myOut.size();
+    }
+
+    /**
+     * Builds a record for a change reported by the game. The records are written to the
+     * journal together when the command that made them has been delivered.
+     *
+     * @param theEvent the change
+     */
+    @Override
+    public void mazeChanged(final MazeEvent theEvent) {
+        if (myOut == null) {
+            return;
+        }
+        try {
+            switch (theEvent.getType()) {
+                case ROOM -> {
+                    final int index = theEvent.getIndex();
+                    final Room room = myMaze.getRoom(index % myMaze.getWidth(),
+                                                     index / myMaze.getWidth());
+                    final Question question = room.getTrivia();
+                    myRecord.writeByte(ROOM);
+                    myRecord.writeInt(index);
+                    myRecord.writeInt(question == null ? Question.NO_ID : question.getId());
+                }
+                case MOVE -> {
+                    myRecord.writeByte(MOVE);
+                    myRecord.writeInt(theEvent.getX());
+                    myRecord.writeInt(theEvent.getY());
+                }
+                case DOOR_CLOSED -> {
+                    myRecord.writeByte(DOOR_CLOSED);
+                    myRecord.writeInt(theEvent.getIndex());
+                }
+                case STATS -> {
+                    final Trivia trivia = theEvent.getTrivia();
+                    myRecord.writeByte(STATS);
+                    myRecord.writeInt(trivia.getRightAnswer());
+                    myRecord.writeInt(trivia.getWrongAnswer());
+                    myRecord.writeInt(trivia.getTrys());
+                    myRecord.writeLong(trivia.getElapsedTime());
+                }
+                case RESTORED -> writeRestored();
+                default -> {
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Could not write to " + myJournalFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the records of the game being moved through its history since the last
+     * command: every door the move changed with the flags it ended with, then the
+     * position and statistics. Rooms stay created, so they need no records.
+     *
+     * @throws IOException if the journal cannot be written
+     */
+    private void writeRestored() throws IOException {
+        final GameHistory history = myMaze.getHistory();
+        final int position = history.getPosition();
+        final boolean forward = myHistoryPosition <= position;
+        final List<GameChange> changes =
+            history.changesBetween(Math.min(myHistoryPosition, position),
+                                   Math.max(myHistoryPosition, position));
+        for (int n = 0; n < changes.size(); n++) {
+            final GameChange change = changes.get(forward ? n : changes.size() - 1 - n);
+            if (change.getKind() == GameChange.Kind.DOOR) {
+                myRecord.writeByte(DOOR);
+                myRecord.writeInt(change.getIndex());
+                myRecord.writeByte(forward ? change.getFlags() : change.getOldFlags());
+            }
+        }
+        myRecord.writeByte(MOVE);
+        myRecord.writeInt(myMaze.getCurrentX());
+        myRecord.writeInt(myMaze.getCurrentY());
+        final Trivia trivia = myMaze.getTrivia();
+        myRecord.writeByte(STATS);
+        myRecord.writeInt(trivia.getRightAnswer());
+        myRecord.writeInt(trivia.getWrongAnswer());
+        myRecord.writeInt(trivia.getTrys());
+        myRecord.writeLong(trivia.getElapsedTime());
+        myHistoryPosition = position;
+    }
+
+    /**
+     * Writes and flushes the records of one command, so a crash loses a whole command or
+     * none of it. Starts a compaction if the journal has grown past the threshold, and
+     * starts the journal over once a compaction's snapshot is on disk.
+     */
+    @Override
+    public void batchEnded() {
+        if (myOut == null) {
+            return;
+        }
+        myHistoryPosition = myMaze.getHistory().getPosition();
+        try {
+            append();
+            myOut.flush();
+            if (myCompaction != null) {
+                if (myCompaction.isDone()) {
+                    finishCompaction();
+                }
+            } else if (myOut.size() > myThreshold) {
+                startCompaction();
+            }
+        } catch (IOException e) {
+            System.out.println("Could not write to " + myJournalFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Moves the records of the command being delivered to the journal, and to the
+     * records kept for a compaction being written.
+     *
+     * @throws IOException if the journal cannot be written
+     */
+    private void append() throws IOException {
+        if (myOut == null || myRecordBytes.size() == 0) {
+            return;
+        }
+        myRecordBytes.writeTo(myOut);
+        if (myPendingRecords != null) {
+            myRecordBytes.writeTo(myPendingRecords);
+        }
+        myRecordBytes.reset();
+    }
+
+    /**
+     * Stops journaling the current game and closes the journal, after any compaction
+     * still being written.
+     */
+    public void detach() {
+        if (myMaze != null) {
+            myMaze.removeMazeListener(this);
+            myMaze = null;
+        }
+        if (myOut != null) {
+            try {
+                append();
+                awaitCompaction();
+                myOut.close();
+            } catch (IOException e) {
+                System.out.println("Could not close " + myJournalFile + ": " + e.getMessage());
+            }
+            myOut = null;
+        }
+        myRecordBytes.reset();
+    }
+
+    /**
+     * Stops journaling, closes the journal and stops the worker thread.
+     */
+    @Override
+    public void close() {
+        detach();
+        myWorker.shutdown();
+    }
+
+    /**
+     * Rebuilds the latest state of a journaled game from its snapshot and journal, and
+     * the old journal a crash during compaction may have left.
+     *
+     * @param theSnapshotFile the file holding the snapshot
+     * @param theJournalFile the journal file; a missing journal means no changes
+     * @return the recovered game state
+     * @throws IOException if the snapshot cannot be read or the journal is not valid
+     */
+    public static MazeState recover(final String theSnapshotFile, final String theJournalFile)
+                                    throws IOException {
+        final MazeState base = GameSaver.loadState(theSnapshotFile);
+        return replay(replay(base, theJournalFile + OLD_SUFFIX), theJournalFile);
+    }
+
+    /**
+     * Applies the records of a journal file to a snapshot.
+     *
+     * @param theBase the snapshot
+     * @param theJournalFile the journal file; a missing journal means no changes
+     * @return the state after every complete record
+     * @throws IOException if the journal is not valid
+     */
+    private static MazeState replay(final MazeState theBase, final String theJournalFile)
+                                    throws IOException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(theJournalFile))) {
+            return replay(theBase, in);
+        } catch (FileNotFoundException e) {
+            return theBase;
+        }
+    }
+
+    /**
+     * Applies journal records to a snapshot.
+     *
+     * @param theBase the snapshot the journal was started from
+     * @param theIn the journal, header first; it is not closed
+     * @return the state after every complete record
+     * @throws IOException if the journal is not valid
+     */
+    static MazeState replay(final MazeState theBase, final InputStream theIn)
+                            throws IOException {
+        final DataInputStream in;
+        try {
+            final DataInputStream header = new DataInputStream(theIn);
+            if (header.readInt() != MAGIC) {
+                throw new StreamCorruptedException("Not a Trivia Maze journal");
+            }
+            final int version = header.readUnsignedShort();
+            if (version != VERSION) {
+                throw new IOException("Journal version " + version
+                                      + " is not supported, only " + VERSION);
+            }
+            final int codec = header.readUnsignedByte();
+            in = new DataInputStream(new BufferedInputStream(
+                    SaveCompression.decompress(codec, theIn)));
+        } catch (EOFException e) {
+            return theBase;
+        }
+
+        final int width = theBase.getWidth();
+        final int height = theBase.getHeight();
+        final DoorGrid doors = new DoorGrid(width, height);
+        doors.setWords(theBase.getDoorBuffer());
+        final int[] baseIndexes = theBase.getRoomIndexes();
+        final int[] baseQuestionIds = theBase.getQuestionIds();
+        final Map<Integer, Integer> rooms = new TreeMap<>();
+        for (int i = 0; i < baseIndexes.length; i++) {
+            rooms.put(baseIndexes[i], baseQuestionIds[i]);
+        }
+        int x = theBase.getCurrentX();
+        int y = theBase.getCurrentY();
+        int right = theBase.getRightAnswers();
+        int wrong = theBase.getWrongAnswers();
+        int trys = theBase.getTrys();
+        long time = theBase.getTime();
+
+        try {
+            while (true) {
+                final byte type = in.readByte();
+                switch (type) {
+                    case ROOM -> {
+                        final int index = in.readInt();
+                        final int questionId = in.readInt();
+                        if (index < 0 || index >= doors.getRoomCount()) {
+                            throw new StreamCorruptedException("Room " + index
+                                                               + " is outside the maze");
+                        }
+                        rooms.put(index, questionId);
+                    }
+                    case MOVE -> {
+                        final int newX = in.readInt();
+                        final int newY = in.readInt();
+                        if (newX < 0 || newX >= width || newY < 0 || newY >= height) {
+                            throw new StreamCorruptedException("Position " + newX + ", "
+                                                               + newY + " is outside the maze");
+                        }
+                        x = newX;
+                        y = newY;
+                    }
+                    case DOOR_CLOSED -> {
+                        final int edge = in.readInt();
+                        if (edge < 0 || edge >= doors.getEdgeCount()) {
+                            throw new StreamCorruptedException("Door " + edge
+                                                               + " is outside the maze");
+                        }
+                        doors.markAnsweredIncorrectly(edge);
+                    }
+                    case DOOR -> {
+                        final int edge = in.readInt();
+                        final int flags = in.readUnsignedByte();
+                        if (edge < 0 || edge >= doors.getEdgeCount()) {
+                            throw new StreamCorruptedException("Door " + edge
+                                                               + " is outside the maze");
+                        }
+                        doors.setFlags(edge, flags);
+                    }
+                    case STATS -> {
+                        final int newRight = in.readInt();
+                        final int newWrong = in.readInt();
+                        final int newTrys = in.readInt();
+                        time = in.readLong();
+                        right = newRight;
+                        wrong = newWrong;
+                        trys = newTrys;
+                    }
+                    default -> throw new StreamCorruptedException("Unknown journal record "
+                                                                  + type);
+                }
+            }
+        } catch (EOFException e) {
+            // The end of the journal, possibly in the middle of a record cut short by a
+            // crash. Everything before it has been applied.
+        }
+
+        final int[] indexes = new int[rooms.size()];
+        final int[] questionIds = new int[rooms.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Integer> room : rooms.entrySet()) {
+            indexes[i] = room.getKey();
+            questionIds[i] = room.getValue();
+            i++;
+        }
+        return new MazeState(width, height, doors.getWords(), x, y, right, wrong, trys,
+                             time, indexes, questionIds);
+    }
+}
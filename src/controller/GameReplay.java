@@ -0,0 +1,307 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * GameReplay.java
+ */
+
+package controller;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+
+import model.Direction;
+import model.Maze;
+import model.MazeEvent;
+import model.MazeEventType;
+import model.MazeListener;
+import model.QuestionGenerator;
+import model.QuestionPool;
+
+/**
+ * The {@code GameReplay} class records a game as the seed of its random choices, the
+ * version of its question bank and the player's commands, which is all that is needed
+ * to play the game again exactly. A recording takes a few bytes per turn, and
+ * {@link #play} re-simulates it without a window or a database.
+ * <p>
+ * A command is recorded when the {@link Maze} reports it: a question asked for a move,
+ * and the move or the locked door that follows the answer. Moves into a wall change
+ * nothing and are not recorded. Rooms are given their questions as the player reaches
+ * them, so replaying the same commands with the same seed draws the same questions.
+ * The recording must therefore start on a new maze, before it has created a room,
+ * and stops if the game is moved through its history, which commands cannot describe.
+ * </p>
+ * <p>
+ * Replay format: int magic ("TMZR"), short version, long seed, int question bank
+ * version, int width, int height, then records of a one byte type, an int time in
+ * milliseconds since the recording started and a byte direction, with a byte that is
+ * 1 for a right answer after an answer. A record cut short by a crash is ignored.
+ * </p>
+ *
+ * @version 10/17/2026
+ */
+public final class GameReplay implements MazeListener, AutoCloseable {
+
+    /**
+     * The first four bytes of every replay, "TMZR".
+     */
+    public static final int MAGIC = 0x544D5A52;
+
+    /**
+     * The version of the replay format written by this class.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Record of a move that asked a question: int time, byte direction.
+     */
+    private static final byte MOVE = 1;
+
+    /**
+     * Record of an answer: int time, byte direction, byte right.
+     */
+    private static final byte ANSWER = 2;
+
+    /**
+     * The replay file.
+     */
+    private final String myFile;
+
+    /**
+     * The game being recorded, or null.
+     */
+    private Maze myMaze;
+
+    /**
+     * The open replay, or null.
+     */
+    private DataOutputStream myOut;
+
+    /**
+     * When the recording started, in milliseconds since the epoch.
+     */
+    private long myStart;
+
+    /**
+     * The direction of the question waiting for an answer.
+     */
+    private Direction myPendingDirection;
+
+    /**
+     * Creates a recorder writing to a file.
+     *
+     * @param theFile the replay file
+     */
+    public GameReplay(final String theFile) {
+        myFile = theFile;
+    }
+
+    /**
+     * Starts recording a new game, replacing any game recorded before.
+     *
+     * @param theMaze the game to record, which must not have created any room yet
+     * @throws IOException if the replay cannot be written
+     */
+    public void attach(final Maze theMaze) throws IOException {
+        detach();
+        final QuestionGenerator generator = theMaze.getQuestionGenerator();
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(myFile)));
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(generator.getSeed());
+        out.writeInt(generator.getPool().getVersion());
+        out.writeInt(theMaze.getWidth());
+        out.writeInt(theMaze.getHeight());
+        out.flush();
+        myOut = out;
+        myMaze = theMaze;
+        myStart = System.currentTimeMillis();
+        myPendingDirection = null;
+        theMaze.addMazeListener(this, MazeEventType.QUESTION, MazeEventType.MOVE,
+                                MazeEventType.WRONG_ANSWER, MazeEventType.RESTORED);
+    }
+
+    /**
+     * Appends a record for a command reported by the game. The record is flushed once
+     * the command's events have all been delivered.
+     *
+     * @param theEvent the change
+     */
+    @Override
+    public void mazeChanged(final MazeEvent theEvent) {
+        if (myOut == null) {
+            return;
+        }
+        try {
+            switch (theEvent.getType()) {
+                case QUESTION -> {
+                    myPendingDirection = theEvent.getDirection();
+                    writeRecord(MOVE, myPendingDirection);
+                }
+                case MOVE -> {
+                    writeRecord(ANSWER, myPendingDirection);
+                    myOut.writeByte(1);
+                }
+                case WRONG_ANSWER -> {
+                    writeRecord(ANSWER, myPendingDirection);
+                    myOut.writeByte(0);
+                }
+                case RESTORED -> {
+                    System.out.println("Stopped recording " + myFile
+                                       + ": the game was moved through its history");
+                    detach();
+                }
+                default -> {
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Could not write to " + myFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Flushes the record of one command.
+     */
+    @Override
+    public void batchEnded() {
+        if (myOut == null) {
+            return;
+        }
+        try {
+            myOut.flush();
+        } catch (IOException e) {
+            System.out.println("Could not write to " + myFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the type, time and direction of a record.
+     *
+     * @param theType the record type
+     * @param theDirection the direction of the command
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeRecord(final byte theType, final Direction theDirection)
+                             throws IOException {
+        myOut.writeByte(theType);
+        myOut.writeInt((int) (System.currentTimeMillis() - myStart));
+        myOut.writeByte(theDirection.ordinal());
+    }
+
+    /**
+     * Stops recording the current game and closes the replay.
+     */
+    public void detach() {
+        if (myMaze != null) {
+            myMaze.removeMazeListener(this);
+            myMaze = null;
+        }
+        if (myOut != null) {
+            try {
+                myOut.close();
+            } catch (IOException e) {
+                System.out.println("Could not close " + myFile + ": " + e.getMessage());
+            }
+            myOut = null;
+        }
+    }
+
+    /**
+     * Stops recording and closes the replay.
+     */
+    @Override
+    public void close() {
+        detach();
+    }
+
+    /**
+     * Plays a recorded game again.
+     *
+     * @param theFile the replay file
+     * @param thePool the question bank the game was recorded with
+     * @return the game after every recorded command, its history starting there
+     * @throws IOException if the replay cannot be read, is not valid, or was recorded
+     *                     with another version of the question bank
+     */
+    public static Maze play(final String theFile, final QuestionPool thePool)
+                            throws IOException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(theFile))) {
+            return play(in, thePool);
+        }
+    }
+
+    /**
+     * Plays a recorded game again.
+     *
+     * @param theIn the replay, header first; it is not closed
+     * @param thePool the question bank the game was recorded with
+     * @return the game after every complete record, its history starting there
+     * @throws IOException if the replay is not valid or was recorded with another
+     *                     version of the question bank
+     */
+    static Maze play(final InputStream theIn, final QuestionPool thePool)
+                     throws IOException {
+        final DataInputStream in = new DataInputStream(theIn);
+        final Maze maze;
+        try {
+            if (in.readInt() != MAGIC) {
+                throw new StreamCorruptedException("Not a Trivia Maze replay");
+            }
+            final int version = in.readUnsignedShort();
+            if (version > VERSION) {
+                throw new IOException("Replay version " + version
+                                      + " is newer than supported " + VERSION);
+            }
+            final long seed = in.readLong();
+            final int bankVersion = in.readInt();
+            if (bankVersion != thePool.getVersion()) {
+                throw new IOException("Replay was recorded with another question bank");
+            }
+            final int width = in.readInt();
+            final int height = in.readInt();
+            try {
+                maze = new Maze(new QuestionGenerator(thePool, seed), width, height);
+            } catch (IllegalArgumentException e) {
+                throw new StreamCorruptedException(e.getMessage());
+            }
+        } catch (EOFException e) {
+            throw new StreamCorruptedException("Replay header is cut short");
+        }
+
+        final Direction[] directions = Direction.values();
+        maze.getHistory().setRecording(false);
+        try {
+            while (true) {
+                final int type = in.read();
+                if (type < 0) {
+                    break;
+                }
+                in.readInt();
+                final int direction = in.readUnsignedByte();
+                if (direction >= directions.length) {
+                    throw new StreamCorruptedException("Invalid direction " + direction);
+                }
+                switch (type) {
+                    case MOVE -> maze.move(directions[direction]);
+                    case ANSWER -> {
+                        final boolean right = in.readUnsignedByte() != 0;
+                        maze.processAnswer(directions[direction], right);
+                    }
+                    default -> throw new StreamCorruptedException("Unknown replay record "
+                                                                  + type);
+                }
+            }
+        } catch (EOFException e) {
+            // The last record was cut short; everything before it has been played.
+        }
+        maze.getHistory().setRecording(true);
+        return maze;
+    }
+}
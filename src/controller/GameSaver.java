@@ -5,18 +5,38 @@
 
 package controller;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import model.MazeState;
 
 /**
  * The {@code GameSaver} class provides methods to save and load the game state or any serializable object.
  * This class handles the serialization and deserialization of objects, enabling the state to be saved and restored.
  * <p>
  * This class uses {@link ObjectOutputStream} and {@link ObjectInputStream} for serialization and deserialization respectively.
+ * Games are saved with {@link #saveState} and {@link #loadState} instead, which use the
+ * compact binary format of {@link MazeStateCodec}.
  * </p>
  *
  * <pre>
@@ -35,6 +55,12 @@ import java.io.Serializable;
  */
 public final class GameSaver {
 
+    /**
+     * Mazes with at least this many rooms are saved by {@link #saveState(MazeState, String)}
+     * as mapped saves, see {@link MappedSaveFile}.
+     */
+    public static final int MAPPED_ROOMS = 1_000_000;
+
     /**
      * Saves the given object state to a file.
      *
@@ -49,6 +75,161 @@ public final class GameSaver {
         }
     }
 
+    /**
+     * Saves a snapshot of a game to a file in the binary save format, compressed as
+     * configured by {@link SaveCompression#getConfigured()}. Mazes of at least
+     * {@value #MAPPED_ROOMS} rooms are saved with {@link #saveMapped} instead.
+     *
+     * @param theState the snapshot to save
+     * @param theFileName the name of the file where the game will be saved
+     * @throws IOException if an I/O error occurs while saving the game
+     */
+    public static void saveState(final MazeState theState, final String theFileName) throws IOException {
+        if ((long) theState.getWidth() * theState.getHeight() >= MAPPED_ROOMS) {
+            saveMapped(theState, theFileName);
+        } else {
+            saveState(theState, theFileName, SaveCompression.getConfigured());
+        }
+    }
+
+    /**
+     * Saves a snapshot of a game to a file in the binary save format. The snapshot is
+     * written to a temporary file next to the target, forced to disk, and then renamed
+     * over the target, so a crash part way through leaves the previous save intact.
+     *
+     * @param theState the snapshot to save
+     * @param theFileName the name of the file where the game will be saved
+     * @param theCompression how to compress the doors and rooms
+     * @throws IOException if an I/O error occurs while saving the game
+     */
+    public static void saveState(final MazeState theState, final String theFileName,
+                                 final SaveCompression theCompression) throws IOException {
+        replaceAtomically(theFileName, channel -> {
+            final BufferedOutputStream out = new BufferedOutputStream(
+                    Channels.newOutputStream(channel));
+            MazeStateCodec.write(theState, System.currentTimeMillis(), theCompression, out);
+            out.flush();
+        });
+    }
+
+    /**
+     * Saves a snapshot of a game to a file as a mapped save, which loads without
+     * decoding: the file is mapped and its rooms are read as the game needs them. Like
+     * {@link #saveState}, the file is replaced atomically.
+     *
+     * @param theState the snapshot to save
+     * @param theFileName the name of the file where the game will be saved
+     * @throws IOException if an I/O error occurs while saving the game
+     */
+    public static void saveMapped(final MazeState theState, final String theFileName)
+                                  throws IOException {
+        replaceAtomically(theFileName, channel ->
+                MappedSaveFile.write(theState, System.currentTimeMillis(), channel));
+    }
+
+    /**
+     * Writes a temporary file next to the target, forces it to disk, and renames it
+     * over the target, so a crash part way through leaves the previous file intact.
+     *
+     * @param theFileName the name of the target file
+     * @param theWriter writes the contents to the empty temporary file
+     * @throws IOException if an I/O error occurs
+     */
+    private static void replaceAtomically(final String theFileName,
+                                          final ContentWriter theWriter) throws IOException {
+        final Path target = Paths.get(theFileName).toAbsolutePath();
+        final Path temp = Files.createTempFile(target.getParent(),
+                                               target.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE,
+                                                        StandardOpenOption.TRUNCATE_EXISTING)) {
+                theWriter.write(channel);
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE,
+                           StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Loads a snapshot of a game saved with {@link #saveState} or {@link #saveMapped}.
+     * A save cut short is rejected before it is decoded, and every block is checked
+     * against its checksum as it is read. A mapped save is mapped rather than read, and
+     * the snapshot reads its rooms from the file as they are needed.
+     *
+     * @param theFileName the name of the file from which to load the game
+     * @return the loaded snapshot
+     * @throws CorruptSaveException if the file is damaged
+     * @throws IOException if an I/O error occurs or the file is not a valid save
+     */
+    public static MazeState loadState(final String theFileName) throws IOException {
+        try (FileInputStream file = new FileInputStream(theFileName);
+             BufferedInputStream in = new BufferedInputStream(file)) {
+            if (MappedSaveFile.isMapped(file.getChannel())) {
+                return MappedSaveFile.read(file.getChannel());
+            }
+            MazeStateCodec.checkEnd(file.getChannel());
+            return MazeStateCodec.read(in);
+        }
+    }
+
+    /**
+     * Loads the most recently saved of several games, skipping files that are missing
+     * or damaged. Used to fall back to an autosave when a save cannot be loaded.
+     *
+     * @param theFileNames the names of the save files
+     * @return the newest snapshot that loads
+     * @throws IOException if none of the files holds a valid save
+     */
+    public static MazeState loadNewest(final String... theFileNames) throws IOException {
+        final Map<String, Long> savedAt = new LinkedHashMap<>();
+        for (String fileName : theFileNames) {
+            try {
+                savedAt.put(fileName, readHeader(fileName).getSavedAt());
+            } catch (FileNotFoundException e) {
+                // Not saved yet.
+            } catch (IOException e) {
+                System.out.println("Skipping save " + fileName + ": " + e.getMessage());
+            }
+        }
+        final List<String> files = new ArrayList<>(savedAt.keySet());
+        files.sort(Comparator.<String, Long>comparing(savedAt::get).reversed());
+
+        for (String fileName : files) {
+            try {
+                return loadState(fileName);
+            } catch (IOException e) {
+                System.out.println("Skipping save " + fileName + ": " + e.getMessage());
+            }
+        }
+        throw new FileNotFoundException("No valid save in " + String.join(", ", theFileNames));
+    }
+
+    /**
+     * Reads only the header of a game saved with {@link #saveState}, without decoding
+     * the doors and rooms.
+     *
+     * @param theFileName the name of the save file
+     * @return the header
+     * @throws IOException if an I/O error occurs or the file is not a valid save
+     */
+    public static SaveHeader readHeader(final String theFileName) throws IOException {
+        try (FileInputStream file = new FileInputStream(theFileName);
+             BufferedInputStream in = new BufferedInputStream(file,
+                                                              MazeStateCodec.HEADER_SIZE)) {
+            if (MappedSaveFile.isMapped(file.getChannel())) {
+                return MappedSaveFile.readHeader(file.getChannel());
+            }
+            return MazeStateCodec.readHeader(in);
+        }
+    }
+
     /**
      * Loads the object state from a file.
      *
@@ -65,4 +246,19 @@ public final class GameSaver {
             return (T) in.readObject();
         }
     }
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    private interface ContentWriter {
+
+        /**
+         * Writes the contents of a file.
+         *
+         * @param theChannel the empty file
+         * @throws IOException if an I/O error occurs
+         */
+        void write(FileChannel theChannel) throws IOException;
+    }
 }
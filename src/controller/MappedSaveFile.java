@@ -0,0 +1,316 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * MappedSaveFile.java
+ */
+
+package controller;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32C;
+
+import model.DoorGrid;
+import model.Maze;
+import model.MazeState;
+
+/**
+ * The {@code MappedSaveFile} class writes and reads saves of very large mazes as fixed
+ * layout regions, so a save can be loaded by mapping the file instead of decoding it.
+ * <p>
+ * Layout, all numbers big-endian:
+ * </p>
+ * <pre>
+ * 0   int   magic ("TMZM")    4   short version    6  short unused
+ * 8   long  saved at (ms)     16  int width        20 int height
+ * 24  int   x                 28  int y            32 int right answers
+ * 36  int   wrong answers     40  int tries        44 int CRC32C of the doors
+ * 48  long  time played (ms)  56  int CRC32C of bytes 0 to 55      60 int unused
+ * 64  long  door words...
+ *     int   saved room of every room, as in {@link MazeState#getSavedRooms()}
+ * </pre>
+ * <p>
+ * Loading checks the header, the file size and the door checksum, then maps the doors
+ * and rooms. {@link Maze#fromState} copies the doors straight from the mapping
+ * into its door grid and reads each room from the mapping the first time the room is
+ * needed, so neither region passes through a stream or an intermediate array. Rooms are
+ * not checksummed, since that would read them all; a damaged question id only gets its
+ * room a random question. Rooms never created are zero, and are not written at all, so
+ * on most file systems they take no disk space.
+ * </p>
+ * <p>
+ * A loaded file stays mapped while the game uses its rooms. Writing goes through the
+ * channel rather than a mapping so the file can be renamed into place straight away.
+ * </p>
+ *
+ * @version 10/17/2026
+ */
+public final class MappedSaveFile {
+
+    /**
+     * The first four bytes of every mapped save, "TMZM".
+     */
+    public static final int MAGIC = 0x544D5A4D;
+
+    /**
+     * The version of the layout written by this class.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The size in bytes of the header, which is also where the doors start.
+     */
+    public static final int HEADER_SIZE = 64;
+
+    /**
+     * The number of bytes of the header covered by its checksum.
+     */
+    private static final int CHECKED_SIZE = 56;
+
+    /**
+     * The size in bytes of each write.
+     */
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * Private constructor, this class only has static methods.
+     */
+    private MappedSaveFile() {
+        super();
+    }
+
+    /**
+     * Checks whether a file starts like a mapped save.
+     *
+     * @param theChannel the file
+     * @return true if the file starts with {@link #MAGIC}
+     * @throws IOException if an I/O error occurs
+     */
+    public static boolean isMapped(final FileChannel theChannel) throws IOException {
+        final ByteBuffer magic = ByteBuffer.allocate(4);
+        return readAt(theChannel, magic, 0) && magic.getInt(0) == MAGIC;
+    }
+
+    /**
+     * Writes a snapshot to an empty file.
+     *
+     * @param theState the snapshot to write
+     * @param theSavedAt when the game was saved, in milliseconds since the epoch
+     * @param theChannel the file, which must be empty
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(final MazeState theState, final long theSavedAt,
+                             final FileChannel theChannel) throws IOException {
+        final ByteBuffer chunk = ByteBuffer.allocateDirect(CHUNK_SIZE);
+        final CRC32C doorCrc = new CRC32C();
+        final LongBuffer doors = theState.getDoorBuffer();
+        long position = HEADER_SIZE;
+        while (doors.hasRemaining()) {
+            chunk.clear();
+            while (chunk.remaining() >= Long.BYTES && doors.hasRemaining()) {
+                chunk.putLong(doors.get());
+            }
+            chunk.flip();
+            doorCrc.update(chunk.duplicate());
+            position += writeAt(theChannel, chunk, position);
+        }
+
+        final int rooms = theState.getWidth() * theState.getHeight();
+        final long roomsStart = position;
+        final IntBuffer saved = theState.getSavedRooms();
+        final int[] indexes = theState.getAddedRoomIndexes();
+        final int[] questionIds = theState.getAddedQuestionIds();
+        final int roomsPerChunk = CHUNK_SIZE / Integer.BYTES;
+        int next = 0;
+        for (int start = 0; start < rooms; start += roomsPerChunk) {
+            final int end = Math.min(rooms, start + roomsPerChunk);
+            chunk.clear();
+            boolean empty = true;
+            for (int index = start; index < end; index++) {
+                int room = saved == null ? MazeState.ROOM_NOT_CREATED : saved.get(index);
+                if (next < indexes.length && indexes[next] == index) {
+                    room = MazeState.savedRoomOf(questionIds[next++]);
+                }
+                chunk.putInt(room);
+                empty &= room == MazeState.ROOM_NOT_CREATED;
+            }
+            if (!empty) {
+                chunk.flip();
+                writeAt(theChannel, chunk, roomsStart + (long) start * Integer.BYTES);
+            }
+        }
+        final long size = roomsStart + (long) rooms * Integer.BYTES;
+        if (theChannel.size() < size) {
+            writeAt(theChannel, ByteBuffer.allocate(1), size - 1);
+        }
+
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC);
+        header.putShort((short) VERSION);
+        header.putShort((short) 0);
+        header.putLong(theSavedAt);
+        header.putInt(theState.getWidth());
+        header.putInt(theState.getHeight());
+        header.putInt(theState.getCurrentX());
+        header.putInt(theState.getCurrentY());
+        header.putInt(theState.getRightAnswers());
+        header.putInt(theState.getWrongAnswers());
+        header.putInt(theState.getTrys());
+        header.putInt((int) doorCrc.getValue());
+        header.putLong(theState.getTime());
+        final CRC32C headerCrc = new CRC32C();
+        headerCrc.update(header.array(), 0, CHECKED_SIZE);
+        header.putInt((int) headerCrc.getValue());
+        header.putInt(0);
+        header.flip();
+        writeAt(theChannel, header, 0);
+    }
+
+    /**
+     * Reads only the header of a mapped save.
+     *
+     * @param theChannel the file
+     * @return the header
+     * @throws CorruptSaveException if the header is damaged
+     * @throws IOException if an I/O error occurs or the save is from a newer version
+     */
+    public static SaveHeader readHeader(final FileChannel theChannel) throws IOException {
+        return toHeader(readHeaderBytes(theChannel));
+    }
+
+    /**
+     * Maps a save. Only the header and the doors are read; the rooms are read through
+     * the returned snapshot as they are needed.
+     *
+     * @param theChannel the file; it can be closed afterwards
+     * @return the snapshot, holding views of the mapped file
+     * @throws CorruptSaveException if the save is cut short or damaged
+     * @throws IOException if an I/O error occurs or the save is from a newer version
+     */
+    public static MazeState read(final FileChannel theChannel) throws IOException {
+        final ByteBuffer headerBytes = readHeaderBytes(theChannel);
+        final SaveHeader header = toHeader(headerBytes);
+        final int width = header.getWidth();
+        final int height = header.getHeight();
+        if ((long) width * height > Maze.MAX_ROOMS) {
+            throw new CorruptSaveException("Invalid maze size " + width + "x" + height);
+        }
+        final long doorBytes = (long) DoorGrid.wordCount(width, height) * Long.BYTES;
+        final long roomBytes = (long) width * height * Integer.BYTES;
+        final long size = HEADER_SIZE + doorBytes + roomBytes;
+        if (theChannel.size() < size) {
+            throw new CorruptSaveException("Save is cut short");
+        }
+        if (theChannel.size() > size) {
+            throw new CorruptSaveException("Save is longer than a " + width + "x" + height
+                                           + " maze");
+        }
+
+        final MappedByteBuffer doors = theChannel.map(FileChannel.MapMode.READ_ONLY,
+                                                      HEADER_SIZE, doorBytes);
+        final CRC32C crc = new CRC32C();
+        crc.update(doors.duplicate());
+        if ((int) crc.getValue() != headerBytes.getInt(44)) {
+            throw new CorruptSaveException("Doors failed their checksum");
+        }
+        final MappedByteBuffer rooms = theChannel.map(FileChannel.MapMode.READ_ONLY,
+                                                      HEADER_SIZE + doorBytes, roomBytes);
+        try {
+            return new MazeState(width, height, doors.asLongBuffer(), header.getCurrentX(),
+                                 header.getCurrentY(), header.getRightAnswers(),
+                                 header.getWrongAnswers(), header.getTrys(),
+                                 header.getTime(), rooms.asIntBuffer(), new int[0],
+                                 new int[0]);
+        } catch (IllegalArgumentException e) {
+            throw new CorruptSaveException(e.getMessage());
+        }
+    }
+
+    /**
+     * Decodes the header bytes.
+     *
+     * @param theHeader the header bytes, already checked
+     * @return the header
+     */
+    private static SaveHeader toHeader(final ByteBuffer theHeader) {
+        return new SaveHeader(theHeader.getShort(4) & 0xFFFF, SaveCompression.CODEC_NONE,
+                              theHeader.getLong(8), theHeader.getInt(16),
+                              theHeader.getInt(20), theHeader.getInt(24),
+                              theHeader.getInt(28), theHeader.getInt(32),
+                              theHeader.getInt(36), theHeader.getInt(40),
+                              theHeader.getLong(48));
+    }
+
+    /**
+     * Reads the header and checks its magic number, version and checksum.
+     *
+     * @param theChannel the file
+     * @return the header bytes
+     * @throws IOException if the header is not valid
+     */
+    private static ByteBuffer readHeaderBytes(final FileChannel theChannel)
+                                              throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        if (!readAt(theChannel, header, 0)) {
+            throw new CorruptSaveException("Save header is cut short");
+        }
+        if (header.getInt(0) != MAGIC) {
+            throw new CorruptSaveException("Not a Trivia Maze mapped save");
+        }
+        final int version = header.getShort(4) & 0xFFFF;
+        if (version > VERSION) {
+            throw new IOException("Mapped save version " + version
+                                  + " is newer than supported " + VERSION);
+        }
+        final CRC32C crc = new CRC32C();
+        crc.update(header.array(), 0, CHECKED_SIZE);
+        if ((int) crc.getValue() != header.getInt(CHECKED_SIZE)) {
+            throw new CorruptSaveException("Save header failed its checksum");
+        }
+        if (header.getInt(16) < 1 || header.getInt(20) < 1) {
+            throw new CorruptSaveException("Invalid maze size " + header.getInt(16) + "x"
+                                           + header.getInt(20));
+        }
+        return header;
+    }
+
+    /**
+     * Fills a buffer from a file at a position, without moving the file's position.
+     *
+     * @param theChannel the file
+     * @param theBuffer the buffer to fill
+     * @param thePosition where in the file to start
+     * @return false if the file ended first
+     * @throws IOException if an I/O error occurs
+     */
+    private static boolean readAt(final FileChannel theChannel, final ByteBuffer theBuffer,
+                                  final long thePosition) throws IOException {
+        while (theBuffer.hasRemaining()) {
+            if (theChannel.read(theBuffer, thePosition + theBuffer.position()) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes all of a buffer to a file at a position.
+     *
+     * @param theChannel the file
+     * @param theBuffer the bytes to write
+     * @param thePosition where in the file to start
+     * @return the number of bytes written
+     * @throws IOException if an I/O error occurs
+     */
+    private static int writeAt(final FileChannel theChannel, final ByteBuffer theBuffer,
+                               final long thePosition) throws IOException {
+        final int count = theBuffer.remaining();
+        while (theBuffer.hasRemaining()) {
+            theChannel.write(theBuffer, thePosition + count - theBuffer.remaining());
+        }
+        return count;
+    }
+}
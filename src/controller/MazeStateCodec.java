@@ -0,0 +1,341 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * MazeStateCodec.java
+ */
+
+package controller;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.ZipException;
+
+import model.DoorGrid;
+import model.MazeState;
+
+/**
+ * The {@code MazeStateCodec} class writes and reads {@link MazeState} snapshots in a
+ * compact binary format, instead of Java serialization of the whole game.
+ * <p>
+ * Version 4 of the format, all numbers big-endian:
+ * </p>
+ * <pre>
+ * int   magic ("TMZS")       short version
+ * byte  compression codec    long  saved at (ms since the epoch)
+ * int   width                int   height
+ * int   x                    int   y
+ * int   right answers        int   wrong answers
+ * int   tries                long  time played (ms)
+ * int   CRC32C of the header above
+ * --- body, compressed as the codec says, then split into checksummed blocks ---
+ * int   door word count      long  door words...
+ * int   room count           (int room index, int question id)...
+ * --- after the last block ---
+ * int   end marker ("TMZE")
+ * </pre>
+ * <p>
+ * The header is never compressed and has a fixed size of {@value #HEADER_SIZE} bytes,
+ * so {@link #readHeader} reads it on its own to list saves cheaply. The compressed body
+ * is written in blocks by {@link CrcBlockOutputStream}, and each block's checksum is
+ * checked before its bytes are decoded. A save cut short lacks the end marker, which
+ * {@link #checkEnd} looks for before a file is read. An uncompressed 5x5 game takes
+ * 91 bytes plus 8 for each created room: 99 bytes when it starts and 291 once every
+ * room has been visited.
+ * </p>
+ * <p>
+ * Damaged saves, whether cut short, failing a checksum or holding impossible values,
+ * are rejected with a {@link CorruptSaveException}. Saves of any other version are
+ * rejected with a plain {@link IOException}.
+ * </p>
+ *
+ * @version 10/17/2026
+ */
+public final class MazeStateCodec {
+
+    /**
+     * The first four bytes of every save, "TMZS".
+     */
+    public static final int MAGIC = 0x544D5A53;
+
+    /**
+     * The last four bytes of every save, "TMZE".
+     */
+    public static final int END = 0x544D5A45;
+
+    /**
+     * The version of the format, the only one written and read by this class.
+     */
+    public static final int VERSION = 4;
+
+    /**
+     * The size in bytes of the header of a save, including its checksum.
+     */
+    public static final int HEADER_SIZE = 55;
+
+    /**
+     * Private constructor, this class only has static methods.
+     */
+    private MazeStateCodec() {
+        super();
+    }
+
+    /**
+     * Writes an uncompressed snapshot, stamped with the current time.
+     *
+     * @param theState the snapshot to write
+     * @param theOut where to write it; it is flushed but not closed
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(final MazeState theState, final OutputStream theOut)
+                             throws IOException {
+        write(theState, System.currentTimeMillis(), SaveCompression.NONE, theOut);
+    }
+
+    /**
+     * Writes an uncompressed snapshot.
+     *
+     * @param theState the snapshot to write
+     * @param theSavedAt when the game was saved, in milliseconds since the epoch
+     * @param theOut where to write it; it is flushed but not closed
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(final MazeState theState, final long theSavedAt,
+                             final OutputStream theOut) throws IOException {
+        write(theState, theSavedAt, SaveCompression.NONE, theOut);
+    }
+
+    /**
+     * Writes a snapshot.
+     *
+     * @param theState the snapshot to write
+     * @param theSavedAt when the game was saved, in milliseconds since the epoch
+     * @param theCompression how to compress the body
+     * @param theOut where to write it; it is flushed but not closed
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(final MazeState theState, final long theSavedAt,
+                             final SaveCompression theCompression, final OutputStream theOut)
+                             throws IOException {
+        final CRC32C crc = new CRC32C();
+        final DataOutputStream header = new DataOutputStream(
+                new CheckedOutputStream(theOut, crc));
+        header.writeInt(MAGIC);
+        header.writeShort(VERSION);
+        header.writeByte(theCompression.getCodec());
+        header.writeLong(theSavedAt);
+        header.writeInt(theState.getWidth());
+        header.writeInt(theState.getHeight());
+        header.writeInt(theState.getCurrentX());
+        header.writeInt(theState.getCurrentY());
+        header.writeInt(theState.getRightAnswers());
+        header.writeInt(theState.getWrongAnswers());
+        header.writeInt(theState.getTrys());
+        header.writeLong(theState.getTime());
+        header.writeInt((int) crc.getValue());
+        header.flush();
+
+        final CrcBlockOutputStream blocks = new CrcBlockOutputStream(theOut);
+        final OutputStream compressed = theCompression.compress(blocks, false);
+        final DataOutputStream body = new DataOutputStream(
+                new BufferedOutputStream(compressed));
+        final LongBuffer words = theState.getDoorBuffer();
+        body.writeInt(words.remaining());
+        while (words.hasRemaining()) {
+            body.writeLong(words.get());
+        }
+
+        final int[] indexes = theState.getRoomIndexes();
+        final int[] questionIds = theState.getQuestionIds();
+        body.writeInt(indexes.length);
+        for (int i = 0; i < indexes.length; i++) {
+            body.writeInt(indexes[i]);
+            body.writeInt(questionIds[i]);
+        }
+        body.flush();
+        SaveCompression.finish(compressed);
+        blocks.finish();
+        header.writeInt(END);
+        header.flush();
+    }
+
+    /**
+     * Reads only the header of a save. Reads nothing past the header, so the input is
+     * left at the body.
+     *
+     * @param theIn where to read it from
+     * @return the header
+     * @throws CorruptSaveException if the data is not a valid save
+     * @throws IOException if an I/O error occurs or the save is from another version
+     */
+    public static SaveHeader readHeader(final InputStream theIn) throws IOException {
+        try {
+            return readHeaderFields(theIn);
+        } catch (EOFException e) {
+            throw new CorruptSaveException("Save header is cut short", e);
+        }
+    }
+
+    /**
+     * Reads the header of a save, checking its checksum.
+     *
+     * @param theIn where to read it from
+     * @return the header
+     * @throws IOException if an I/O error occurs or the header is not valid
+     */
+    private static SaveHeader readHeaderFields(final InputStream theIn) throws IOException {
+        final CheckedInputStream checked = new CheckedInputStream(theIn, new CRC32C());
+        final DataInputStream in = new DataInputStream(checked);
+        if (in.readInt() != MAGIC) {
+            throw new CorruptSaveException("Not a Trivia Maze save");
+        }
+        final int version = in.readUnsignedShort();
+        if (version != VERSION) {
+            throw new IOException("Save version " + version + " is not supported, only "
+                                  + VERSION);
+        }
+        final int codec = in.readUnsignedByte();
+        final long savedAt = in.readLong();
+        final int width = in.readInt();
+        final int height = in.readInt();
+        if (width < 1 || height < 1) {
+            throw new CorruptSaveException("Invalid maze size " + width + "x" + height);
+        }
+        final int x = in.readInt();
+        final int y = in.readInt();
+        final int right = in.readInt();
+        final int wrong = in.readInt();
+        final int trys = in.readInt();
+        final long time = in.readLong();
+        final int expected = (int) checked.getChecksum().getValue();
+        if (in.readInt() != expected) {
+            throw new CorruptSaveException("Save header failed its checksum");
+        }
+        return new SaveHeader(version, codec, savedAt, width, height, x, y, right, wrong,
+                              trys, time);
+    }
+
+    /**
+     * Checks that a save file ends with the end marker, reading only its first and
+     * last few bytes, so a save cut short is rejected before any of it is decoded.
+     * Files that are not saves of this version are left for {@link #read} to judge.
+     *
+     * @param theChannel the save file
+     * @throws CorruptSaveException if the save is cut short
+     * @throws IOException if an I/O error occurs
+     */
+    public static void checkEnd(final FileChannel theChannel) throws IOException {
+        final long size = theChannel.size();
+        final ByteBuffer start = ByteBuffer.allocate(6);
+        if (size < start.capacity() || !readAt(theChannel, start, 0)
+            || start.getInt(0) != MAGIC || start.getShort(4) != VERSION) {
+            return;
+        }
+        final ByteBuffer end = ByteBuffer.allocate(4);
+        if (size < HEADER_SIZE + 12 || !readAt(theChannel, end, size - 4)
+            || end.getInt(0) != END) {
+            throw new CorruptSaveException("Save is cut short");
+        }
+    }
+
+    /**
+     * Fills a buffer from a file at a position, without moving the file's position.
+     *
+     * @param theChannel the file
+     * @param theBuffer the buffer to fill
+     * @param thePosition where in the file to start
+     * @return false if the file ended first
+     * @throws IOException if an I/O error occurs
+     */
+    private static boolean readAt(final FileChannel theChannel, final ByteBuffer theBuffer,
+                                  final long thePosition) throws IOException {
+        while (theBuffer.hasRemaining()) {
+            if (theChannel.read(theBuffer, thePosition + theBuffer.position()) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads a snapshot. The checksum of every block is checked, including blocks past
+     * the end of the compressed data.
+     *
+     * @param theIn where to read it from; it is not closed
+     * @return the snapshot
+     * @throws CorruptSaveException if the data is not a valid save
+     * @throws IOException if an I/O error occurs or the save is from another version
+     */
+    public static MazeState read(final InputStream theIn) throws IOException {
+        final SaveHeader header = readHeader(theIn);
+        try {
+            final CrcBlockInputStream blocks = new CrcBlockInputStream(theIn);
+            final MazeState state = readBody(header, blocks);
+            blocks.verifyRest();
+            if (new DataInputStream(theIn).readInt() != END) {
+                throw new CorruptSaveException("Save has no end marker");
+            }
+            return state;
+        } catch (EOFException e) {
+            throw new CorruptSaveException("Save is cut short", e);
+        } catch (ZipException e) {
+            throw new CorruptSaveException("Save data cannot be decompressed", e);
+        }
+    }
+
+    /**
+     * Reads the doors and rooms of a snapshot.
+     *
+     * @param theHeader the header already read
+     * @param theIn where to read the body from
+     * @return the snapshot
+     * @throws IOException if an I/O error occurs or the body is not valid
+     */
+    private static MazeState readBody(final SaveHeader theHeader, final InputStream theIn)
+                                      throws IOException {
+        final int width = theHeader.getWidth();
+        final int height = theHeader.getHeight();
+        final DataInputStream body = new DataInputStream(new BufferedInputStream(
+                SaveCompression.decompress(theHeader.getCodec(), theIn)));
+
+        final int wordCount = body.readInt();
+        if (wordCount != DoorGrid.wordCount(width, height)) {
+            throw new CorruptSaveException("Door bitmap does not match a " + width
+                                               + "x" + height + " maze");
+        }
+        final long[] words = new long[wordCount];
+        for (int i = 0; i < wordCount; i++) {
+            words[i] = body.readLong();
+        }
+
+        final int roomCount = body.readInt();
+        if (roomCount < 0 || roomCount > (long) width * height) {
+            throw new CorruptSaveException("Invalid room count " + roomCount);
+        }
+        final int[] indexes = new int[roomCount];
+        final int[] questionIds = new int[roomCount];
+        for (int i = 0; i < roomCount; i++) {
+            indexes[i] = body.readInt();
+            questionIds[i] = body.readInt();
+        }
+
+        try {
+            return new MazeState(width, height, words, theHeader.getCurrentX(),
+                                 theHeader.getCurrentY(), theHeader.getRightAnswers(),
+                                 theHeader.getWrongAnswers(), theHeader.getTrys(),
+                                 theHeader.getTime(), indexes, questionIds);
+        } catch (IllegalArgumentException e) {
+            throw new CorruptSaveException(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * SaveCompression.java
+ */
+
+package controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The {@code SaveCompression} class describes how the body of a save file or journal
+ * is compressed. Only the codec is recorded in the file, so any level can be read back.
+ * <ul>
+ *     <li>{@link #NONE} writes the bytes as they are.</li>
+ *     <li>{@link #FAST} deflates at {@link Deflater#BEST_SPEED}.</li>
+ *     <li>{@link #DEFAULT} deflates at the default level.</li>
+ *     <li>{@link #deflate(int)} deflates at any level from 1 to 9.</li>
+ * </ul>
+ * <p>
+ * The game uses the compression named by the {@value #PROPERTY} system property, see
+ * {@link #getConfigured()}.
+ * </p>
+ *
+ * @version 10/17/2026
+ */
+public final class SaveCompression {
+
+    /**
+     * System property naming the compression of new saves and journals: "none",
+     * "fast", "deflate", or a deflate level from 1 to 9.
+     */
+    public static final String PROPERTY = "triviamaze.save.compression";
+
+    /**
+     * Codec id of uncompressed data.
+     */
+    public static final int CODEC_NONE = 0;
+
+    /**
+     * Codec id of zlib deflated data.
+     */
+    public static final int CODEC_DEFLATE = 1;
+
+    /**
+     * No compression.
+     */
+    public static final SaveCompression NONE = new SaveCompression(CODEC_NONE, 0);
+
+    /**
+     * The fastest deflate level.
+     */
+    public static final SaveCompression FAST = new SaveCompression(CODEC_DEFLATE,
+                                                                   Deflater.BEST_SPEED);
+
+    /**
+     * The default deflate level.
+     */
+    public static final SaveCompression DEFAULT = new SaveCompression(
+            CODEC_DEFLATE, Deflater.DEFAULT_COMPRESSION);
+
+    /**
+     * Size of the buffer between the deflater and the file.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The codec id written to the file.
+     */
+    private final int myCodec;
+
+    /**
+     * The deflate level.
+     */
+    private final int myLevel;
+
+    /**
+     * Creates a compression setting.
+     *
+     * @param theCodec the codec id
+     * @param theLevel the deflate level
+     */
+    private SaveCompression(final int theCodec, final int theLevel) {
+        myCodec = theCodec;
+        myLevel = theLevel;
+    }
+
+    /**
+     * Gets a deflate setting at the given level.
+     *
+     * @param theLevel the level, from 1 (fastest) to 9 (smallest)
+     * @return the setting
+     * @throws IllegalArgumentException if the level is out of range
+     */
+    public static SaveCompression deflate(final int theLevel) {
+        if (theLevel < Deflater.BEST_SPEED || theLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid deflate level " + theLevel);
+        }
+        return new SaveCompression(CODEC_DEFLATE, theLevel);
+    }
+
+    /**
+     * Parses a compression name as used by {@value #PROPERTY}.
+     *
+     * @param theName "none", "fast", "deflate", or a level from 1 to 9
+     * @return the setting
+     * @throws IllegalArgumentException if the name is not known
+     */
+    public static SaveCompression parse(final String theName) {
+        return switch (theName.trim().toLowerCase()) {
+            case "none" -> NONE;
+            case "fast" -> FAST;
+            case "deflate" -> DEFAULT;
+            default -> {
+                try {
+                    yield deflate(Integer.parseInt(theName.trim()));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Unknown compression " + theName);
+                }
+            }
+        };
+    }
+
+    /**
+     * Gets the compression configured by the {@value #PROPERTY} system property. An
+     * unknown value is reported and treated as no compression.
+     *
+     * @return the configured setting, or {@link #NONE} if the property is not set
+     */
+    public static SaveCompression getConfigured() {
+        final String name = System.getProperty(PROPERTY);
+        if (name == null) {
+            return NONE;
+        }
+        try {
+            return parse(name);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage() + ", saving without compression");
+            return NONE;
+        }
+    }
+
+    /**
+     * Gets the codec id written to the file.
+     *
+     * @return {@link #CODEC_NONE} or {@link #CODEC_DEFLATE}
+     */
+    public int getCodec() {
+        return myCodec;
+    }
+
+    /**
+     * Gets the deflate level.
+     *
+     * @return the level, or 0 for no compression
+     */
+    public int getLevel() {
+        return myLevel;
+    }
+
+    /**
+     * Wraps a stream so that what is written to it is compressed. Closing the returned
+     * stream closes the given one; {@link #finish} ends the compressed data without
+     * closing it.
+     *
+     * @param theOut where to write the compressed data
+     * @param theSyncFlush whether flushing writes out everything written so far, so a
+     *                     reader can decompress up to the last flush
+     * @return the stream to write to, which is the given stream for no compression
+     */
+    public OutputStream compress(final OutputStream theOut, final boolean theSyncFlush) {
+        if (myCodec == CODEC_NONE) {
+            return theOut;
+        }
+        return new DeflatingStream(theOut, myLevel, theSyncFlush);
+    }
+
+    /**
+     * Ends compressed data written to a stream returned by {@link #compress}, without
+     * closing the stream underneath.
+     *
+     * @param theCompressed the stream returned by {@link #compress}
+     * @throws IOException if an I/O error occurs
+     */
+    public static void finish(final OutputStream theCompressed) throws IOException {
+        if (theCompressed instanceof DeflaterOutputStream) {
+            ((DeflaterOutputStream) theCompressed).finish();
+        } else {
+            theCompressed.flush();
+        }
+    }
+
+    /**
+     * Wraps a stream so that what is read from it is decompressed.
+     *
+     * @param theCodec the codec id read from the file
+     * @param theIn the compressed data
+     * @return the stream to read from, which is the given stream for no compression
+     * @throws StreamCorruptedException if the codec is not known
+     */
+    public static InputStream decompress(final int theCodec, final InputStream theIn)
+                                         throws StreamCorruptedException {
+        return switch (theCodec) {
+            case CODEC_NONE -> theIn;
+            case CODEC_DEFLATE -> new InflaterInputStream(theIn);
+            default -> throw new StreamCorruptedException("Unknown compression codec "
+                                                          + theCodec);
+        };
+    }
+
+    /**
+     * A deflating stream that owns its deflater and frees it once the data is finished.
+     */
+    private static final class DeflatingStream extends DeflaterOutputStream {
+
+        /**
+         * Whether the deflater has been freed.
+         */
+        private boolean myEnded;
+
+        /**
+         * Creates a deflating stream.
+         *
+         * @param theOut where to write the compressed data
+         * @param theLevel the deflate level
+         * @param theSyncFlush whether flushing writes out everything written so far
+         */
+        private DeflatingStream(final OutputStream theOut, final int theLevel,
+                                final boolean theSyncFlush) {
+            super(theOut, new Deflater(theLevel), BUFFER_SIZE, theSyncFlush);
+        }
+
+        /**
+         * Ends the compressed data and frees the deflater.
+         *
+         * @throws IOException if an I/O error occurs
+         */
+        @Override
+        public void finish() throws IOException {
+            if (!myEnded) {
+                try {
+                    super.finish();
+                } finally {
+                    def.end();
+                    myEnded = true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * SaveHeader.java
+ */
+
+package controller;
+
+/**
+ * The {@code SaveHeader} class holds what a save file says about its game before the
+ * door bitmap and rooms: its format version, how they are compressed, when the game was saved, the maze
+ * size, the player's position and the score. It is read from the fixed size start of
+ * the file by {@link MazeStateCodec#readHeader}, so listing saves never decodes a
+ * whole game.
+ *
+ * @version 10/17/2026
+ */
+public final class SaveHeader {
+
+    /**
+     * The version of the save format.
+     */
+    private final int myVersion;
+
+    /**
+     * The compression codec of the body, see {@link SaveCompression}.
+     */
+    private final int myCodec;
+
+    /**
+     * When the game was saved, in milliseconds since the epoch, or 0 if unknown.
+     */
+    private final long mySavedAt;
+
+    /**
+     * Number of rooms in each row.
+     */
+    private final int myWidth;
+
+    /**
+     * Number of rows.
+     */
+    private final int myHeight;
+
+    /**
+     * The player's x coordinate.
+     */
+    private final int myCurrentX;
+
+    /**
+     * The player's y coordinate.
+     */
+    private final int myCurrentY;
+
+    /**
+     * The number of right answers.
+     */
+    private final int myRightAnswers;
+
+    /**
+     * The number of wrong answers.
+     */
+    private final int myWrongAnswers;
+
+    /**
+     * The number of tries.
+     */
+    private final int myTrys;
+
+    /**
+     * The time played, in milliseconds.
+     */
+    private final long myTime;
+
+    /**
+     * Creates a header.
+     *
+     * @param theVersion the version of the save format
+     * @param theCodec the compression codec of the body
+     * @param theSavedAt when the game was saved, or 0 if unknown
+     * @param theWidth the number of rooms in each row
+     * @param theHeight the number of rows
+     * @param theCurrentX the player's x coordinate
+     * @param theCurrentY the player's y coordinate
+     * @param theRightAnswers the number of right answers
+     * @param theWrongAnswers the number of wrong answers
+     * @param theTrys the number of tries
+     * @param theTime the time played, in milliseconds
+     */
+    SaveHeader(final int theVersion, final int theCodec, final long theSavedAt,
+               final int theWidth, final int theHeight, final int theCurrentX,
+               final int theCurrentY, final int theRightAnswers, final int theWrongAnswers,
+               final int theTrys, final long theTime) {
+        myVersion = theVersion;
+        myCodec = theCodec;
+        mySavedAt = theSavedAt;
+        myWidth = theWidth;
+        myHeight = theHeight;
+        myCurrentX = theCurrentX;
+        myCurrentY = theCurrentY;
+        myRightAnswers = theRightAnswers;
+        myWrongAnswers = theWrongAnswers;
+        myTrys = theTrys;
+        myTime = theTime;
+    }
+
+    /**
+     * Gets the version of the save format.
+     *
+     * @return the version, at most {@link MazeStateCodec#VERSION}
+     */
+    public int getVersion() {
+        return myVersion;
+    }
+
+    /**
+     * Gets the compression codec of the body.
+     *
+     * @return {@link SaveCompression#CODEC_NONE} or {@link SaveCompression#CODEC_DEFLATE}
+     */
+    public int getCodec() {
+        return myCodec;
+    }
+
+    /**
+     * Gets when the game was saved.
+     *
+     * @return milliseconds since the epoch, or 0 for saves that did not record it
+     */
+    public long getSavedAt() {
+        return mySavedAt;
+    }
+
+    /**
+     * Gets the number of rooms in each row.
+     *
+     * @return the width
+     */
+    public int getWidth() {
+        return myWidth;
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return the height
+     */
+    public int getHeight() {
+        return myHeight;
+    }
+
+    /**
+     * Gets the player's x coordinate.
+     *
+     * @return the x coordinate
+     */
+    public int getCurrentX() {
+        return myCurrentX;
+    }
+
+    /**
+     * Gets the player's y coordinate.
+     *
+     * @return the y coordinate
+     */
+    public int getCurrentY() {
+        return myCurrentY;
+    }
+
+    /**
+     * Gets the number of right answers.
+     *
+     * @return the right answers
+     */
+    public int getRightAnswers() {
+        return myRightAnswers;
+    }
+
+    /**
+     * Gets the number of wrong answers.
+     *
+     * @return the wrong answers
+     */
+    public int getWrongAnswers() {
+        return myWrongAnswers;
+    }
+
+    /**
+     * Gets the number of tries.
+     *
+     * @return the tries
+     */
+    public int getTrys() {
+        return myTrys;
+    }
+
+    /**
+     * Gets the time played.
+     *
+     * @return the time in milliseconds
+     */
+    public long getTime() {
+        return myTime;
+    }
+}
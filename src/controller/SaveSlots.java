@@ -0,0 +1,294 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * SaveSlots.java
+ */
+
+package controller;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import model.MazeState;
+
+/**
+ * The {@code SaveSlots} class keeps numbered saves in one folder, one file per slot
+ * named {@code slot-<number>.tmz}.
+ * <p>
+ * Listing the slots reads only the fixed size header at the start of each file, see
+ * {@link GameSaver#readHeader}, and keeps the headers in an index keyed by slot. A
+ * header is read again only when its file has changed since, so listing hundreds of
+ * saves a second time reads no save data at all.
+ * </p>
+ *
+ * @version 10/17/2026
+ */
+public final class SaveSlots {
+
+    /**
+     * The start of every slot file name.
+     */
+    private static final String PREFIX = "slot-";
+
+    /**
+     * The end of every slot file name.
+     */
+    private static final String SUFFIX = ".tmz";
+
+    /**
+     * The folder holding the slots.
+     */
+    private final Path myDirectory;
+
+    /**
+     * The headers read so far, by slot number.
+     */
+    private final Map<Integer, Slot> myIndex = new HashMap<>();
+
+    /**
+     * Creates save slots in a folder, which is created when the first game is saved.
+     *
+     * @param theDirectory the folder holding the slots
+     */
+    public SaveSlots(final String theDirectory) {
+        myDirectory = Paths.get(theDirectory);
+    }
+
+    /**
+     * Lists the saved games, newest first. Files that are not valid saves are left out.
+     *
+     * @return the slots
+     * @throws IOException if the folder cannot be read
+     */
+    public synchronized List<Slot> list() throws IOException {
+        final List<Slot> result = new ArrayList<>();
+        if (!Files.isDirectory(myDirectory)) {
+            myIndex.clear();
+            return result;
+        }
+        final Map<Integer, Slot> seen = new HashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(myDirectory,
+                                                                   PREFIX + "*" + SUFFIX)) {
+            for (Path file : files) {
+                final int number = numberOf(file);
+                if (number < 0) {
+                    continue;
+                }
+                final Slot slot = readSlot(number, file);
+                if (slot != null) {
+                    seen.put(number, slot);
+                    result.add(slot);
+                }
+            }
+        }
+        myIndex.keySet().retainAll(seen.keySet());
+        myIndex.putAll(seen);
+        result.sort(Comparator.comparingLong(Slot::getSavedAt).reversed()
+                              .thenComparingInt(Slot::getNumber));
+        return result;
+    }
+
+    /**
+     * Saves a game to a new slot after the highest one in use.
+     *
+     * @param theState the game to save
+     * @return the slot number
+     * @throws IOException if the game cannot be saved
+     */
+    public synchronized int saveNew(final MazeState theState) throws IOException {
+        int highest = 0;
+        if (Files.isDirectory(myDirectory)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(
+                    myDirectory, PREFIX + "*" + SUFFIX)) {
+                for (Path file : files) {
+                    highest = Math.max(highest, numberOf(file));
+                }
+            }
+        }
+        save(highest + 1, theState);
+        return highest + 1;
+    }
+
+    /**
+     * Saves a game to a slot, replacing any game saved there.
+     *
+     * @param theSlot the slot number, at least 1
+     * @param theState the game to save
+     * @throws IOException if the game cannot be saved
+     */
+    public void save(final int theSlot, final MazeState theState) throws IOException {
+        if (theSlot < 1) {
+            throw new IllegalArgumentException("Invalid slot " + theSlot);
+        }
+        Files.createDirectories(myDirectory);
+        GameSaver.saveState(theState, fileOf(theSlot).toString());
+    }
+
+    /**
+     * Loads the game saved in a slot.
+     *
+     * @param theSlot the slot number
+     * @return the saved game
+     * @throws IOException if the slot is empty or not a valid save
+     */
+    public MazeState load(final int theSlot) throws IOException {
+        return GameSaver.loadState(fileOf(theSlot).toString());
+    }
+
+    /**
+     * Deletes the game saved in a slot.
+     *
+     * @param theSlot the slot number
+     * @throws IOException if the save cannot be deleted
+     */
+    public synchronized void delete(final int theSlot) throws IOException {
+        Files.deleteIfExists(fileOf(theSlot));
+        myIndex.remove(theSlot);
+    }
+
+    /**
+     * Gets the file of a slot.
+     *
+     * @param theSlot the slot number
+     * @return the file
+     */
+    private Path fileOf(final int theSlot) {
+        return myDirectory.resolve(PREFIX + theSlot + SUFFIX);
+    }
+
+    /**
+     * Gets the slot number of a file.
+     *
+     * @param theFile the file
+     * @return the slot number, or -1 if the name is not a slot file name
+     */
+    private static int numberOf(final Path theFile) {
+        final String name = theFile.getFileName().toString();
+        try {
+            final int number = Integer.parseInt(
+                    name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+            return number > 0 ? number : -1;
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Gets the indexed header of a slot, reading it again only if the file changed.
+     *
+     * @param theNumber the slot number
+     * @param theFile the slot file
+     * @return the slot, or null if the file is not a valid save
+     */
+    private Slot readSlot(final int theNumber, final Path theFile) {
+        try {
+            final long modified = Files.getLastModifiedTime(theFile).toMillis();
+            final long size = Files.size(theFile);
+            final Slot indexed = myIndex.get(theNumber);
+            if (indexed != null && indexed.myModified == modified && indexed.mySize == size) {
+                return indexed;
+            }
+            return new Slot(theNumber, theFile.toString(), modified, size,
+                            GameSaver.readHeader(theFile.toString()));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            System.out.println("Skipping save " + theFile + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * A saved game in a slot, described by its header.
+     */
+    public static final class Slot {
+
+        /**
+         * The slot number.
+         */
+        private final int myNumber;
+
+        /**
+         * The save file.
+         */
+        private final String myFileName;
+
+        /**
+         * When the file was last changed, in milliseconds since the epoch.
+         */
+        private final long myModified;
+
+        /**
+         * The size of the file in bytes.
+         */
+        private final long mySize;
+
+        /**
+         * The header of the save.
+         */
+        private final SaveHeader myHeader;
+
+        /**
+         * Creates a slot.
+         *
+         * @param theNumber the slot number
+         * @param theFileName the save file
+         * @param theModified when the file was last changed
+         * @param theSize the size of the file
+         * @param theHeader the header of the save
+         */
+        private Slot(final int theNumber, final String theFileName, final long theModified,
+                     final long theSize, final SaveHeader theHeader) {
+            myNumber = theNumber;
+            myFileName = theFileName;
+            myModified = theModified;
+            mySize = theSize;
+            myHeader = theHeader;
+        }
+
+        /**
+         * Gets the slot number.
+         *
+         * @return the slot number
+         */
+        public int getNumber() {
+            return myNumber;
+        }
+
+        /**
+         * Gets the save file.
+         *
+         * @return the file name
+         */
+        public String getFileName() {
+            return myFileName;
+        }
+
+        /**
+         * Gets when the game was saved, falling back to the time the file was last
+         * changed for saves that did not record it.
+         *
+         * @return milliseconds since the epoch
+         */
+        public long getSavedAt() {
+            return myHeader.getSavedAt() != 0 ? myHeader.getSavedAt() : myModified;
+        }
+
+        /**
+         * Gets the header of the save.
+         *
+         * @return the header
+         */
+        public SaveHeader getHeader() {
+            return myHeader;
+        }
+    }
+}
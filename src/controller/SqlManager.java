@@ -1,13 +1,14 @@
 package controller;
 
+import model.DatabaseConnector;
+import model.SchemaMigrator;
+
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.io.IOException;
 import java.util.Properties;
 import java.io.InputStream;
@@ -99,14 +100,12 @@ public class SqlManager {
     }
 
     /**
-     * Initializes the database by executing SQL scripts to set up initial tables and data.
+     * Initializes the database by running the versioned schema and seed steps it has
+     * not had yet, the same steps {@link DatabaseConnector} uses.
      */
     private final void initializeDatabase() {
         try (Connection conn = getConnection()) {
-            executeSqlFile(conn, "SRS/Triviamaze.sql");
-            executeSqlFile(conn, "SRS/insertMultipleChoice.sql");
-            executeSqlFile(conn, "SRS/insertShortAnswer.sql");
-            executeSqlFile(conn, "SRS/insertTrueFalse.sql");
+            new SchemaMigrator(DatabaseConnector.MIGRATIONS).migrate(conn);
         } catch (SQLException e) {
             e.printStackTrace();
         }
@@ -125,29 +124,6 @@ public class SqlManager {
         return connection;
     }
 
-    /**
-     * Executes SQL statements from a file.
-     *
-     * @param conn the database connection
-     * @param filePath the path to the SQL file
-     */
-    private final void executeSqlFile(Connection conn, String filePath) {
-        try {
-            String content = new String(Files.readAllBytes(Paths.get(filePath)));
-            String[] queries = content.split(";");
-            try (Statement stmt = conn.createStatement()) {
-                for (String query : queries) {
-                    if (query.trim().isEmpty()) {
-                        continue;
-                    }
-                    stmt.executeUpdate(query);
-                }
-            }
-        } catch (IOException | SQLException e) {
-            e.printStackTrace();
-        }
-    }
-
     /**
      * Executes an update SQL statement with parameters.
      *
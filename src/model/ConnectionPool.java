@@ -0,0 +1,453 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * ConnectionPool.java
+ */
+package model;
+
+import org.sqlite.SQLiteDataSource;
+
+import java.io.PrintWriter;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+/**
+ * A small pool of database connections. Connections are opened on demand up to a fixed
+ * size and kept open once returned, so callers can keep using the usual
+ * try-with-resources pattern: closing a borrowed connection hands it back to the pool
+ * instead of closing the underlying database connection.
+ * <p>
+ * Idle connections are validated before they are handed out again, and a borrower
+ * waits for a connection to be returned when the pool is exhausted. The time spent
+ * waiting is recorded so it can be checked with {@link #getAverageWaitNanos()} and
+ * {@link #getMaxWaitNanos()}.
+ * </p>
+ * <p>
+ * Pools are shared by database URL through {@link #forUrl(String)}, so several games
+ * running in one JVM use the same connections. The size is read from the
+ * {@value #SIZE_PROPERTY} system property and defaults to {@value #DEFAULT_SIZE}. This
+ * class is thread safe.
+ * </p>
+ *
+ * @version 10/17/2026
+ */
+public final class ConnectionPool implements DataSource {
+
+    /**
+     * System property holding the number of connections per pool.
+     */
+    public static final String SIZE_PROPERTY = "triviamaze.db.poolSize";
+
+    /**
+     * System property holding how long to wait for a connection, in milliseconds.
+     */
+    public static final String TIMEOUT_PROPERTY = "triviamaze.db.borrowTimeout";
+
+    /**
+     * Number of connections per pool when the size is not configured.
+     */
+    public static final int DEFAULT_SIZE = 4;
+
+    /**
+     * Milliseconds to wait for a connection when the timeout is not configured.
+     */
+    public static final long DEFAULT_TIMEOUT = 5_000;
+
+    /**
+     * Seconds allowed for checking that an idle connection still works.
+     */
+    private static final int VALIDATION_TIMEOUT = 1;
+
+    /**
+     * The pools in use, by database URL.
+     */
+    private static final Map<String, ConnectionPool> POOLS = new ConcurrentHashMap<>();
+
+    /**
+     * Opens new connections.
+     */
+    private final DataSource mySource;
+
+    /**
+     * Connections returned to the pool and ready to be borrowed again.
+     */
+    private final BlockingQueue<Connection> myIdle;
+
+    /**
+     * One permit for each connection that may be borrowed.
+     */
+    private final Semaphore myPermits;
+
+    /**
+     * The number of connections in the pool.
+     */
+    private final int mySize;
+
+    /**
+     * Milliseconds to wait for a connection before giving up.
+     */
+    private final long myTimeout;
+
+    /**
+     * Number of connections handed out.
+     */
+    private final AtomicLong myBorrowCount = new AtomicLong();
+
+    /**
+     * Total nanoseconds borrowers spent waiting for a connection.
+     */
+    private final AtomicLong myTotalWait = new AtomicLong();
+
+    /**
+     * Longest time in nanoseconds a borrower waited for a connection.
+     */
+    private final AtomicLong myMaxWait = new AtomicLong();
+
+    /**
+     * Number of underlying connections opened.
+     */
+    private final AtomicLong myOpenCount = new AtomicLong();
+
+    /**
+     * Creates a pool.
+     * @param theSource - Opens the underlying connections.
+     * @param theSize - The number of connections in the pool.
+     * @param theTimeout - Milliseconds to wait for a connection before giving up.
+     */
+    ConnectionPool(final DataSource theSource, final int theSize, final long theTimeout) {
+        if (theSize < 1) {
+            throw new IllegalArgumentException("Pool size must be positive: " + theSize);
+        }
+        mySource = theSource;
+        mySize = theSize;
+        myTimeout = theTimeout;
+        myIdle = new ArrayBlockingQueue<>(theSize);
+        myPermits = new Semaphore(theSize, true);
+    }
+
+    /**
+     * Gets the shared pool for a SQLite database, creating it the first time.
+     * @param theUrl - The JDBC URL of the database.
+     * @return The pool for the URL.
+     */
+    public static ConnectionPool forUrl(final String theUrl) {
+        return POOLS.computeIfAbsent(theUrl, url -> {
+            final SQLiteDataSource source = new SQLiteDataSource();
+            source.setUrl(url);
+            return new ConnectionPool(source, Integer.getInteger(SIZE_PROPERTY, DEFAULT_SIZE),
+                                      Long.getLong(TIMEOUT_PROPERTY, DEFAULT_TIMEOUT));
+        });
+    }
+
+    /**
+     * Borrows a connection, waiting for one to be returned if every connection is in use.
+     * Closing the connection returns it to the pool.
+     * @return A pooled connection.
+     * @throws SQLException if no connection becomes free in time or one cannot be opened.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        final long start = System.nanoTime();
+        try {
+            if (!myPermits.tryAcquire(myTimeout, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("No database connection free after " + myTimeout + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        recordWait(System.nanoTime() - start);
+
+        try {
+            return wrap(takeValid());
+        } catch (SQLException | RuntimeException e) {
+            myPermits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Not supported; the pool opens every connection with the same credentials.
+     * @param theUser - Ignored.
+     * @param thePassword - Ignored.
+     * @return Never returns.
+     * @throws SQLException always.
+     */
+    @Override
+    public Connection getConnection(final String theUser, final String thePassword)
+                                    throws SQLException {
+        throw new SQLFeatureNotSupportedException("Pooled connections share one login");
+    }
+
+    /**
+     * Closes every idle connection. Borrowed connections are closed when they are returned.
+     */
+    public void closeIdle() {
+        Connection conn;
+        while ((conn = myIdle.poll()) != null) {
+            closeQuietly(conn);
+        }
+    }
+
+    /**
+     * Gets the number of connections in the pool.
+     * @return The pool size.
+     */
+    public int getSize() {
+        return mySize;
+    }
+
+    /**
+     * Gets the number of connections currently borrowed.
+     * @return The number of connections in use.
+     */
+    public int getActiveCount() {
+        return mySize - myPermits.availablePermits();
+    }
+
+    /**
+     * Gets the number of open connections waiting to be borrowed.
+     * @return The number of idle connections.
+     */
+    public int getIdleCount() {
+        return myIdle.size();
+    }
+
+    /**
+     * Gets how many connections have been borrowed.
+     * @return The number of borrows.
+     */
+    public long getBorrowCount() {
+        return myBorrowCount.get();
+    }
+
+    /**
+     * Gets how many underlying connections the pool has opened.
+     * @return The number of connections opened.
+     */
+    public long getOpenCount() {
+        return myOpenCount.get();
+    }
+
+    /**
+     * Gets the average time borrowers waited for a connection.
+     * @return The average wait in nanoseconds, or 0 if nothing was borrowed.
+     */
+    public long getAverageWaitNanos() {
+        final long count = myBorrowCount.get();
+        return count == 0 ? 0 : myTotalWait.get() / count;
+    }
+
+    /**
+     * Gets the longest time a borrower waited for a connection.
+     * @return The longest wait in nanoseconds.
+     */
+    public long getMaxWaitNanos() {
+        return myMaxWait.get();
+    }
+
+    /**
+     * Records the time a borrower waited.
+     * @param theNanos - The wait in nanoseconds.
+     */
+    private void recordWait(final long theNanos) {
+        myBorrowCount.incrementAndGet();
+        myTotalWait.addAndGet(theNanos);
+        myMaxWait.accumulateAndGet(theNanos, Math::max);
+    }
+
+    /**
+     * Takes a working idle connection, or opens a new one if none is idle. Idle
+     * connections that fail validation are closed and dropped.
+     * @return An open connection.
+     * @throws SQLException if a new connection cannot be opened.
+     */
+    private Connection takeValid() throws SQLException {
+        Connection conn;
+        while ((conn = myIdle.poll()) != null) {
+            if (isUsable(conn)) {
+                return conn;
+            }
+            closeQuietly(conn);
+        }
+        conn = mySource.getConnection();
+        myOpenCount.incrementAndGet();
+        return conn;
+    }
+
+    /**
+     * Hands a borrowed connection back. Any open transaction is rolled back first, and
+     * a connection that cannot be reset is closed instead of being kept.
+     * @param theConn - The underlying connection.
+     */
+    private void giveBack(final Connection theConn) {
+        try {
+            if (!theConn.isClosed() && !theConn.getAutoCommit()) {
+                theConn.rollback();
+                theConn.setAutoCommit(true);
+            }
+            if (theConn.isClosed() || !myIdle.offer(theConn)) {
+                closeQuietly(theConn);
+            }
+        } catch (SQLException e) {
+            System.out.println("Dropping pooled connection: " + e.getMessage());
+            closeQuietly(theConn);
+        } finally {
+            myPermits.release();
+        }
+    }
+
+    /**
+     * Checks that an idle connection still works.
+     * @param theConn - The connection.
+     * @return True if the connection can be used. False otherwise.
+     */
+    private static boolean isUsable(final Connection theConn) {
+        try {
+            return !theConn.isClosed() && theConn.isValid(VALIDATION_TIMEOUT);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Closes a connection, ignoring any error.
+     * @param theConn - The connection.
+     */
+    private static void closeQuietly(final Connection theConn) {
+        try {
+            theConn.close();
+        } catch (SQLException e) {
+            System.out.println("Could not close connection: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Wraps a connection so that closing it returns it to this pool.
+     * @param theConn - The underlying connection.
+     * @return The wrapped connection.
+     */
+    private Connection wrap(final Connection theConn) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                                                   new Class<?>[] {Connection.class},
+                                                   new Lease(theConn));
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return mySource.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(final PrintWriter theOut) throws SQLException {
+        mySource.setLogWriter(theOut);
+    }
+
+    @Override
+    public void setLoginTimeout(final int theSeconds) throws SQLException {
+        mySource.setLoginTimeout(theSeconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return mySource.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return mySource.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> theClass) throws SQLException {
+        if (theClass.isInstance(this)) {
+            return theClass.cast(this);
+        }
+        return mySource.unwrap(theClass);
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> theClass) throws SQLException {
+        return theClass.isInstance(this) || mySource.isWrapperFor(theClass);
+    }
+
+    /**
+     * One borrow of a connection. Every call is passed to the underlying connection
+     * except {@code close}, which returns it to the pool the first time and does
+     * nothing after that.
+     */
+    private final class Lease implements InvocationHandler {
+
+        /**
+         * The underlying connection.
+         */
+        private final Connection myConn;
+
+        /**
+         * True once the connection has been returned.
+         */
+        private boolean myReturned;
+
+        /**
+         * Creates a lease on a connection.
+         * @param theConn - The underlying connection.
+         */
+        private Lease(final Connection theConn) {
+            myConn = theConn;
+        }
+
+        @Override
+        public Object invoke(final Object theProxy, final Method theMethod,
+                             final Object[] theArgs) throws Throwable {
+            switch (theMethod.getName()) {
+                case "close":
+                    synchronized (this) {
+                        if (!myReturned) {
+                            myReturned = true;
+                            giveBack(myConn);
+                        }
+                    }
+                    return null;
+                case "isClosed":
+                    synchronized (this) {
+                        return myReturned || myConn.isClosed();
+                    }
+                case "equals":
+                    return theProxy == theArgs[0];
+                case "hashCode":
+                    return System.identityHashCode(theProxy);
+                case "toString":
+                    return "Pooled " + myConn;
+                default:
+                    break;
+            }
+            synchronized (this) {
+                if (myReturned) {
+                    throw new SQLException("Connection has been returned to the pool");
+                }
+            }
+            try {
+                return theMethod.invoke(myConn, theArgs);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -9,7 +9,8 @@ import java.io.Serializable;
 
 /**
  * The Door class represents a door in a room of the trivia maze.
- * A door can be either open or closed.
+ * A door can be either open or closed. A door is a view of one edge of a
+ * {@link DoorGrid}, so the rooms on both sides of it see the same state.
  * @author hamda jama
  * @version 7/21/2024
  */
@@ -18,25 +19,23 @@ public class Door implements Serializable {
      * Serial ID for the class
      */
     @Serial
-    private static final long serialVersionUID = 4L;
+    private static final long serialVersionUID = 5L;
 
     /**
-     * Indicates whether the door is closed.
+     * The grid holding the state of the door.
      */
-    private boolean myClosed;
+    private final DoorGrid myGrid;
 
     /**
-     * Indicates whether the door was answered incorrectly
+     * The edge of the grid this door stands on.
      */
-    private boolean myAnswerIncorrect;
+    private final int myEdge;
 
     /**
      * Constructs a new Door, initially closed and answerIncorrect is false.
      */
     public Door() {
-
-        this.myClosed = true;
-        this.myAnswerIncorrect = false;
+        this(false);
     }
 
     /**
@@ -44,7 +43,18 @@ public class Door implements Serializable {
      * @param initiallyOpen - The state of the door
      */
     public Door(boolean initiallyOpen) {
-        this.myClosed = !initiallyOpen;
+        this(new DoorGrid(1, 1), 0);
+        myGrid.setOpen(myEdge, initiallyOpen);
+    }
+
+    /**
+     * Constructs a door standing on an edge of a grid.
+     * @param theGrid - The grid holding the state of the door.
+     * @param theEdge - The edge of the grid.
+     */
+    Door(final DoorGrid theGrid, final int theEdge) {
+        myGrid = theGrid;
+        myEdge = theEdge;
     }
 
     /**
@@ -53,21 +63,28 @@ public class Door implements Serializable {
      * @return True if the door is closed, false otherwise.
      */
     public boolean isClosed() {
-        return myClosed;
+        return !myGrid.isOpen(myEdge);
     }
 
     /**
      * Opens the door.
      */
     public void open() {
-        myClosed = false;
+        myGrid.setOpen(myEdge, true);
     }
 
     /**
      * Closes the door.
      */
     public void close() {
-        myClosed = true;
+        myGrid.setOpen(myEdge, false);
+    }
+
+    /**
+     * Closes the door and marks it as answered incorrectly.
+     */
+    public void markAnsweredIncorrectly() {
+        myGrid.markAnsweredIncorrectly(myEdge);
     }
 
 
@@ -76,7 +93,7 @@ public class Door implements Serializable {
      * @return True if the player answered wrong and false otherwise
      */
     public boolean hasBeenAnsweredIncorrectly() {
-        return myAnswerIncorrect;
+        return myGrid.isAnsweredIncorrectly(myEdge);
     }
 
 }
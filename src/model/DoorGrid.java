@@ -0,0 +1,499 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * DoorGrid.java
+ */
+package model;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+/**
+ * Compact storage for every door of a maze. Each door is an edge between two
+ * neighbouring rooms (or between a room and the outside wall) and is shared by
+ * both rooms, so closing it from one side closes it from the other as well.
+ * <p>
+ * Every edge takes two bits packed into {@code long} words: one for "open" and one
+ * for "answered incorrectly". Rooms are addressed by their row by row index
+ * ({@code y * width + x}) and neighbours are found with index arithmetic, so no
+ * per-room or per-door objects are needed.
+ * </p>
+ * <p>
+ * Edge layout: the {@code (width + 1) * height} vertical edges come first, the
+ * west door of room (x, y) being {@code y * (width + 1) + x}. The
+ * {@code width * (height + 1)} horizontal edges follow, the north door of room (x, y)
+ * being {@code verticalCount + y * width + x}.
+ * </p>
+ * <p>
+ * The words are kept in pages of {@link #PAGE_WORDS}. {@link #copy()} shares every
+ * page with the copy instead of copying the words, and whichever grid later changes a
+ * shared page copies that page first, so a snapshot of a huge maze costs one reference
+ * per page and keeps only the pages changed since it was taken.
+ * </p>
+ *
+ * @version 10/17/2026
+ */
+public final class DoorGrid implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Bit marking an open door.
+     */
+    private static final long OPEN = 1L;
+
+    /**
+     * Bit marking a door that was answered incorrectly.
+     */
+    private static final long INCORRECT = 2L;
+
+    /**
+     * A word with the open bit of every edge set.
+     */
+    private static final long ALL_OPEN = 0x5555_5555_5555_5555L;
+
+    /**
+     * Number of edges packed into one word.
+     */
+    private static final int EDGES_PER_WORD = 32;
+
+    /**
+     * Number of bits of a word index that select the word within its page.
+     */
+    private static final int PAGE_SHIFT = 10;
+
+    /**
+     * Number of words in a page, 8 KB of doors.
+     */
+    static final int PAGE_WORDS = 1 << PAGE_SHIFT;
+
+    /**
+     * Mask selecting the word within its page from a word index.
+     */
+    private static final int PAGE_MASK = PAGE_WORDS - 1;
+
+    /**
+     * Number of rooms in each row.
+     */
+    private final int myWidth;
+
+    /**
+     * Number of rows.
+     */
+    private final int myHeight;
+
+    /**
+     * Number of vertical (east/west) edges, which come before the horizontal ones.
+     */
+    private final int myVerticalCount;
+
+    /**
+     * Total number of edges.
+     */
+    private final int myEdgeCount;
+
+    /**
+     * The number of words holding the doors.
+     */
+    private final int myWordCount;
+
+    /**
+     * The packed door flags, two bits per edge, in pages of {@link #PAGE_WORDS}.
+     */
+    private final long[][] myPages;
+
+    /**
+     * Whether each page may also be used by another grid and must be copied before it
+     * is changed.
+     */
+    private final boolean[] myShared;
+
+    /**
+     * Creates a grid of the given size with every door closed.
+     * @param theWidth - The number of rooms in each row.
+     * @param theHeight - The number of rows.
+     */
+    public DoorGrid(final int theWidth, final int theHeight) {
+        if (theWidth < 1 || theHeight < 1) {
+            throw new IllegalArgumentException("Grid dimensions must be positive: "
+                                                + theWidth + "x" + theHeight);
+        }
+        final long edges = (long) (theWidth + 1) * theHeight
+                            + (long) theWidth * (theHeight + 1);
+        if (edges > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Grid of " + theWidth + "x" + theHeight
+                                                + " is too large");
+        }
+        myWidth = theWidth;
+        myHeight = theHeight;
+        myVerticalCount = (theWidth + 1) * theHeight;
+        myEdgeCount = (int) edges;
+        myWordCount = (int) ((edges + EDGES_PER_WORD - 1) / EDGES_PER_WORD);
+        myPages = new long[(myWordCount + PAGE_WORDS - 1) >>> PAGE_SHIFT][];
+        for (int page = 0; page < myPages.length; page++) {
+            myPages[page] = new long[Math.min(PAGE_WORDS, myWordCount - (page << PAGE_SHIFT))];
+        }
+        myShared = new boolean[myPages.length];
+    }
+
+    /**
+     * Creates a grid sharing every page of another one.
+     * @param theOther - The grid to copy.
+     */
+    private DoorGrid(final DoorGrid theOther) {
+        myWidth = theOther.myWidth;
+        myHeight = theOther.myHeight;
+        myVerticalCount = theOther.myVerticalCount;
+        myEdgeCount = theOther.myEdgeCount;
+        myWordCount = theOther.myWordCount;
+        myPages = theOther.myPages.clone();
+        myShared = new boolean[myPages.length];
+        Arrays.fill(myShared, true);
+        Arrays.fill(theOther.myShared, true);
+    }
+
+    /**
+     * Copies the grid in time proportional to its number of pages, not its doors. The
+     * two grids share their pages until either one changes a page.
+     * @return The copy.
+     */
+    public DoorGrid copy() {
+        return new DoorGrid(this);
+    }
+
+    /**
+     * Gets the number of rooms in each row.
+     * @return The width of the grid.
+     */
+    public int getWidth() {
+        return myWidth;
+    }
+
+    /**
+     * Gets the number of rows.
+     * @return The height of the grid.
+     */
+    public int getHeight() {
+        return myHeight;
+    }
+
+    /**
+     * Gets the number of rooms in the grid.
+     * @return The number of rooms.
+     */
+    public int getRoomCount() {
+        return myWidth * myHeight;
+    }
+
+    /**
+     * Gets the number of edges in the grid, including the outer walls.
+     * @return The number of edges.
+     */
+    public int getEdgeCount() {
+        return myEdgeCount;
+    }
+
+    /**
+     * Gets the row by row index of a room.
+     * @param theX - The x coordinate.
+     * @param theY - The y coordinate.
+     * @return The index of the room.
+     */
+    public int indexOf(final int theX, final int theY) {
+        return theY * myWidth + theX;
+    }
+
+    /**
+     * Gets the edge behind the door of a room.
+     * @param theRoom - The index of the room.
+     * @param theDirection - The side of the room the door is on.
+     * @return The index of the edge.
+     */
+    public int edgeOf(final int theRoom, final Direction theDirection) {
+        final int x = theRoom % myWidth;
+        final int y = theRoom / myWidth;
+        return switch (theDirection) {
+            case WEST -> y * (myWidth + 1) + x;
+            case EAST -> y * (myWidth + 1) + x + 1;
+            case NORTH -> myVerticalCount + theRoom;
+            case SOUTH -> myVerticalCount + theRoom + myWidth;
+        };
+    }
+
+    /**
+     * Gets the room on the other side of a door.
+     * @param theRoom - The index of the room.
+     * @param theDirection - The side of the room the door is on.
+     * @return The index of the neighbouring room, or -1 if the door is in the outer wall.
+     */
+    public int neighbour(final int theRoom, final Direction theDirection) {
+        final int x = theRoom % myWidth;
+        return switch (theDirection) {
+            case WEST -> x == 0 ? -1 : theRoom - 1;
+            case EAST -> x == myWidth - 1 ? -1 : theRoom + 1;
+            case NORTH -> theRoom < myWidth ? -1 : theRoom - myWidth;
+            case SOUTH -> theRoom >= getRoomCount() - myWidth ? -1 : theRoom + myWidth;
+        };
+    }
+
+    /**
+     * Checks if the player can walk through a door: it must be open, not answered
+     * incorrectly, and lead to another room.
+     * @param theRoom - The index of the room.
+     * @param theDirection - The side of the room the door is on.
+     * @return True if the door can be passed. False otherwise.
+     */
+    public boolean canPass(final int theRoom, final Direction theDirection) {
+        return flags(edgeOf(theRoom, theDirection)) == OPEN
+                && neighbour(theRoom, theDirection) >= 0;
+    }
+
+    /**
+     * Gets every door of a room the player can walk through, as a bit mask with bit
+     * {@code 1 << direction.ordinal()} set for each passable direction. This reads all
+     * four doors at once for searches that visit many rooms.
+     * @param theRoom - The index of the room.
+     * @return The mask of passable directions.
+     */
+    public int passableDirections(final int theRoom) {
+        final int x = theRoom % myWidth;
+        final int y = theRoom / myWidth;
+        final int west = y * (myWidth + 1) + x;
+        final int north = myVerticalCount + theRoom;
+        int mask = 0;
+        if (y > 0 && flags(north) == OPEN) {
+            mask |= 1 << Direction.NORTH.ordinal();
+        }
+        if (y < myHeight - 1 && flags(north + myWidth) == OPEN) {
+            mask |= 1 << Direction.SOUTH.ordinal();
+        }
+        if (x < myWidth - 1 && flags(west + 1) == OPEN) {
+            mask |= 1 << Direction.EAST.ordinal();
+        }
+        if (x > 0 && flags(west) == OPEN) {
+            mask |= 1 << Direction.WEST.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * Checks if a door is open.
+     * @param theEdge - The index of the edge.
+     * @return True if the door is open. False otherwise.
+     */
+    public boolean isOpen(final int theEdge) {
+        return (flags(theEdge) & OPEN) != 0;
+    }
+
+    /**
+     * Checks if a door has been answered incorrectly.
+     * @param theEdge - The index of the edge.
+     * @return True if the door was answered incorrectly. False otherwise.
+     */
+    public boolean isAnsweredIncorrectly(final int theEdge) {
+        return (flags(theEdge) & INCORRECT) != 0;
+    }
+
+    /**
+     * Opens or closes a door.
+     * @param theEdge - The index of the edge.
+     * @param isOpen - True to open the door, false to close it.
+     */
+    public void setOpen(final int theEdge, final boolean isOpen) {
+        if (isOpen) {
+            set(theEdge, OPEN);
+        } else {
+            clear(theEdge, OPEN);
+        }
+    }
+
+    /**
+     * Closes a door and marks it as answered incorrectly.
+     * @param theEdge - The index of the edge.
+     */
+    public void markAnsweredIncorrectly(final int theEdge) {
+        clear(theEdge, OPEN);
+        set(theEdge, INCORRECT);
+    }
+
+    /**
+     * Gets both flags of a door as they are packed: 1 if it is open and 2 if it was
+     * answered incorrectly.
+     * @param theEdge - The index of the edge.
+     * @return The flags of the edge.
+     */
+    public int getFlags(final int theEdge) {
+        return (int) flags(theEdge);
+    }
+
+    /**
+     * Replaces both flags of a door with ones from {@link #getFlags}.
+     * @param theEdge - The index of the edge.
+     * @param theFlags - The flags of the edge.
+     */
+    public void setFlags(final int theEdge, final int theFlags) {
+        final int word = theEdge >>> 5;
+        final int shift = (theEdge & 31) << 1;
+        writeWord(word, (word(word) & ~((OPEN | INCORRECT) << shift))
+                        | ((theFlags & (OPEN | INCORRECT)) << shift));
+    }
+
+    /**
+     * Gets a copy of the packed door flags, two bits per edge in edge order, for saving.
+     * @return The packed flags.
+     */
+    public long[] getWords() {
+        final long[] words = new long[myWordCount];
+        for (int page = 0; page < myPages.length; page++) {
+            System.arraycopy(myPages[page], 0, words, page << PAGE_SHIFT,
+                             myPages[page].length);
+        }
+        return words;
+    }
+
+    /**
+     * Gets the number of pages holding the doors.
+     * @return The number of pages.
+     */
+    int getPageCount() {
+        return myPages.length;
+    }
+
+    /**
+     * Gets a page of the doors, to tell which pages two grids share.
+     * @param thePage - The index of the page.
+     * @return The page, which must not be changed.
+     */
+    long[] getPage(final int thePage) {
+        return myPages[thePage];
+    }
+
+    /**
+     * Gets the number of words needed to hold the doors of a grid.
+     * @param theWidth - The number of rooms in each row.
+     * @param theHeight - The number of rows.
+     * @return The number of words.
+     */
+    public static int wordCount(final int theWidth, final int theHeight) {
+        final long edges = (long) (theWidth + 1) * theHeight + (long) theWidth * (theHeight + 1);
+        return (int) ((edges + EDGES_PER_WORD - 1) / EDGES_PER_WORD);
+    }
+
+    /**
+     * Replaces every door flag with saved ones.
+     * @param theWords - Packed flags from {@link #getWords()} of a grid of the same size.
+     * @throws IllegalArgumentException if the number of words does not match the grid.
+     */
+    public void setWords(final long[] theWords) {
+        setWords(LongBuffer.wrap(theWords));
+    }
+
+    /**
+     * Replaces every door flag with saved ones read straight from a buffer, such as a
+     * mapped save file, without an intermediate array.
+     * @param theWords - Packed flags of a grid of the same size, from the buffer's
+     *                   position to its limit. The buffer's position is not changed.
+     * @throws IllegalArgumentException if the number of words does not match the grid.
+     */
+    public void setWords(final LongBuffer theWords) {
+        if (theWords.remaining() != myWordCount) {
+            throw new IllegalArgumentException("Expected " + myWordCount
+                                                + " door words but got " + theWords.remaining());
+        }
+        final LongBuffer words = theWords.duplicate();
+        for (int page = 0; page < myPages.length; page++) {
+            if (myShared[page]) {
+                myPages[page] = new long[myPages[page].length];
+                myShared[page] = false;
+            }
+            words.get(myPages[page]);
+        }
+    }
+
+    /**
+     * Opens every door between two rooms. Doors in the outer wall stay closed.
+     */
+    public void openInterior() {
+        openRange(0, myVerticalCount);
+        for (int y = 0; y < myHeight; y++) {
+            clear(y * (myWidth + 1), OPEN);
+            clear(y * (myWidth + 1) + myWidth, OPEN);
+        }
+        openRange(myVerticalCount + myWidth, myEdgeCount - myWidth);
+    }
+
+    /**
+     * Opens a range of edges, a whole word at a time where possible.
+     * @param theFrom - The first edge, inclusive.
+     * @param theTo - The last edge, exclusive.
+     */
+    private void openRange(final int theFrom, final int theTo) {
+        int edge = theFrom;
+        while (edge < theTo && (edge & 31) != 0) {
+            set(edge++, OPEN);
+        }
+        while (theTo - edge >= EDGES_PER_WORD) {
+            writeWord(edge >>> 5, word(edge >>> 5) | ALL_OPEN);
+            edge += EDGES_PER_WORD;
+        }
+        while (edge < theTo) {
+            set(edge++, OPEN);
+        }
+    }
+
+    /**
+     * Reads the two flag bits of an edge.
+     * @param theEdge - The index of the edge.
+     * @return The flags of the edge.
+     */
+    private long flags(final int theEdge) {
+        return (word(theEdge >>> 5) >>> ((theEdge & 31) << 1)) & (OPEN | INCORRECT);
+    }
+
+    /**
+     * Sets flag bits of an edge.
+     * @param theEdge - The index of the edge.
+     * @param theFlags - The flags to set.
+     */
+    private void set(final int theEdge, final long theFlags) {
+        writeWord(theEdge >>> 5, word(theEdge >>> 5) | theFlags << ((theEdge & 31) << 1));
+    }
+
+    /**
+     * Clears flag bits of an edge.
+     * @param theEdge - The index of the edge.
+     * @param theFlags - The flags to clear.
+     */
+    private void clear(final int theEdge, final long theFlags) {
+        writeWord(theEdge >>> 5, word(theEdge >>> 5) & ~(theFlags << ((theEdge & 31) << 1)));
+    }
+
+    /**
+     * Reads a word of packed flags.
+     * @param theWord - The index of the word.
+     * @return The word.
+     */
+    private long word(final int theWord) {
+        return myPages[theWord >>> PAGE_SHIFT][theWord & PAGE_MASK];
+    }
+
+    /**
+     * Writes a word of packed flags, first copying its page if it is shared. Writing
+     * the value a word already has changes nothing and copies nothing.
+     * @param theWord - The index of the word.
+     * @param theValue - The new value of the word.
+     */
+    private void writeWord(final int theWord, final long theValue) {
+        final int page = theWord >>> PAGE_SHIFT;
+        if (myPages[page][theWord & PAGE_MASK] == theValue) {
+            return;
+        }
+        if (myShared[page]) {
+            myPages[page] = myPages[page].clone();
+            myShared[page] = false;
+        }
+        myPages[page][theWord & PAGE_MASK] = theValue;
+    }
+}
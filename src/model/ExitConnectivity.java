@@ -0,0 +1,328 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * ExitConnectivity.java
+ */
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Keeps track of which rooms of a {@link DoorGrid} can still reach the exit, so that
+ * checking for game over is a single bit lookup.
+ * <p>
+ * Doors only ever get locked during a game, so the set of rooms connected to the exit
+ * only shrinks. When a door is locked, two breadth first searches are run in turns from
+ * the rooms on either side of it. If they meet, nothing changed. Otherwise the search
+ * that runs out of rooms first has found the whole piece that was cut off, and only
+ * that piece (the smaller one) is updated. Each lock therefore costs time proportional
+ * to the smaller side of the cut rather than to the size of the maze.
+ * </p>
+ * <p>
+ * Doors must not be reopened once they are locked; after changing the grid in any
+ * other way, call {@link #rebuild()}. Instances are not thread safe.
+ * </p>
+ *
+ * @version 10/17/2026
+ */
+public final class ExitConnectivity {
+
+    /**
+     * The directions, cached because {@code Direction.values()} copies its array.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * The grid being tracked.
+     */
+    private final DoorGrid myGrid;
+
+    /**
+     * The index of the exit room.
+     */
+    private final int myExit;
+
+    /**
+     * One bit per room, set while the room can reach the exit.
+     */
+    private final long[] myConnected;
+
+    /**
+     * Search from the room on the near side of a locked door.
+     */
+    private final Search myNear;
+
+    /**
+     * Search from the room on the far side of a locked door.
+     */
+    private final Search myFar;
+
+    /**
+     * Creates a tracker for a grid and computes which rooms reach the exit.
+     * @param theGrid - The grid to track.
+     * @param theExit - The index of the exit room.
+     */
+    public ExitConnectivity(final DoorGrid theGrid, final int theExit) {
+        this(theGrid, theExit, false);
+    }
+
+    /**
+     * Creates a tracker for a grid.
+     * @param theGrid - The grid to track.
+     * @param theExit - The index of the exit room.
+     * @param isOpenGrid - True if every interior door of the grid is known to be open,
+     *                     so every room reaches the exit without searching.
+     */
+    private ExitConnectivity(final DoorGrid theGrid, final int theExit,
+                             final boolean isOpenGrid) {
+        myGrid = theGrid;
+        myExit = theExit;
+        final int words = (theGrid.getRoomCount() + 63) >>> 6;
+        myConnected = new long[words];
+        myNear = new Search(words);
+        myFar = new Search(words);
+        if (isOpenGrid) {
+            Arrays.fill(myConnected, -1L);
+        } else {
+            rebuild();
+        }
+    }
+
+    /**
+     * Creates a tracker for a grid whose interior doors are all open, such as a new
+     * maze. This skips the search over every room.
+     * @param theGrid - The grid to track.
+     * @param theExit - The index of the exit room.
+     * @return The tracker.
+     */
+    public static ExitConnectivity forOpenGrid(final DoorGrid theGrid, final int theExit) {
+        return new ExitConnectivity(theGrid, theExit, true);
+    }
+
+    /**
+     * Recomputes from scratch which rooms can reach the exit. This is a breadth first
+     * search from the exit whose queue is a ring buffer, so it only holds the current
+     * frontier rather than every room of the maze.
+     */
+    public void rebuild() {
+        Arrays.fill(myConnected, 0L);
+        int[] queue = new int[64];
+        int head = 0;
+        int count = 0;
+        set(myConnected, myExit);
+        queue[count++] = myExit;
+
+        while (count > 0) {
+            final int room = queue[head];
+            head = (head + 1) & (queue.length - 1);
+            count--;
+            final int passable = myGrid.passableDirections(room);
+            for (Direction dir : DIRECTIONS) {
+                if ((passable & (1 << dir.ordinal())) == 0) {
+                    continue;
+                }
+                final int next = step(myGrid, room, dir);
+                if (!get(myConnected, next)) {
+                    set(myConnected, next);
+                    if (count == queue.length) {
+                        final int[] bigger = new int[queue.length * 2];
+                        for (int i = 0; i < count; i++) {
+                            bigger[i] = queue[(head + i) & (queue.length - 1)];
+                        }
+                        queue = bigger;
+                        head = 0;
+                    }
+                    queue[(head + count) & (queue.length - 1)] = next;
+                    count++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if the exit can still be reached from a room.
+     * @param theRoom - The index of the room.
+     * @return True if a path to the exit exists. False otherwise.
+     */
+    public boolean isExitReachable(final int theRoom) {
+        return get(myConnected, theRoom);
+    }
+
+    /**
+     * Updates the tracker after a door has been locked.
+     * @param theRoom - The index of a room next to the door.
+     * @param theDirection - The side of the room the door is on.
+     */
+    public void onDoorLocked(final int theRoom, final Direction theDirection) {
+        final int other = myGrid.neighbour(theRoom, theDirection);
+        if (other < 0 || !isExitReachable(theRoom) || !isExitReachable(other)) {
+            return;
+        }
+        myNear.start(theRoom);
+        myFar.start(other);
+        Search cutOff = null;
+        while (cutOff == null) {
+            if (myNear.isDone()) {
+                cutOff = myNear;
+            } else if (myFar.isDone()) {
+                cutOff = myFar;
+            } else if (myNear.expand(myGrid, myFar) || myFar.expand(myGrid, myNear)) {
+                break;
+            }
+        }
+
+        if (cutOff != null) {
+            if (get(cutOff.myMarks, myExit)) {
+                Arrays.fill(myConnected, 0L);
+                for (int i = 0; i < cutOff.mySize; i++) {
+                    set(myConnected, cutOff.myRooms[i]);
+                }
+            } else {
+                for (int i = 0; i < cutOff.mySize; i++) {
+                    final int room = cutOff.myRooms[i];
+                    myConnected[room >>> 6] &= ~(1L << room);
+                }
+            }
+        }
+        myNear.clear();
+        myFar.clear();
+    }
+
+    /**
+     * Gets the room next to another. The caller has already checked that the
+     * neighbour exists.
+     * @param theGrid - The grid.
+     * @param theRoom - The index of the room.
+     * @param theDirection - The direction to step in.
+     * @return The index of the neighbouring room.
+     */
+    private static int step(final DoorGrid theGrid, final int theRoom,
+                            final Direction theDirection) {
+        return switch (theDirection) {
+            case NORTH -> theRoom - theGrid.getWidth();
+            case SOUTH -> theRoom + theGrid.getWidth();
+            case EAST -> theRoom + 1;
+            case WEST -> theRoom - 1;
+        };
+    }
+
+    /**
+     * Reads a bit of a bitmap.
+     * @param theBits - The bitmap.
+     * @param theRoom - The index of the room.
+     * @return True if the bit is set.
+     */
+    private static boolean get(final long[] theBits, final int theRoom) {
+        return (theBits[theRoom >>> 6] & (1L << theRoom)) != 0;
+    }
+
+    /**
+     * Sets a bit of a bitmap.
+     * @param theBits - The bitmap.
+     * @param theRoom - The index of the room.
+     */
+    private static void set(final long[] theBits, final int theRoom) {
+        theBits[theRoom >>> 6] |= 1L << theRoom;
+    }
+
+    /**
+     * A breadth first search that can be advanced one room at a time. The rooms it has
+     * seen double as its queue, and are used afterwards to clear its marks.
+     */
+    private static final class Search {
+
+        /**
+         * One bit per room seen by this search.
+         */
+        private final long[] myMarks;
+
+        /**
+         * Every room seen, in the order it was found.
+         */
+        private int[] myRooms;
+
+        /**
+         * Position of the next room to expand.
+         */
+        private int myHead;
+
+        /**
+         * Number of rooms seen.
+         */
+        private int mySize;
+
+        /**
+         * Creates a search with a bitmap of the given number of words.
+         * @param theWords - The size of the bitmap.
+         */
+        private Search(final int theWords) {
+            myMarks = new long[theWords];
+            myRooms = new int[64];
+        }
+
+        /**
+         * Starts the search from a room.
+         * @param theRoom - The index of the room.
+         */
+        private void start(final int theRoom) {
+            myHead = 0;
+            mySize = 0;
+            add(theRoom);
+        }
+
+        /**
+         * Checks if every room reachable from the start has been expanded.
+         * @return True if the search is finished.
+         */
+        private boolean isDone() {
+            return myHead == mySize;
+        }
+
+        /**
+         * Expands the next room of the search.
+         * @param theGrid - The grid being searched.
+         * @param theOther - The search running from the other side.
+         * @return True if a room seen by the other search was reached.
+         */
+        private boolean expand(final DoorGrid theGrid, final Search theOther) {
+            final int room = myRooms[myHead++];
+            final int passable = theGrid.passableDirections(room);
+            for (Direction dir : DIRECTIONS) {
+                if ((passable & (1 << dir.ordinal())) == 0) {
+                    continue;
+                }
+                final int next = step(theGrid, room, dir);
+                if (get(theOther.myMarks, next)) {
+                    return true;
+                }
+                if (!get(myMarks, next)) {
+                    add(next);
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Marks a room as seen and queues it.
+         * @param theRoom - The index of the room.
+         */
+        private void add(final int theRoom) {
+            set(myMarks, theRoom);
+            if (mySize == myRooms.length) {
+                myRooms = Arrays.copyOf(myRooms, mySize * 2);
+            }
+            myRooms[mySize++] = theRoom;
+        }
+
+        /**
+         * Clears the marks of every room seen.
+         */
+        private void clear() {
+            for (int i = 0; i < mySize; i++) {
+                final int room = myRooms[i];
+                myMarks[room >>> 6] &= ~(1L << room);
+            }
+            myHead = 0;
+            mySize = 0;
+        }
+    }
+}
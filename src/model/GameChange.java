@@ -0,0 +1,280 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * GameChange.java
+ */
+package model;
+
+/**
+ * One change to the state of a game, as recorded by its {@link GameHistory}. A change
+ * holds the values from both before and after it, so it can be applied in either
+ * direction without looking at anything else. Changes are immutable.
+ *
+ * @version 10/17/2026
+ */
+public final class GameChange {
+
+    /**
+     * The kinds of change.
+     */
+    public enum Kind {
+        /** A room was created; its index and question. */
+        ROOM,
+        /** The player moved; the old and new room index. */
+        MOVE,
+        /** A door changed; its edge index and old and new flags. */
+        DOOR,
+        /** The statistics changed; their old and new values. */
+        STATS
+    }
+
+    /**
+     * The kind of change.
+     */
+    private final Kind myKind;
+
+    /**
+     * The room index of a created room or of the player after a move, or the edge of
+     * a door.
+     */
+    private final int myIndex;
+
+    /**
+     * The room index of the player before a move.
+     */
+    private final int myOldIndex;
+
+    /**
+     * The flags of a door after the change.
+     */
+    private final int myFlags;
+
+    /**
+     * The flags of a door before the change.
+     */
+    private final int myOldFlags;
+
+    /**
+     * The question of a created room.
+     */
+    private final Question myQuestion;
+
+    /**
+     * The right answers after the change.
+     */
+    private final int myRight;
+
+    /**
+     * The wrong answers after the change.
+     */
+    private final int myWrong;
+
+    /**
+     * The tries after the change.
+     */
+    private final int myTrys;
+
+    /**
+     * The right answers before the change.
+     */
+    private final int myOldRight;
+
+    /**
+     * The wrong answers before the change.
+     */
+    private final int myOldWrong;
+
+    /**
+     * The tries before the change.
+     */
+    private final int myOldTrys;
+
+    /**
+     * Creates a change. Values its kind does not use are 0.
+     * @param theKind - The kind of change.
+     * @param theIndex - The room index or edge.
+     * @param theOldIndex - The old room index of a move.
+     * @param theFlags - The new door flags.
+     * @param theOldFlags - The old door flags.
+     * @param theQuestion - The question of a created room.
+     * @param theStats - The new right answers, wrong answers and tries followed by the
+     *                   old ones, or null.
+     */
+    private GameChange(final Kind theKind, final int theIndex, final int theOldIndex,
+                       final int theFlags, final int theOldFlags, final Question theQuestion,
+                       final int[] theStats) {
+        myKind = theKind;
+        myIndex = theIndex;
+        myOldIndex = theOldIndex;
+        myFlags = theFlags;
+        myOldFlags = theOldFlags;
+        myQuestion = theQuestion;
+        if (theStats == null) {
+            myRight = 0;
+            myWrong = 0;
+            myTrys = 0;
+            myOldRight = 0;
+            myOldWrong = 0;
+            myOldTrys = 0;
+        } else {
+            myRight = theStats[0];
+            myWrong = theStats[1];
+            myTrys = theStats[2];
+            myOldRight = theStats[3];
+            myOldWrong = theStats[4];
+            myOldTrys = theStats[5];
+        }
+    }
+
+    /**
+     * Creates the change of a room being created.
+     * @param theIndex - The index of the room.
+     * @param theQuestion - The question it was given.
+     * @return The change.
+     */
+    static GameChange room(final int theIndex, final Question theQuestion) {
+        return new GameChange(Kind.ROOM, theIndex, 0, 0, 0, theQuestion, null);
+    }
+
+    /**
+     * Creates the change of the player moving.
+     * @param theOldIndex - The index of the room the player left.
+     * @param theIndex - The index of the room the player entered.
+     * @return The change.
+     */
+    static GameChange move(final int theOldIndex, final int theIndex) {
+        return new GameChange(Kind.MOVE, theIndex, theOldIndex, 0, 0, null, null);
+    }
+
+    /**
+     * Creates the change of a door's flags.
+     * @param theEdge - The edge index of the door.
+     * @param theOldFlags - The flags before the change.
+     * @param theFlags - The flags after the change.
+     * @return The change.
+     */
+    static GameChange door(final int theEdge, final int theOldFlags, final int theFlags) {
+        return new GameChange(Kind.DOOR, theEdge, 0, theFlags, theOldFlags, null, null);
+    }
+
+    /**
+     * Creates the change of the statistics.
+     * @param theOldRight - The right answers before the change.
+     * @param theOldWrong - The wrong answers before the change.
+     * @param theOldTrys - The tries before the change.
+     * @param theTrivia - The statistics after the change.
+     * @return The change.
+     */
+    static GameChange stats(final int theOldRight, final int theOldWrong,
+                            final int theOldTrys, final Trivia theTrivia) {
+        return new GameChange(Kind.STATS, 0, 0, 0, 0, null, new int[] {
+            theTrivia.getRightAnswer(), theTrivia.getWrongAnswer(), theTrivia.getTrys(),
+            theOldRight, theOldWrong, theOldTrys});
+    }
+
+    /**
+     * Gets the kind of change.
+     * @return The kind.
+     */
+    public Kind getKind() {
+        return myKind;
+    }
+
+    /**
+     * Gets the index of a created room, the room index of the player after a move, or
+     * the edge index of a door.
+     * @return The index.
+     */
+    public int getIndex() {
+        return myIndex;
+    }
+
+    /**
+     * Gets the room index of the player before a move.
+     * @return The index.
+     */
+    public int getOldIndex() {
+        return myOldIndex;
+    }
+
+    /**
+     * Gets the flags of a door after the change, as from {@link DoorGrid}.
+     * @return The flags.
+     */
+    public int getFlags() {
+        return myFlags;
+    }
+
+    /**
+     * Gets the flags of a door before the change.
+     * @return The flags.
+     */
+    public int getOldFlags() {
+        return myOldFlags;
+    }
+
+    /**
+     * Gets the question of a created room.
+     * @return The question.
+     */
+    public Question getQuestion() {
+        return myQuestion;
+    }
+
+    /**
+     * Gets the right answers after the change.
+     * @return The number of right answers.
+     */
+    public int getRightAnswers() {
+        return myRight;
+    }
+
+    /**
+     * Gets the wrong answers after the change.
+     * @return The number of wrong answers.
+     */
+    public int getWrongAnswers() {
+        return myWrong;
+    }
+
+    /**
+     * Gets the tries after the change.
+     * @return The number of tries.
+     */
+    public int getTrys() {
+        return myTrys;
+    }
+
+    /**
+     * Gets the right answers before the change.
+     * @return The number of right answers.
+     */
+    public int getOldRightAnswers() {
+        return myOldRight;
+    }
+
+    /**
+     * Gets the wrong answers before the change.
+     * @return The number of wrong answers.
+     */
+    public int getOldWrongAnswers() {
+        return myOldWrong;
+    }
+
+    /**
+     * Gets the tries before the change.
+     * @return The number of tries.
+     */
+    public int getOldTrys() {
+        return myOldTrys;
+    }
+
+    @Override
+    public String toString() {
+        return switch (myKind) {
+            case ROOM -> "ROOM " + myIndex;
+            case MOVE -> "MOVE " + myOldIndex + " -> " + myIndex;
+            case DOOR -> "DOOR " + myIndex + " " + myOldFlags + " -> " + myFlags;
+            case STATS -> "STATS " + myRight + "/" + myWrong + "/" + myTrys;
+        };
+    }
+}
@@ -0,0 +1,483 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * GameHistory.java
+ */
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * The history of a {@link Maze}: every change made to its state since it was created
+ * or restored, kept in memory as an append only log of {@link GameChange}s. The changes
+ * are grouped by the command that made them, such as an answer, and the game can be
+ * moved back and forth between commands.
+ * <p>
+ * Each change holds its values from before and after, so {@link #undo()} and
+ * {@link #redo()} apply the changes of one command to the maze directly, in time that
+ * does not depend on the size of the maze or the length of the game, and
+ * {@link #seek(int)} steps one command at a time. Played time is not rewound, and
+ * rooms stay created with the questions they were dealt.
+ * </p>
+ * <p>
+ * The log alone decides which rooms a state has: a room belongs to the states from the
+ * command that created it on, even while the game keeps it after an undo. When undone
+ * commands are dropped, the rooms they created join the next command.
+ * </p>
+ * <p>
+ * {@link #stateAt(int)} rebuilds the state after any command without touching the game,
+ * by folding the log forward or backward from the nearest known state. A snapshot of the
+ * game is kept every {@link #CHECKPOINT_INTERVAL} commands, so at most half that many
+ * commands are folded near the last {@link #MAX_CHECKPOINTS} of them; older snapshots
+ * are dropped. A snapshot shares the pages of its doors with the game, so it keeps only
+ * the pages changed since it was taken. Starting a command after an undo drops the
+ * commands that were undone. The history is not saved with the game; a loaded game
+ * starts a new one.
+ * </p>
+ * <p>
+ * A game that is never undone, such as one played back from a replay, can turn
+ * recording off with {@link #setRecording(boolean)}, so the log does not grow for as
+ * long as it is played.
+ * </p>
+ *
+ * @version 10/17/2026
+ */
+public final class GameHistory {
+
+    /**
+     * The number of commands between two snapshots.
+     */
+    public static final int CHECKPOINT_INTERVAL = 256;
+
+    /**
+     * The number of snapshots kept.
+     */
+    public static final int MAX_CHECKPOINTS = 8;
+
+    /**
+     * The game.
+     */
+    private final Maze myMaze;
+
+    /**
+     * Every change of every command, in order.
+     */
+    private final List<GameChange> myChanges = new ArrayList<>();
+
+    /**
+     * Changes made since the last command, such as a room created to be painted. They
+     * join the next command that changes more than rooms.
+     */
+    private final List<GameChange> myPending = new ArrayList<>();
+
+    /**
+     * The number of changes in the log after each command; entry 0 is 0.
+     */
+    private int[] myCommandEnds = new int[16];
+
+    /**
+     * The time played after each command; entry 0 is the time when the history began.
+     */
+    private long[] myTimes = new long[16];
+
+    /**
+     * The number of commands in the log.
+     */
+    private int myCommandCount;
+
+    /**
+     * The number of commands the game is at.
+     */
+    private int myPosition;
+
+    /**
+     * Snapshots of the game by the number of commands they were taken after.
+     */
+    private final TreeMap<Integer, MazeState> myCheckpoints = new TreeMap<>();
+
+    /**
+     * Whether changes are added to the log.
+     */
+    private boolean myRecording = true;
+
+    /**
+     * Starts the history of a game at its current state.
+     * @param theMaze - The game.
+     */
+    GameHistory(final Maze theMaze) {
+        myMaze = theMaze;
+        myTimes[0] = theMaze.getTrivia().getElapsedTime();
+    }
+
+    /**
+     * Adds a change made to the game. It becomes part of the command that is running,
+     * or of the next one.
+     * @param theChange - The change.
+     */
+    void record(final GameChange theChange) {
+        if (myRecording) {
+            myPending.add(theChange);
+        }
+    }
+
+    /**
+     * Ends a command, adding the changes it made to the log as one step. A command that
+     * only created rooms, such as a move that asked a question, is not a step of its own;
+     * its rooms join the next one. Commands undone before it are dropped.
+     */
+    void endCommand() {
+        if (!hasStateChange()) {
+            return;
+        }
+        if (myPosition < myCommandCount) {
+            final List<GameChange> dropped =
+                myChanges.subList(myCommandEnds[myPosition], myChanges.size());
+            int at = 0;
+            for (GameChange change : dropped) {
+                if (change.getKind() == GameChange.Kind.ROOM) {
+                    myPending.add(at++, change);
+                }
+            }
+            dropped.clear();
+            myCommandCount = myPosition;
+            myCheckpoints.tailMap(myPosition, false).clear();
+        }
+        myChanges.addAll(myPending);
+        myPending.clear();
+        if (myCommandCount + 1 == myCommandEnds.length) {
+            myCommandEnds = Arrays.copyOf(myCommandEnds, myCommandEnds.length * 2);
+            myTimes = Arrays.copyOf(myTimes, myTimes.length * 2);
+        }
+        myCommandCount++;
+        myCommandEnds[myCommandCount] = myChanges.size();
+        myTimes[myCommandCount] = myMaze.getTrivia().getElapsedTime();
+        myPosition = myCommandCount;
+        if (myCommandCount % CHECKPOINT_INTERVAL == 0) {
+            myCheckpoints.put(myCommandCount, myMaze.snapshot());
+            if (myCheckpoints.size() > MAX_CHECKPOINTS) {
+                myCheckpoints.pollFirstEntry();
+            }
+        }
+    }
+
+    /**
+     * Checks if a change other than a created room is waiting to be added to the log.
+     * @return True if the running command changed more than rooms.
+     */
+    private boolean hasStateChange() {
+        for (GameChange change : myPending) {
+            if (change.getKind() != GameChange.Kind.ROOM) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Turns recording of changes on or off. Either way the history starts over at the
+     * game's current state, with no commands to undo or redo.
+     * @param isRecording - Whether to add changes to the log.
+     */
+    public void setRecording(final boolean isRecording) {
+        myRecording = isRecording;
+        myChanges.clear();
+        myPending.clear();
+        myCheckpoints.clear();
+        myCommandCount = 0;
+        myPosition = 0;
+        myTimes[0] = myMaze.getTrivia().getElapsedTime();
+    }
+
+    /**
+     * Checks if changes are added to the log.
+     * @return True if the history is recording.
+     */
+    public boolean isRecording() {
+        return myRecording;
+    }
+
+    /**
+     * Gets the number of commands in the history.
+     * @return The number of commands.
+     */
+    public int size() {
+        return myCommandCount;
+    }
+
+    /**
+     * Gets the number of commands the game is at; less than {@link #size()} after an undo.
+     * @return The position.
+     */
+    public int getPosition() {
+        return myPosition;
+    }
+
+    /**
+     * Checks if there is a command to undo.
+     * @return True if the game is after its first command.
+     */
+    public boolean canUndo() {
+        return myPosition > 0;
+    }
+
+    /**
+     * Checks if there is an undone command to redo.
+     * @return True if a command was undone and not dropped.
+     */
+    public boolean canRedo() {
+        return myPosition < myCommandCount;
+    }
+
+    /**
+     * Takes the game back to before its last command and fires
+     * {@link MazeEventType#RESTORED}.
+     * @return True if a command was undone. False if there was none.
+     */
+    public boolean undo() {
+        if (!canUndo()) {
+            return false;
+        }
+        stepBack();
+        myMaze.restored();
+        return true;
+    }
+
+    /**
+     * Makes the last undone command again and fires {@link MazeEventType#RESTORED}.
+     * @return True if a command was redone. False if there was none.
+     */
+    public boolean redo() {
+        if (!canRedo()) {
+            return false;
+        }
+        stepForward();
+        myMaze.restored();
+        return true;
+    }
+
+    /**
+     * Moves the game to just after a command, one command at a time, and fires
+     * {@link MazeEventType#RESTORED} once.
+     * @param thePosition - The number of commands, from 0 to {@link #size()}.
+     * @throws IndexOutOfBoundsException if the position is not in the history.
+     */
+    public void seek(final int thePosition) {
+        checkPosition(thePosition);
+        if (thePosition == myPosition) {
+            return;
+        }
+        while (myPosition > thePosition) {
+            stepBack();
+        }
+        while (myPosition < thePosition) {
+            stepForward();
+        }
+        myMaze.restored();
+    }
+
+    /**
+     * Rebuilds the state of the game just after a command without changing the game.
+     * @param thePosition - The number of commands, from 0 to {@link #size()}.
+     * @return The state.
+     * @throws IndexOutOfBoundsException if the position is not in the history.
+     */
+    public MazeState stateAt(final int thePosition) {
+        checkPosition(thePosition);
+        int base = myPosition;
+        MazeState state = null;
+        Map.Entry<Integer, MazeState> nearest = myCheckpoints.floorEntry(thePosition);
+        final Map.Entry<Integer, MazeState> above = myCheckpoints.ceilingEntry(thePosition);
+        if (nearest == null
+            || above != null && above.getKey() - thePosition < thePosition - nearest.getKey()) {
+            nearest = above;
+        }
+        if (nearest != null
+            && Math.abs(nearest.getKey() - thePosition) < Math.abs(base - thePosition)) {
+            base = nearest.getKey();
+            state = nearest.getValue();
+        }
+        if (state == null) {
+            final Set<Integer> later = new HashSet<>();
+            for (GameChange change : myPending) {
+                if (change.getKind() == GameChange.Kind.ROOM) {
+                    later.add(change.getIndex());
+                }
+            }
+            for (int i = myCommandEnds[myPosition]; i < myCommandEnds[myCommandCount]; i++) {
+                if (myChanges.get(i).getKind() == GameChange.Kind.ROOM) {
+                    later.add(myChanges.get(i).getIndex());
+                }
+            }
+            state = withoutRooms(myMaze.snapshot(), later);
+        }
+        return fold(state, base, thePosition);
+    }
+
+    /**
+     * Gets the memory held by the snapshots the history keeps: the pages of their doors
+     * that the game no longer shares, counting each page once.
+     * @return The number of bytes.
+     */
+    long getCheckpointBytes() {
+        final DoorGrid live = myMaze.getDoorGrid();
+        final Set<long[]> pages = Collections.newSetFromMap(new IdentityHashMap<>());
+        long bytes = 0;
+        for (MazeState checkpoint : myCheckpoints.values()) {
+            final DoorGrid doors = checkpoint.getDoorGrid();
+            for (int page = 0; page < doors.getPageCount(); page++) {
+                if (doors.getPage(page) != live.getPage(page) && pages.add(doors.getPage(page))) {
+                    bytes += (long) Long.BYTES * doors.getPage(page).length;
+                }
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Gets the changes made by the commands after one position up to another, in the
+     * order they were made. Applying them to the state at the first position gives the
+     * state at the second.
+     * @param theFrom - The earlier position.
+     * @param theTo - The later position.
+     * @return A copy of the changes.
+     * @throws IndexOutOfBoundsException if a position is not in the history.
+     * @throws IllegalArgumentException if the first position is after the second.
+     */
+    public List<GameChange> changesBetween(final int theFrom, final int theTo) {
+        checkPosition(theFrom);
+        checkPosition(theTo);
+        if (theFrom > theTo) {
+            throw new IllegalArgumentException("Position " + theFrom + " is after " + theTo);
+        }
+        return List.copyOf(myChanges.subList(myCommandEnds[theFrom], myCommandEnds[theTo]));
+    }
+
+    /**
+     * Undoes the changes of the command before the position, last first.
+     */
+    private void stepBack() {
+        for (int i = myCommandEnds[myPosition] - 1; i >= myCommandEnds[myPosition - 1]; i--) {
+            myMaze.apply(myChanges.get(i), false);
+        }
+        myPosition--;
+    }
+
+    /**
+     * Makes the changes of the command after the position again.
+     */
+    private void stepForward() {
+        for (int i = myCommandEnds[myPosition]; i < myCommandEnds[myPosition + 1]; i++) {
+            myMaze.apply(myChanges.get(i), true);
+        }
+        myPosition++;
+    }
+
+    /**
+     * Checks that a position is in the history.
+     * @param thePosition - The number of commands.
+     * @throws IndexOutOfBoundsException if it is not.
+     */
+    private void checkPosition(final int thePosition) {
+        if (thePosition < 0 || thePosition > myCommandCount) {
+            throw new IndexOutOfBoundsException("Position " + thePosition + " is not in 0 to "
+                                                 + myCommandCount);
+        }
+    }
+
+    /**
+     * Folds the changes between two positions into the state at the first.
+     * @param theState - The state at the first position.
+     * @param theFrom - The first position.
+     * @param theTo - The position to fold to.
+     * @return The state at the second position.
+     */
+    private MazeState fold(final MazeState theState, final int theFrom, final int theTo) {
+        final int width = theState.getWidth();
+        final DoorGrid doors = theState.copyDoors();
+        final Map<Integer, Integer> rooms = new TreeMap<>();
+        final int[] indexes = theState.getAddedRoomIndexes();
+        final int[] ids = theState.getAddedQuestionIds();
+        for (int i = 0; i < indexes.length; i++) {
+            rooms.put(indexes[i], ids[i]);
+        }
+        int room = theState.getCurrentY() * width + theState.getCurrentX();
+        int right = theState.getRightAnswers();
+        int wrong = theState.getWrongAnswers();
+        int trys = theState.getTrys();
+
+        final boolean forward = theFrom <= theTo;
+        final int first = myCommandEnds[Math.min(theFrom, theTo)];
+        final int last = myCommandEnds[Math.max(theFrom, theTo)];
+        for (int n = 0; n < last - first; n++) {
+            final GameChange change = myChanges.get(forward ? first + n : last - 1 - n);
+            switch (change.getKind()) {
+                case ROOM -> {
+                    if (forward) {
+                        final Question question = change.getQuestion();
+                        rooms.put(change.getIndex(),
+                                  question == null ? Question.NO_ID : question.getId());
+                    } else {
+                        rooms.remove(change.getIndex());
+                    }
+                }
+                case MOVE -> room = forward ? change.getIndex() : change.getOldIndex();
+                case DOOR -> doors.setFlags(change.getIndex(), forward ? change.getFlags()
+                                                                       : change.getOldFlags());
+                case STATS -> {
+                    right = forward ? change.getRightAnswers() : change.getOldRightAnswers();
+                    wrong = forward ? change.getWrongAnswers() : change.getOldWrongAnswers();
+                    trys = forward ? change.getTrys() : change.getOldTrys();
+                }
+                default -> throw new IllegalStateException("Unknown change " + change);
+            }
+        }
+
+        final int[] roomIndexes = new int[rooms.size()];
+        final int[] questionIds = new int[rooms.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Integer> entry : rooms.entrySet()) {
+            roomIndexes[i] = entry.getKey();
+            questionIds[i++] = entry.getValue();
+        }
+        return new MazeState(doors, room % width, room / width, right, wrong, trys,
+                             myTimes[theTo], theState.getSavedRooms(), roomIndexes,
+                             questionIds);
+    }
+
+    /**
+     * Drops rooms from a state, for rooms the game has but the log does not have yet at
+     * its position: those created since the last command or by undone commands.
+     * @param theState - The state.
+     * @param theIndexes - The indexes of the rooms.
+     * @return The state without the rooms.
+     */
+    private static MazeState withoutRooms(final MazeState theState,
+                                          final Set<Integer> theIndexes) {
+        if (theIndexes.isEmpty()) {
+            return theState;
+        }
+        final int[] indexes = theState.getAddedRoomIndexes();
+        final int[] ids = theState.getAddedQuestionIds();
+        final int[] newIndexes = new int[indexes.length];
+        final int[] newIds = new int[ids.length];
+        int count = 0;
+        for (int i = 0; i < indexes.length; i++) {
+            if (!theIndexes.contains(indexes[i])) {
+                newIndexes[count] = indexes[i];
+                newIds[count++] = ids[i];
+            }
+        }
+        return new MazeState(theState.copyDoors(), theState.getCurrentX(),
+                             theState.getCurrentY(), theState.getRightAnswers(),
+                             theState.getWrongAnswers(), theState.getTrys(),
+                             theState.getTime(), theState.getSavedRooms(),
+                             Arrays.copyOf(newIndexes, count), Arrays.copyOf(newIds, count));
+    }
+}
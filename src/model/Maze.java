@@ -5,36 +5,81 @@
 
 package model;
 
-import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeSupport;
 import java.io.Serial;
 import java.io.Serializable;
 import java.sql.SQLException;
 
 import java.io.*;
 
+import java.nio.IntBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
- * Maze class represents a 5x5 grid of rooms in the TriviaMaze game.
- * It handles the setup of rooms with questions, player movement, and game state events.
+ * Maze class represents a grid of rooms in the TriviaMaze game. The grid is 5x5 by
+ * default, but any width and height up to {@link #MAX_ROOMS} rooms can be chosen when
+ * the maze is constructed. It handles the setup of rooms with questions, player
+ * movement, and game state events.
  *
  * @version 8/7/2024
  */
 public class Maze implements Serializable {
     /**
-     * Constant Maze size for the maze.
+     * Default width and height of the maze.
+     */
+    public static final int DEFAULT_SIZE = 5;
+
+    /**
+     * The largest number of rooms a maze can hold (a 10,000 x 10,000 grid).
      */
-    private static final int MAZE_SIZE = 5;
+    public static final int MAX_ROOMS = 100_000_000;
 
     /**
      * Serial for the Maze
      */
     @Serial
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 3L;
+
+    /**
+     * The rooms that have been created so far, keyed by their row by row index. A room
+     * and its question are only created the first time the room is needed. Saved in a
+     * flat pass by {@link #writeObject}.
+     */
+    private transient Map<Integer, Room> myMap;
+
+    /**
+     * The doors of every room in the maze. Saved as packed words by {@link #writeObject}.
+     */
+    private transient DoorGrid myDoors;
+
+    /**
+     * Tracks which rooms can still reach the exit. Rebuilt on first use after loading.
+     */
+    private transient ExitConnectivity myConnectivity;
 
     /**
-     * Array full of rooms representing the map
+     * Question ids of loaded rooms whose question was not in the question pool when the
+     * maze was read, keyed by room index. Looked up again when the question source is
+     * replaced.
      */
-    private Room[][] myMap;
+    private transient Map<Integer, Integer> myUnresolvedIds;
+
+    /**
+     * The rooms of a mapped save not yet read, as described at
+     * {@link MazeState#getSavedRooms()}, or null. A saved room is only read and turned
+     * into a {@link Room} the first time it is needed.
+     */
+    private transient IntBuffer mySavedRooms;
+
+    /**
+     * Number of rooms in each row of the maze.
+     */
+    private final int myWidth;
+
+    /**
+     * Number of rows in the maze.
+     */
+    private final int myHeight;
 
     /**
      * Current x position of the player
@@ -47,9 +92,14 @@ public class Maze implements Serializable {
     private int myCurrentY;
 
     /**
-     * Property change support to communicate to the view
+     * Delivers the game's events to the view and other listeners.
+     */
+    private transient MazeEventBus myEvents;
+
+    /**
+     * Every change made to the game since it was created or restored.
      */
-    private PropertyChangeSupport mySupport;
+    private transient GameHistory myHistory;
 
     /**
      * Database connection for the maze
@@ -79,140 +129,478 @@ public class Maze implements Serializable {
     private QuestionFactoryProvider questionFactoryProvider;
 
     /**
-     * Constructs a new Maze, initializing the game grid and questions.
+     * Constructs a new Maze of the default size, initializing the game grid and questions.
      *
      * @param theDBConn The DatabaseConnector object for accessing the question database.
      * @throws SQLException If an error occurs during database access.
      */
     public Maze(final DatabaseConnector theDBConn) throws SQLException {
+        this(theDBConn, DEFAULT_SIZE, DEFAULT_SIZE);
+    }
+
+    /**
+     * Constructs a new Maze with the given dimensions, initializing the game grid and questions.
+     *
+     * @param theDBConn The DatabaseConnector object for accessing the question database.
+     * @param theWidth The number of rooms in each row.
+     * @param theHeight The number of rows.
+     * @throws SQLException If an error occurs during database access.
+     * @throws IllegalArgumentException If a dimension is not positive or the maze would
+     *                                  hold more than {@link #MAX_ROOMS} rooms.
+     */
+    public Maze(final DatabaseConnector theDBConn, final int theWidth, final int theHeight)
+                throws SQLException {
+        this(new QuestionGenerator(theDBConn), theWidth, theHeight);
         this.myDBConn = theDBConn;
         this.questionFactoryProvider = new QuestionFactoryProvider(theDBConn);
-        this.myQesGen = new QuestionGenerator(theDBConn);
-        this.mySupport = new PropertyChangeSupport(this);
-        this.myMap = new Room[MAZE_SIZE][MAZE_SIZE];
+    }
+
+    /**
+     * Constructs a new Maze with the given dimensions that draws its questions from a
+     * generator, without needing a database connection.
+     *
+     * @param theGenerator The source of the room questions.
+     * @param theWidth The number of rooms in each row.
+     * @param theHeight The number of rows.
+     * @throws IllegalArgumentException If a dimension is not positive or the maze would
+     *                                  hold more than {@link #MAX_ROOMS} rooms.
+     */
+    public Maze(final QuestionGenerator theGenerator, final int theWidth, final int theHeight) {
+        if (theWidth < 1 || theHeight < 1) {
+            throw new IllegalArgumentException("Maze dimensions must be positive: "
+                                                + theWidth + "x" + theHeight);
+        }
+        if ((long) theWidth * theHeight > MAX_ROOMS) {
+            throw new IllegalArgumentException("Maze of " + theWidth + "x" + theHeight
+                                                + " exceeds " + MAX_ROOMS + " rooms");
+        }
+        this.myWidth = theWidth;
+        this.myHeight = theHeight;
+        this.myQesGen = theGenerator;
+        this.myEvents = new MazeEventBus();
         buildMap();
-        setAdjacentRooms();
         myCurrentX = 0;
         myCurrentY = 0;
-        setAdjacentRooms();
         myTrivia = new Trivia("Player");
         myTrivia.startTimer();
+        myHistory = new GameHistory(this);
     }
 
     /**
-     * Builds the map with rooms, each containing a randomly assigned question.
+     * Creates a maze from a saved snapshot, looking its questions up in the database.
+     *
+     * @param theState The saved game.
+     * @param theDBConn The DatabaseConnector object for accessing the question database.
+     * @return The restored maze.
+     * @throws SQLException If an error occurs during database access.
      */
-    private void buildMap() {
-        myMap = new Room[MAZE_SIZE][MAZE_SIZE];
-        for (int i = 0; i < MAZE_SIZE; i++) {
-            for (int j = 0; j < MAZE_SIZE; j++) {
-                Question question = myQesGen.getRandomQes();
-                Room room = new Room(question);
-
-                for (Direction dir : Direction.values()) {
-                    room.setDoorOpen(dir,true);
-                }
+    public static Maze fromState(final MazeState theState, final DatabaseConnector theDBConn)
+                                 throws SQLException {
+        final Maze maze = new Maze(theDBConn, theState.getWidth(), theState.getHeight());
+        maze.restore(theState);
+        return maze;
+    }
+
+    /**
+     * Creates a maze from a saved snapshot, looking its questions up in a generator's pool.
+     *
+     * @param theState The saved game.
+     * @param theGenerator The source of the room questions.
+     * @return The restored maze.
+     */
+    public static Maze fromState(final MazeState theState, final QuestionGenerator theGenerator) {
+        final Maze maze = new Maze(theGenerator, theState.getWidth(), theState.getHeight());
+        maze.restore(theState);
+        return maze;
+    }
+
+    /**
+     * Takes a snapshot of the game that can be saved and later given to
+     * {@link #fromState}. Rooms are recorded by the id of their question only. Saved
+     * rooms of a mapped save that have not been read yet are passed on as they are.
+     *
+     * @return The snapshot.
+     */
+    public MazeState snapshot() {
+        final int[] indexes = new int[myMap.size()];
+        final int[] questionIds = new int[indexes.length];
+        int i = 0;
+        for (Map.Entry<Integer, Room> entry : myMap.entrySet()) {
+            final Question question = entry.getValue().getTrivia();
+            indexes[i] = entry.getKey();
+            questionIds[i++] = question == null ? Question.NO_ID : question.getId();
+        }
+        return new MazeState(myDoors.copy(), myCurrentX, myCurrentY,
+                             myTrivia.getRightAnswer(), myTrivia.getWrongAnswer(),
+                             myTrivia.getTrys(), myTrivia.getElapsedTime(), mySavedRooms,
+                             indexes, questionIds);
+    }
 
-                if (i == 0) room.setDoorOpen(Direction.NORTH, false);
-                if (j == 0) room.setDoorOpen(Direction.WEST, false);
+    /**
+     * Replaces the doors, rooms, position and statistics with those of a snapshot of
+     * the same size. Questions missing from the pool are replaced by random ones. Saved
+     * rooms of a mapped save are left in the file until they are needed.
+     * @param theState - The saved game.
+     */
+    private void restore(final MazeState theState) {
+        myDoors.setWords(theState.getDoorBuffer());
+        myConnectivity = null;
+        myMap.clear();
+        mySavedRooms = theState.getSavedRooms();
+        final int[] indexes = theState.getAddedRoomIndexes();
+        final int[] questionIds = theState.getAddedQuestionIds();
+        for (int i = 0; i < indexes.length; i++) {
+            Question question = savedQuestion(questionIds[i]);
+            if (question == null) {
+                question = myQesGen.getRandomQes();
+            }
+            myMap.put(indexes[i], new Room(question, myDoors, indexes[i]));
+        }
+        myCurrentX = theState.getCurrentX();
+        myCurrentY = theState.getCurrentY();
+        myQuestionPending = false;
+        myPendingDirection = null;
+        myTrivia.restore(theState.getRightAnswers(), theState.getWrongAnswers(),
+                         theState.getTrys(), theState.getTime());
+        myHistory = new GameHistory(this);
+    }
 
+    /**
+     * Looks a saved question up by its id in the question pool, so every room that
+     * uses a question shares one copy of it.
+     * @param theId - The id of the question.
+     * @return The question, or null if the id is {@link Question#NO_ID} or not in the pool.
+     */
+    private Question savedQuestion(final int theId) {
+        if (theId == Question.NO_ID) {
+            return null;
+        }
+        return myQesGen.getPool().getById(theId);
+    }
 
-                myMap[i][j] = room;
+    /**
+     * Builds the map. Every door between two rooms starts open; the outer wall stays
+     * closed. Rooms are not created until they are first needed.
+     */
+    private void buildMap() {
+        myDoors = new DoorGrid(myWidth, myHeight);
+        myDoors.openInterior();
+        myConnectivity = ExitConnectivity.forOpenGrid(myDoors, indexOf(myWidth - 1, myHeight - 1));
+        myMap = new HashMap<>();
+    }
+
+    /**
+     * Gets a room, creating it with a randomly assigned question the first time it is
+     * needed. A room of a mapped save is read from the file instead, with its saved
+     * question.
+     * @param theIndex - The row by row index of the room.
+     * @return The room.
+     */
+    private Room materialize(final int theIndex) {
+        Room room = myMap.get(theIndex);
+        if (room == null && mySavedRooms != null
+            && mySavedRooms.get(theIndex) != MazeState.ROOM_NOT_CREATED) {
+            Question question = savedQuestion(MazeState.questionIdOf(
+                    mySavedRooms.get(theIndex)));
+            if (question == null) {
+                question = myQesGen.getRandomQes();
             }
+            room = new Room(question, myDoors, theIndex);
+            myMap.put(theIndex, room);
+        }
+        if (room == null) {
+            room = new Room(myQesGen.getRandomQes(), myDoors, theIndex);
+            myMap.put(theIndex, room);
+            myHistory.record(GameChange.room(theIndex, room.getTrivia()));
+            myEvents.fireIndex(MazeEventType.ROOM, theIndex);
         }
+        return room;
     }
 
     /**
-     * Sets up adjacent rooms for the maze.
+     * Reads every saved room of a mapped save that has not been read yet.
      */
-    private void setAdjacentRooms() {
-        for (int i = 0; i < MAZE_SIZE; i++) {
-            for (int j = 0; j < MAZE_SIZE; j++) {
-                if (i > 0) myMap[i][j].setAdjacentRoom(Direction.NORTH, myMap[i-1][j]);
-                if (i < MAZE_SIZE-1) myMap[i][j].setAdjacentRoom(Direction.SOUTH, myMap[i+1][j]);
-                if (j > 0) myMap[i][j].setAdjacentRoom(Direction.WEST, myMap[i][j-1]);
-                if (j < MAZE_SIZE-1) myMap[i][j].setAdjacentRoom(Direction.EAST, myMap[i][j+1]);
+    private void readSavedRooms() {
+        if (mySavedRooms != null) {
+            for (int index = 0; index < mySavedRooms.capacity(); index++) {
+                if (mySavedRooms.get(index) != MazeState.ROOM_NOT_CREATED) {
+                    materialize(index);
+                }
             }
+            mySavedRooms = null;
         }
     }
 
     /**
-     * Adds a PropertyChangeListener to listen for property changes in the game state.
+     * Gets the number of rooms that have been created so far.
+     * @return The number of created rooms.
+     */
+    int getMaterializedRoomCount() {
+        return myMap.size();
+    }
+
+    /**
+     * Converts a coordinate into its position in the row by row room array.
+     * @param theX - The x coordinate
+     * @param theY - The y coordinate
+     * @return The index of the room at the coordinate.
+     */
+    private int indexOf(final int theX, final int theY) {
+        return myDoors.indexOf(theX, theY);
+    }
+
+    /**
+     * Checks if a coordinate lies inside the maze.
+     * @param theX - The x coordinate
+     * @param theY - The y coordinate
+     * @return True if the coordinate is inside the maze. False otherwise.
+     */
+    private boolean isInBounds(final int theX, final int theY) {
+        return theX >= 0 && theX < myWidth && theY >= 0 && theY < myHeight;
+    }
+
+    /**
+     * Adds a listener for some types of event in the game state.
      *
-     * @param theListener The PropertyChangeListener to add.
+     * @param theListener The listener to add.
+     * @param theTypes The types of event to give it.
      */
-    public void addPropertyChangeListener(final PropertyChangeListener theListener) {
-        mySupport.addPropertyChangeListener(theListener);
+    public void addMazeListener(final MazeListener theListener,
+                                final MazeEventType... theTypes) {
+        myEvents.subscribe(theListener, theTypes);
     }
 
     /**
-     * Returns the size of the maze
+     * Removes a listener added with {@link #addMazeListener} from every type of event.
+     *
+     * @param theListener The listener to remove.
+     */
+    public void removeMazeListener(final MazeListener theListener) {
+        myEvents.unsubscribe(theListener);
+    }
+
+    /**
+     * Returns the size of the maze. For rectangular mazes this is the width;
+     * use {@link #getWidth()} and {@link #getHeight()} instead.
      * @return The size of the maze
      */
     public int getMazeSize() {
-        return MAZE_SIZE;
+        return myWidth;
+    }
+
+    /**
+     * Returns the number of rooms in each row of the maze.
+     * @return The width of the maze
+     */
+    public int getWidth() {
+        return myWidth;
     }
 
     /**
-     * Retrieves the room at the specified coordinates.
+     * Returns the number of rows in the maze.
+     * @return The height of the maze
+     */
+    public int getHeight() {
+        return myHeight;
+    }
+
+    /**
+     * Retrieves the room at the specified coordinates, creating it and assigning its
+     * question if this is the first time it is needed.
      *
      * @param theX The X-coordinate of the room.
      * @param theY The Y-coordinate of the room.
      * @return The Room object at the specified coordinates, or null if out of bounds.
      */
     public Room getRoom(final int theX, final int theY) {
-        if (theX >= 0 && theX < MAZE_SIZE && theY >= 0 && theY < MAZE_SIZE) {
-            return myMap[theX][theY];
+        if (isInBounds(theX, theY)) {
+            return materialize(indexOf(theX, theY));
         }
         return null;
     }
 
+    /**
+     * Checks if a room has been answered without creating it.
+     * @param theX The X-coordinate of the room.
+     * @param theY The Y-coordinate of the room.
+     * @return True if the room exists and has been answered. False otherwise.
+     */
+    public boolean isRoomAnswered(final int theX, final int theY) {
+        if (!isInBounds(theX, theY)) {
+            return false;
+        }
+        final Room room = myMap.get(indexOf(theX, theY));
+        return room != null && room.isAnswered();
+    }
+
     /**
      * Starts the game by placing the player at the starting position.
      */
     public void startGame() {
-        myCurrentX = 0;
-        myCurrentY = 0;
-        mySupport.firePropertyChange("start game", null, getCurrentRoom());
+        myEvents.beginBatch();
+        try {
+            final int from = indexOf(myCurrentX, myCurrentY);
+            myCurrentX = 0;
+            myCurrentY = 0;
+            if (from != 0) {
+                myHistory.record(GameChange.move(from, 0));
+            }
+            myEvents.fireRoom(MazeEventType.START_GAME, getCurrentRoom());
+        } finally {
+            myHistory.endCommand();
+            myEvents.endBatch();
+        }
     }
 
 
     /**
      * Processes the answer and determines if the player moves in the given direction.
+     * Besides {@link MazeEventType#MOVE}, the answer and {@link MazeEventType#GAME_OVER},
+     * this fires {@link MazeEventType#DOOR_CLOSED} with the edge index of a door locked by
+     * a wrong answer and {@link MazeEventType#STATS} with the updated {@link Trivia}.
+     * The events are delivered together once the answer has been processed, and the
+     * changes are added to the {@link GameHistory} as one command.
      * @param theDirection - The direction the player is headed.
      * @param isCorrect - True if the question is correct and false otherwise.
      */
     public void processAnswer(final Direction theDirection, final boolean isCorrect) {
+        myEvents.beginBatch();
+        try {
+            answer(theDirection, isCorrect);
+        } finally {
+            myHistory.endCommand();
+            myEvents.endBatch();
+        }
+    }
+
+    /**
+     * Processes an answer, firing its events into the open batch.
+     * @param theDirection - The direction the player is headed.
+     * @param isCorrect - True if the question is correct and false otherwise.
+     */
+    private void answer(final Direction theDirection, final boolean isCorrect) {
         Room currentRoom = getCurrentRoom();
+        final int room = indexOf(myCurrentX, myCurrentY);
+        final int edge = myDoors.edgeOf(room, theDirection);
+        final int oldFlags = myDoors.getFlags(edge);
+        final int right = myTrivia.getRightAnswer();
+        final int wrong = myTrivia.getWrongAnswer();
+        final int trys = myTrivia.getTrys();
         if (isCorrect && theDirection == myPendingDirection) {
             currentRoom.getDoor(theDirection).open();
+            recordDoor(edge, oldFlags);
 
             myCurrentX += (theDirection == Direction.EAST ? 1 : (theDirection == Direction.WEST ? -1 : 0));
             myCurrentY += (theDirection == Direction.SOUTH ? 1 : (theDirection == Direction.NORTH ? -1 : 0));
             myQuestionPending = false;
             myPendingDirection = null;
+            myTrivia.incrementTrys();
+            myTrivia.incrementRightAnswer();
+            myHistory.record(GameChange.move(room, indexOf(myCurrentX, myCurrentY)));
+            myHistory.record(GameChange.stats(right, wrong, trys, myTrivia));
 
              Room newRoom = getCurrentRoom();
-             newRoom.getDoor(theDirection.getOpposite()).open();
 
-            System.out.println("Moving to: " + myCurrentX + ", " + myCurrentY);
-
-            mySupport.firePropertyChange("move", null,
-                                            new MoveEvent(newRoom, theDirection, myCurrentX, myCurrentY));
-            mySupport.firePropertyChange("correct answer", null, getCurrentRoom());
+            myEvents.fireMove(newRoom, theDirection, myCurrentX, myCurrentY);
+            myEvents.fireStats(myTrivia);
+            myEvents.fireRoom(MazeEventType.CORRECT_ANSWER, newRoom);
 
             if (isExit(myCurrentX, myCurrentY)) {
-                mySupport.firePropertyChange("game over", null, true);
+                myEvents.fireGameOver(true);
             }
         } else {
-            currentRoom.getDoor(theDirection).close();
+            currentRoom.getDoor(theDirection).markAnsweredIncorrectly();
+            recordDoor(edge, oldFlags);
+            getConnectivity().onDoorLocked(room, theDirection);
             myQuestionPending = false;
             myPendingDirection = null;
-            mySupport.firePropertyChange("wrong answer", null, currentRoom);
+            myTrivia.incrementTrys();
+            myTrivia.incrementWrongAnswer();
+            myHistory.record(GameChange.stats(right, wrong, trys, myTrivia));
+            myEvents.fireIndex(MazeEventType.DOOR_CLOSED, edge);
+            myEvents.fireStats(myTrivia);
+            myEvents.fireRoom(MazeEventType.WRONG_ANSWER, currentRoom);
 
             if (isGameOver()) {
-                mySupport.firePropertyChange("game over", null, false);
+                myEvents.fireGameOver(false);
+            }
+        }
+    }
+
+    /**
+     * Adds the change of a door to the history if its flags changed.
+     * @param theEdge - The edge index of the door.
+     * @param theOldFlags - The flags before the change.
+     */
+    private void recordDoor(final int theEdge, final int theOldFlags) {
+        final int flags = myDoors.getFlags(theEdge);
+        if (flags != theOldFlags) {
+            myHistory.record(GameChange.door(theEdge, theOldFlags, flags));
+        }
+    }
+
+    /**
+     * Gets the history of the game, to undo, redo or look back at its commands.
+     * @return The history.
+     */
+    public GameHistory getHistory() {
+        return myHistory;
+    }
+
+    /**
+     * Gets the doors of the game, to tell which pages a snapshot still shares with them.
+     * @return The doors, which must not be changed.
+     */
+    DoorGrid getDoorGrid() {
+        return myDoors;
+    }
+
+    /**
+     * Applies a change from the history without recording it. A room stays created when
+     * its change is undone, so going back cannot deal it a different question. The exit
+     * connectivity is rebuilt on next use after a door changes.
+     * @param theChange - The change.
+     * @param isForward - True to make the change, false to undo it.
+     */
+    void apply(final GameChange theChange, final boolean isForward) {
+        switch (theChange.getKind()) {
+            case ROOM -> {
+                if (isForward && !myMap.containsKey(theChange.getIndex())) {
+                    myMap.put(theChange.getIndex(), new Room(theChange.getQuestion(), myDoors,
+                                                             theChange.getIndex()));
+                }
+            }
+            case MOVE -> {
+                final int index = isForward ? theChange.getIndex() : theChange.getOldIndex();
+                myCurrentX = index % myWidth;
+                myCurrentY = index / myWidth;
             }
+            case DOOR -> {
+                myDoors.setFlags(theChange.getIndex(), isForward ? theChange.getFlags()
+                                                                 : theChange.getOldFlags());
+                myConnectivity = null;
+            }
+            case STATS -> myTrivia.restore(
+                    isForward ? theChange.getRightAnswers() : theChange.getOldRightAnswers(),
+                    isForward ? theChange.getWrongAnswers() : theChange.getOldWrongAnswers(),
+                    isForward ? theChange.getTrys() : theChange.getOldTrys(),
+                    myTrivia.getElapsedTime());
+            default -> throw new IllegalStateException("Unknown change " + theChange);
+        }
+    }
+
+    /**
+     * Finishes moving the game through its history: drops any question being asked and
+     * fires {@link MazeEventType#RESTORED} with the current room.
+     */
+    void restored() {
+        myQuestionPending = false;
+        myPendingDirection = null;
+        myEvents.beginBatch();
+        try {
+            myEvents.fireRestored(getCurrentRoom(), myCurrentX, myCurrentY);
+        } finally {
+            myEvents.endBatch();
         }
     }
 
@@ -230,20 +618,28 @@ public class Maze implements Serializable {
      * @param theDirection The direction to move ("NORTH", "SOUTH", "EAST", "WEST").
      */
     public void move(final Direction theDirection) {
-        System.out.println("Maze move method called");
+        myEvents.beginBatch();
+        try {
+            askQuestion(theDirection);
+        } finally {
+            myHistory.endCommand();
+            myEvents.endBatch();
+        }
+    }
+
+    /**
+     * Asks the question for a move, firing its events into the open batch.
+     * @param theDirection The direction to move.
+     */
+    private void askQuestion(final Direction theDirection) {
         if (canMove(theDirection)) {
             Room currentRoom = getCurrentRoom();
-            System.out.println("Can move in direction: " + theDirection);
 
             if (isValidMove(myCurrentX, myCurrentY)) {
-                System.out.println("Setting up question for direction: " + theDirection);
                 myQuestionPending = true;
                 myPendingDirection = theDirection;
-                mySupport.firePropertyChange("question", null,
-                                                new QuestionEvent(currentRoom.getTrivia(), theDirection));
+                myEvents.fireQuestion(currentRoom.getTrivia(), theDirection);
             }
-        } else {
-            System.out.println("Cannot move in direction: " + theDirection);
         }
     }
 
@@ -272,19 +668,12 @@ public class Maze implements Serializable {
         }
 
 
-        if (newX < 0 || newX >= MAZE_SIZE || newY < 0 || newY >= MAZE_SIZE) {
-            System.out.println("Move is out of bounds");
+        if (!isInBounds(newX, newY)) {
             return false;
         }
 
 
-        Room currentRoom = myMap[myCurrentY][myCurrentX];
-        boolean isDoorOpen = currentRoom.isDoorOpen(theDirection);
-        boolean isIncorrectlyAnswered = currentRoom.hasBeenAnsweredIncorrectly(theDirection);
-
-
-
-        return isDoorOpen && !isIncorrectlyAnswered;
+        return myDoors.canPass(indexOf(myCurrentX, myCurrentY), theDirection);
 
     }
 
@@ -320,17 +709,16 @@ public class Maze implements Serializable {
      * @return True if it's a valid move. False otherwise.
      */
     private boolean isValidMove(int theX, int theY) {
-        return theX >= 0 && theX < MAZE_SIZE &&
-                theY >= 0 && theY < MAZE_SIZE || isExit(theX, theY);
+        return isInBounds(theX, theY) || isExit(theX, theY);
     }
 
     /**
-     * Gets the size of the maze.
+     * Gets the size of the maze. For rectangular mazes this is the width.
      *
      * @return The size of the maze.
      */
     public int getRoomSize() {
-        return MAZE_SIZE;
+        return myWidth;
     }
 
     /**
@@ -342,6 +730,14 @@ public class Maze implements Serializable {
     }
 
 
+    /**
+     * Gets the source of the room questions and of every random choice of the game.
+     * @return The question generator.
+     */
+    public QuestionGenerator getQuestionGenerator() {
+        return myQesGen;
+    }
+
     /**
      * Reinitializes the database connector
      * @param theDbConnector - the database connector
@@ -349,16 +745,8 @@ public class Maze implements Serializable {
     public void reinitializeDatabaseConnector(final DatabaseConnector theDbConnector) {
         try {
             this.myDBConn = theDbConnector;
-            this.myQesGen = new QuestionGenerator(theDbConnector);
             this.questionFactoryProvider = new QuestionFactoryProvider(theDbConnector);
-
-            for (int i = 0; i < MAZE_SIZE; i++) {
-                for (int j = 0; j < MAZE_SIZE; j++) {
-                    if (myMap[i][j].getTrivia() == null) {
-                        myMap[i][j].setTrivia(myQesGen.getRandomQes());
-                    }
-                }
-            }
+            reinitializeQuestionGenerator(new QuestionGenerator(theDbConnector));
             System.out.println("Maze database connector reinitialized successfully");
         } catch (Exception e) {
             System.err.println("Error reinitializing Maze database connector: "
@@ -367,41 +755,43 @@ public class Maze implements Serializable {
     }
 
     /**
-     * Checks if the game is over through backtracking.
+     * Replaces the source of questions. Rooms left without a question when the maze was
+     * loaded get their saved question from the new source if it has it, or a random one.
+     * @param theGenerator - The new source of questions.
+     */
+    public void reinitializeQuestionGenerator(final QuestionGenerator theGenerator) {
+        this.myQesGen = theGenerator;
+        for (Map.Entry<Integer, Room> entry : myMap.entrySet()) {
+            final Room room = entry.getValue();
+            if (room.getTrivia() == null) {
+                Question question = null;
+                if (myUnresolvedIds != null && myUnresolvedIds.containsKey(entry.getKey())) {
+                    question = savedQuestion(myUnresolvedIds.get(entry.getKey()));
+                }
+                room.setTrivia(question != null ? question : myQesGen.getRandomQes());
+            }
+        }
+        myUnresolvedIds = null;
+    }
+
+    /**
+     * Checks if the game is over because the exit can no longer be reached.
      * @return True if the game is over. False otherwise.
      */
     public boolean isGameOver() {
-        return !hasPathToExit(myCurrentX, myCurrentY, new boolean[MAZE_SIZE][MAZE_SIZE]);
+        return !getConnectivity().isExitReachable(indexOf(myCurrentX, myCurrentY));
     }
 
     /**
-     * Maze backtracking to determine if the player can reach the exit.
-     * @param theX - The x coordinate
-     * @param theY - The y coordinate
-     * @param theVisited - A boolean array representing what places the maze visited
-     * @return True if there is a path to the exit. False otherwise
+     * Gets the exit connectivity tracker, building it from the current doors the
+     * first time it is needed after the maze is loaded.
+     * @return The exit connectivity tracker.
      */
-    private boolean hasPathToExit(final int theX, final int theY, final boolean[][] theVisited) {
-        if (theX == MAZE_SIZE - 1 && theY == MAZE_SIZE - 1) {
-            return true; // Reached the exit
+    private ExitConnectivity getConnectivity() {
+        if (myConnectivity == null) {
+            myConnectivity = new ExitConnectivity(myDoors, indexOf(myWidth - 1, myHeight - 1));
         }
-        if (theX < 0 || theX >= MAZE_SIZE || theY < 0 || theY >= MAZE_SIZE || theVisited[theX][theY]) {
-            return false;
-        }
-
-        theVisited[theX][theY] = true;
-
-        for (Direction dir : Direction.values()) {
-            if (myMap[theX][theY].isDoorOpen(dir)) {
-                int newX = theX + (dir == Direction.EAST ? 1 : (dir == Direction.WEST ? -1 : 0));
-                int newY = theY + (dir == Direction.SOUTH ? 1 : (dir == Direction.NORTH ? -1 : 0));
-                if (hasPathToExit(newX, newY, theVisited)) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
+        return myConnectivity;
     }
 
 
@@ -412,7 +802,7 @@ public class Maze implements Serializable {
      * @return True if at exit coordinate, false otherwise
      */
     private boolean isExit(final int theX, final int theY) {
-        return theX == MAZE_SIZE - 1 && theY == MAZE_SIZE - 1;
+        return theX == myWidth - 1 && theY == myHeight - 1;
     }
 
     /**
@@ -427,27 +817,93 @@ public class Maze implements Serializable {
     }
 
     /**
-     * Writes the state of the maze.
+     * Writes the state of the maze. The doors are written as their packed words and the
+     * created rooms one after another as an index and the id of their question, in a
+     * single loop, so neither the time nor the stack depth of saving depends on the
+     * layout of the maze. Only questions that did not come from the question bank are
+     * written out in full.
      * @param theOut - The state of the maze
      * @throws IOException When it cannot write the state of the maze.
      */
     @Serial
     private void writeObject(final ObjectOutputStream theOut) throws IOException {
+        readSavedRooms();
         theOut.defaultWriteObject();
+
+        final long[] words = myDoors.getWords();
+        theOut.writeInt(words.length);
+        for (long word : words) {
+            theOut.writeLong(word);
+        }
+
+        theOut.writeInt(myMap.size());
+        for (Map.Entry<Integer, Room> entry : myMap.entrySet()) {
+            final Question question = entry.getValue().getTrivia();
+            final int id = question == null ? Question.NO_ID : question.getId();
+            theOut.writeInt(entry.getKey());
+            theOut.writeInt(id);
+            if (id == Question.NO_ID) {
+                theOut.writeObject(question);
+            }
+        }
     }
 
 
     /**
-     * Writes the state of the maze.
+     * Reads the state of the maze written by {@link #writeObject}, rebuilding each room
+     * as a view over the restored doors and looking its question up in the question
+     * pool by id. Rooms whose question is not in the pool are left without one until
+     * {@link #reinitializeQuestionGenerator} is called.
      * @param theIn - The state of the maze
-     * @throws IOException When it cannot write the state of the maze.
+     * @throws IOException When it cannot read the state of the maze.
      * @throws ClassNotFoundException When it cannot find the class
      */
     @Serial
     private void readObject(ObjectInputStream theIn) throws IOException,
                             ClassNotFoundException {
         theIn.defaultReadObject();
-        mySupport = new PropertyChangeSupport(this);
+        myEvents = new MazeEventBus();
+        myHistory = new GameHistory(this);
+
+        if (myWidth < 1 || myHeight < 1 || (long) myWidth * myHeight > MAX_ROOMS) {
+            throw new InvalidObjectException("Invalid maze size " + myWidth + "x" + myHeight);
+        }
+        final int wordCount = theIn.readInt();
+        if (wordCount != DoorGrid.wordCount(myWidth, myHeight)) {
+            throw new InvalidObjectException("Door data does not match the maze size");
+        }
+        final long[] words = new long[wordCount];
+        for (int i = 0; i < wordCount; i++) {
+            words[i] = theIn.readLong();
+        }
+        myDoors = new DoorGrid(myWidth, myHeight);
+        myDoors.setWords(words);
+
+        final int roomCount = theIn.readInt();
+        if (roomCount < 0 || roomCount > myDoors.getRoomCount()) {
+            throw new InvalidObjectException("Invalid room count " + roomCount);
+        }
+        myMap = new HashMap<>();
+        for (int i = 0; i < roomCount; i++) {
+            final int index = theIn.readInt();
+            if (index < 0 || index >= myDoors.getRoomCount()) {
+                throw new InvalidObjectException("Room " + index + " is outside the maze");
+            }
+            final int id = theIn.readInt();
+            Question question;
+            if (id == Question.NO_ID) {
+                question = (Question) theIn.readObject();
+            } else {
+                question = savedQuestion(id);
+                if (question == null) {
+                    if (myUnresolvedIds == null) {
+                        myUnresolvedIds = new HashMap<>();
+                    }
+                    myUnresolvedIds.put(index, id);
+                }
+            }
+            myMap.put(index, new Room(question, myDoors, index));
+        }
     }
 
 }
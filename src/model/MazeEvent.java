@@ -0,0 +1,182 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * MazeEvent.java
+ */
+package model;
+
+/**
+ * An event reported by a {@link Maze}. Which values are set depends on its
+ * {@link MazeEventType}; the others keep their defaults.
+ * <p>
+ * A {@link MazeEventBus} keeps its event objects and fills them in again for later
+ * events, so firing an event allocates nothing. An event is only valid while the
+ * listener it was given to is running.
+ * </p>
+ *
+ * @version 10/17/2026
+ */
+public final class MazeEvent {
+
+    /**
+     * The kind of event.
+     */
+    private MazeEventType myType;
+
+    /**
+     * The room the event is about, or null.
+     */
+    private Room myRoom;
+
+    /**
+     * The question asked, or null.
+     */
+    private Question myQuestion;
+
+    /**
+     * The direction of the move or question, or null.
+     */
+    private Direction myDirection;
+
+    /**
+     * The player's x coordinate after a move or a restore.
+     */
+    private int myX;
+
+    /**
+     * The player's y coordinate after a move or a restore.
+     */
+    private int myY;
+
+    /**
+     * The index of a created room or the edge of a locked door.
+     */
+    private int myIndex;
+
+    /**
+     * Whether the player won, for a game over.
+     */
+    private boolean myWon;
+
+    /**
+     * The statistics, or null.
+     */
+    private Trivia myTrivia;
+
+    /**
+     * Creates an empty event, to be filled in by {@link #set}.
+     */
+    MazeEvent() {
+        super();
+    }
+
+    /**
+     * Sets every value of the event, clearing what the previous event left.
+     *
+     * @param theType the kind of event
+     * @param theRoom the room, or null
+     * @param theQuestion the question, or null
+     * @param theDirection the direction, or null
+     * @param theX the x coordinate
+     * @param theY the y coordinate
+     * @param theIndex the room index or door edge
+     * @param theWon whether the player won
+     * @param theTrivia the statistics, or null
+     * @return this event
+     */
+    MazeEvent set(final MazeEventType theType, final Room theRoom,
+                  final Question theQuestion, final Direction theDirection, final int theX,
+                  final int theY, final int theIndex, final boolean theWon,
+                  final Trivia theTrivia) {
+        myType = theType;
+        myRoom = theRoom;
+        myQuestion = theQuestion;
+        myDirection = theDirection;
+        myX = theX;
+        myY = theY;
+        myIndex = theIndex;
+        myWon = theWon;
+        myTrivia = theTrivia;
+        return this;
+    }
+
+    /**
+     * Gets the kind of event.
+     *
+     * @return the type
+     */
+    public MazeEventType getType() {
+        return myType;
+    }
+
+    /**
+     * Gets the room of a start, move or answer.
+     *
+     * @return the room, or null
+     */
+    public Room getRoom() {
+        return myRoom;
+    }
+
+    /**
+     * Gets the question a move asked.
+     *
+     * @return the question, or null
+     */
+    public Question getQuestion() {
+        return myQuestion;
+    }
+
+    /**
+     * Gets the direction of a question or move.
+     *
+     * @return the direction, or null
+     */
+    public Direction getDirection() {
+        return myDirection;
+    }
+
+    /**
+     * Gets the player's x coordinate after a move or a restore.
+     *
+     * @return the x coordinate
+     */
+    public int getX() {
+        return myX;
+    }
+
+    /**
+     * Gets the player's y coordinate after a move or a restore.
+     *
+     * @return the y coordinate
+     */
+    public int getY() {
+        return myY;
+    }
+
+    /**
+     * Gets the index of a created room or the edge index of a locked door.
+     *
+     * @return the index
+     */
+    public int getIndex() {
+        return myIndex;
+    }
+
+    /**
+     * Gets whether the player won, for a game over.
+     *
+     * @return true if the player reached the exit
+     */
+    public boolean isWon() {
+        return myWon;
+    }
+
+    /**
+     * Gets the updated statistics.
+     *
+     * @return the trivia, or null
+     */
+    public Trivia getTrivia() {
+        return myTrivia;
+    }
+}
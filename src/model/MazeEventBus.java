@@ -0,0 +1,339 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * MazeEventBus.java
+ */
+package model;
+
+import java.util.Arrays;
+
+/**
+ * The {@code MazeEventBus} class delivers the events of a {@link Maze} to the listeners
+ * subscribed to their {@link MazeEventType}. Listeners are kept in one array per type,
+ * indexed by the type's ordinal, so firing an event is an array lookup and a loop over
+ * only the listeners that asked for it. Nothing is built when a type has no listener.
+ * <p>
+ * Events fired between {@link #beginBatch()} and {@link #endBatch()} are queued and
+ * delivered in order when the outermost batch ends, after which every listener that got
+ * at least one of them is told once through {@link MazeListener#batchEnded()}. The maze
+ * runs each command as a batch, so a right answer that moves the player, updates the
+ * statistics and ends the game costs each listener one repaint or flush, not three. An
+ * event fired outside a batch is a batch of its own. Events fired by a listener while a
+ * batch is delivered join the end of that batch.
+ * </p>
+ * <p>
+ * Queued events are kept and filled in again for later batches, so firing allocates
+ * nothing once the queue has grown to the longest batch. Subscribing replaces the
+ * type's array instead of changing it, so a listener can subscribe or unsubscribe
+ * while an event is being delivered. The bus is meant to be used from the thread that
+ * runs the game.
+ * </p>
+ *
+ * @version 10/17/2026
+ */
+public final class MazeEventBus {
+
+    /**
+     * Every event type, in ordinal order.
+     */
+    private static final MazeEventType[] TYPES = MazeEventType.values();
+
+    /**
+     * An empty listener array shared by every type without listeners.
+     */
+    private static final MazeListener[] NONE = new MazeListener[0];
+
+    /**
+     * The listeners of each type, indexed by ordinal.
+     */
+    private final MazeListener[][] myListeners = new MazeListener[TYPES.length][];
+
+    /**
+     * The queued events; the first {@link #myQueued} are waiting to be delivered.
+     */
+    private MazeEvent[] myQueue = new MazeEvent[0];
+
+    /**
+     * The number of queued events.
+     */
+    private int myQueued;
+
+    /**
+     * The listeners given an event in the batch being delivered.
+     */
+    private MazeListener[] myNotified = new MazeListener[4];
+
+    /**
+     * The number of listeners given an event in the batch being delivered.
+     */
+    private int myNotifiedCount;
+
+    /**
+     * The number of batches begun and not yet ended.
+     */
+    private int myDepth;
+
+    /**
+     * Whether a batch is being delivered.
+     */
+    private boolean myDelivering;
+
+    /**
+     * Creates a bus without listeners.
+     */
+    public MazeEventBus() {
+        Arrays.fill(myListeners, NONE);
+    }
+
+    /**
+     * Subscribes a listener to some types of event. Subscribing to a type twice
+     * delivers its events twice.
+     *
+     * @param theListener the listener
+     * @param theTypes the types of event to deliver to it
+     */
+    public void subscribe(final MazeListener theListener, final MazeEventType... theTypes) {
+        if (theListener == null) {
+            throw new NullPointerException("Listener is null");
+        }
+        for (MazeEventType type : theTypes) {
+            final MazeListener[] old = myListeners[type.ordinal()];
+            final MazeListener[] listeners = Arrays.copyOf(old, old.length + 1);
+            listeners[old.length] = theListener;
+            myListeners[type.ordinal()] = listeners;
+        }
+    }
+
+    /**
+     * Unsubscribes a listener from every type of event. Events of the batch being
+     * delivered that it has not been given yet are not given to it.
+     *
+     * @param theListener the listener
+     */
+    public void unsubscribe(final MazeListener theListener) {
+        for (int type = 0; type < myListeners.length; type++) {
+            final MazeListener[] old = myListeners[type];
+            int count = 0;
+            for (MazeListener listener : old) {
+                if (listener != theListener) {
+                    count++;
+                }
+            }
+            if (count < old.length) {
+                final MazeListener[] listeners = count == 0 ? NONE : new MazeListener[count];
+                int i = 0;
+                for (MazeListener listener : old) {
+                    if (listener != theListener) {
+                        listeners[i++] = listener;
+                    }
+                }
+                myListeners[type] = listeners;
+            }
+        }
+    }
+
+    /**
+     * Checks whether any listener is subscribed to a type of event.
+     *
+     * @param theType the type of event
+     * @return true if events of the type are delivered to someone
+     */
+    public boolean hasListeners(final MazeEventType theType) {
+        return myListeners[theType.ordinal()].length > 0;
+    }
+
+    /**
+     * Starts a batch. Events fired until the matching {@link #endBatch()} are held back
+     * and delivered together. Batches can be nested; only the outermost one delivers.
+     */
+    public void beginBatch() {
+        myDepth++;
+    }
+
+    /**
+     * Ends a batch started by {@link #beginBatch()}, delivering its events if it is the
+     * outermost one.
+     *
+     * @throws IllegalStateException if no batch was started
+     */
+    public void endBatch() {
+        if (myDepth == 0) {
+            throw new IllegalStateException("No batch to end");
+        }
+        myDepth--;
+        if (myDepth == 0 && !myDelivering) {
+            deliver();
+        }
+    }
+
+    /**
+     * Fires an event about a room.
+     *
+     * @param theType the type of event
+     * @param theRoom the room
+     */
+    void fireRoom(final MazeEventType theType, final Room theRoom) {
+        if (hasListeners(theType)) {
+            queue().set(theType, theRoom, null, null, 0, 0, 0, false, null);
+            flushIfIdle();
+        }
+    }
+
+    /**
+     * Fires an event about a room index or door edge.
+     *
+     * @param theType the type of event
+     * @param theIndex the index
+     */
+    void fireIndex(final MazeEventType theType, final int theIndex) {
+        if (hasListeners(theType)) {
+            queue().set(theType, null, null, null, 0, 0, theIndex, false, null);
+            flushIfIdle();
+        }
+    }
+
+    /**
+     * Fires a {@link MazeEventType#QUESTION} event.
+     *
+     * @param theQuestion the question asked
+     * @param theDirection the direction of the move
+     */
+    void fireQuestion(final Question theQuestion, final Direction theDirection) {
+        if (hasListeners(MazeEventType.QUESTION)) {
+            queue().set(MazeEventType.QUESTION, null, theQuestion, theDirection, 0, 0, 0,
+                        false, null);
+            flushIfIdle();
+        }
+    }
+
+    /**
+     * Fires a {@link MazeEventType#MOVE} event.
+     *
+     * @param theRoom the new room
+     * @param theDirection the direction of the move
+     * @param theX the new x coordinate
+     * @param theY the new y coordinate
+     */
+    void fireMove(final Room theRoom, final Direction theDirection, final int theX,
+                  final int theY) {
+        if (hasListeners(MazeEventType.MOVE)) {
+            queue().set(MazeEventType.MOVE, theRoom, null, theDirection, theX, theY, 0,
+                        false, null);
+            flushIfIdle();
+        }
+    }
+
+    /**
+     * Fires a {@link MazeEventType#RESTORED} event.
+     *
+     * @param theRoom the current room
+     * @param theX the x coordinate
+     * @param theY the y coordinate
+     */
+    void fireRestored(final Room theRoom, final int theX, final int theY) {
+        if (hasListeners(MazeEventType.RESTORED)) {
+            queue().set(MazeEventType.RESTORED, theRoom, null, null, theX, theY, 0, false,
+                        null);
+            flushIfIdle();
+        }
+    }
+
+    /**
+     * Fires a {@link MazeEventType#STATS} event.
+     *
+     * @param theTrivia the statistics
+     */
+    void fireStats(final Trivia theTrivia) {
+        if (hasListeners(MazeEventType.STATS)) {
+            queue().set(MazeEventType.STATS, null, null, null, 0, 0, 0, false, theTrivia);
+            flushIfIdle();
+        }
+    }
+
+    /**
+     * Fires a {@link MazeEventType#GAME_OVER} event.
+     *
+     * @param theWon whether the player won
+     */
+    void fireGameOver(final boolean theWon) {
+        if (hasListeners(MazeEventType.GAME_OVER)) {
+            queue().set(MazeEventType.GAME_OVER, null, null, null, 0, 0, 0, theWon, null);
+            flushIfIdle();
+        }
+    }
+
+    /**
+     * Gets the next free event object at the end of the queue, growing the queue if
+     * it is full.
+     *
+     * @return the event object to fill in
+     */
+    private MazeEvent queue() {
+        if (myQueued == myQueue.length) {
+            myQueue = Arrays.copyOf(myQueue, Math.max(8, myQueue.length * 2));
+            for (int i = myQueued; i < myQueue.length; i++) {
+                myQueue[i] = new MazeEvent();
+            }
+        }
+        return myQueue[myQueued++];
+    }
+
+    /**
+     * Delivers the queue straight away if no batch is open or being delivered.
+     */
+    private void flushIfIdle() {
+        if (myDepth == 0 && !myDelivering) {
+            deliver();
+        }
+    }
+
+    /**
+     * Delivers every queued event in order, including events queued while delivering,
+     * then tells each listener that got one that the batch has ended. Events fired from
+     * {@link MazeListener#batchEnded()} are delivered afterwards the same way.
+     */
+    private void deliver() {
+        myDelivering = true;
+        try {
+            int next = 0;
+            while (next < myQueued) {
+                for (; next < myQueued; next++) {
+                    final MazeEvent event = myQueue[next];
+                    for (MazeListener listener : myListeners[event.getType().ordinal()]) {
+                        listener.mazeChanged(event);
+                        noted(listener);
+                    }
+                }
+                for (int i = 0; i < myNotifiedCount; i++) {
+                    myNotified[i].batchEnded();
+                    myNotified[i] = null;
+                }
+                myNotifiedCount = 0;
+            }
+        } finally {
+            for (int i = 0; i < myQueued; i++) {
+                myQueue[i].set(null, null, null, null, 0, 0, 0, false, null);
+            }
+            Arrays.fill(myNotified, 0, myNotifiedCount, null);
+            myQueued = 0;
+            myNotifiedCount = 0;
+            myDelivering = false;
+        }
+    }
+
+    /**
+     * Remembers that a listener was given an event in this batch.
+     *
+     * @param theListener the listener
+     */
+    private void noted(final MazeListener theListener) {
+        for (int i = 0; i < myNotifiedCount; i++) {
+            if (myNotified[i] == theListener) {
+                return;
+            }
+        }
+        if (myNotifiedCount == myNotified.length) {
+            myNotified = Arrays.copyOf(myNotified, myNotifiedCount * 2);
+        }
+        myNotified[myNotifiedCount++] = theListener;
+    }
+}
@@ -0,0 +1,34 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * MazeEventType.java
+ */
+package model;
+
+/**
+ * The kinds of event a {@link Maze} reports through its {@link MazeEventBus}, with the
+ * parts of the {@link MazeEvent} each one fills in.
+ *
+ * @version 10/17/2026
+ */
+public enum MazeEventType {
+    /** A room was created; index of the room. */
+    ROOM,
+    /** The game started; the starting room. */
+    START_GAME,
+    /** A move asked a question; the question and direction. */
+    QUESTION,
+    /** The player moved; the new room, direction and position. */
+    MOVE,
+    /** The statistics changed; the trivia. */
+    STATS,
+    /** A question was answered right; the new room. */
+    CORRECT_ANSWER,
+    /** A question was answered wrong; the room the player stays in. */
+    WRONG_ANSWER,
+    /** A door was locked by a wrong answer; edge index of the door. */
+    DOOR_CLOSED,
+    /** The game ended; whether the player won. */
+    GAME_OVER,
+    /** The game was moved to another point of its history; the room and position. */
+    RESTORED
+}
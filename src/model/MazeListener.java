@@ -0,0 +1,31 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * MazeListener.java
+ */
+package model;
+
+/**
+ * Receives the events of a {@link Maze} it subscribed to, one batch at a time.
+ *
+ * @version 10/17/2026
+ */
+@FunctionalInterface
+public interface MazeListener {
+
+    /**
+     * Handles an event. The event object is reused for later events, so anything
+     * needed after this call must be copied out of it.
+     *
+     * @param theEvent the event
+     */
+    void mazeChanged(MazeEvent theEvent);
+
+    /**
+     * Called once after the listener was given the events of one command, such as a
+     * move or an answer, so work like repainting or flushing can be done once for all
+     * of them. Does nothing unless overridden.
+     */
+    default void batchEnded() {
+        // Nothing to do after each batch.
+    }
+}
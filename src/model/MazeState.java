@@ -0,0 +1,492 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * MazeState.java
+ */
+package model;
+
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+/**
+ * A snapshot of everything needed to resume a game: the maze size, every door as packed
+ * flags, the player's position, the statistics, and the bank id of the question in
+ * each room that has been created. It holds no references into the live game, so it
+ * can be written out on another thread while play goes on.
+ * <p>
+ * Rooms whose question did not come from the question bank are recorded with
+ * {@link Question#NO_ID} and get a new random question when the game is restored.
+ * </p>
+ * <p>
+ * A snapshot read from a mapped save holds its doors and rooms as buffers over the
+ * file instead of arrays. Its rooms are kept as saved rooms, one int per room as
+ * described at {@link #getSavedRooms()}, and read only when needed; rooms created after
+ * loading are added on top of them.
+ * </p>
+ * <p>
+ * A snapshot taken from a live game shares the pages of its doors with the game, as
+ * described at {@link DoorGrid#copy()}, and sorts its rooms only when they are first
+ * read, so taking it costs little on the event thread and the rest of the work is done
+ * by whichever thread writes it out.
+ * </p>
+ *
+ * @version 10/17/2026
+ */
+public final class MazeState {
+
+    /**
+     * Number of rooms in each row.
+     */
+    private final int myWidth;
+
+    /**
+     * Number of rows.
+     */
+    private final int myHeight;
+
+    /**
+     * Value of a room in the saved rooms that has not been created.
+     */
+    public static final int ROOM_NOT_CREATED = 0;
+
+    /**
+     * Value of a room in the saved rooms whose question did not come from the bank.
+     */
+    public static final int ROOM_WITHOUT_ID = -1;
+
+    /**
+     * The door flags, packed as in {@link DoorGrid#getWords()}, or null until they are
+     * first read from {@link #myDoorGrid}.
+     */
+    private LongBuffer myDoorWords;
+
+    /**
+     * The doors of a snapshot of a live game, which nothing changes, or null.
+     */
+    private final DoorGrid myDoorGrid;
+
+    /**
+     * The player's x coordinate.
+     */
+    private final int myCurrentX;
+
+    /**
+     * The player's y coordinate.
+     */
+    private final int myCurrentY;
+
+    /**
+     * The number of right answers.
+     */
+    private final int myRightAnswers;
+
+    /**
+     * The number of wrong answers.
+     */
+    private final int myWrongAnswers;
+
+    /**
+     * The number of tries.
+     */
+    private final int myTrys;
+
+    /**
+     * The time played, in milliseconds.
+     */
+    private final long myTime;
+
+    /**
+     * The saved room of every room index, or null if all rooms are in the arrays.
+     */
+    private final IntBuffer mySavedRooms;
+
+    /**
+     * The row by row indexes of the rooms that have been created, in increasing order
+     * once {@link #myRoomsSorted} is set. With saved rooms, only those created on top
+     * of them.
+     */
+    private final int[] myRoomIndexes;
+
+    /**
+     * The question id of each created room, matching {@link #myRoomIndexes}.
+     */
+    private final int[] myQuestionIds;
+
+    /**
+     * Whether the rooms are in increasing order of index.
+     */
+    private boolean myRoomsSorted;
+
+    /**
+     * Every room merged from the saved rooms and the arrays, built on first use.
+     */
+    private int[][] myMergedRooms;
+
+    /**
+     * Creates a snapshot. The arrays are kept, not copied.
+     * @param theWidth - The number of rooms in each row.
+     * @param theHeight - The number of rows.
+     * @param theDoorWords - The packed door flags.
+     * @param theCurrentX - The player's x coordinate.
+     * @param theCurrentY - The player's y coordinate.
+     * @param theRightAnswers - The number of right answers.
+     * @param theWrongAnswers - The number of wrong answers.
+     * @param theTrys - The number of tries.
+     * @param theTime - The time played, in milliseconds.
+     * @param theRoomIndexes - The indexes of the created rooms.
+     * @param theQuestionIds - The question id of each created room.
+     * @throws IllegalArgumentException if the parts do not fit together.
+     */
+    public MazeState(final int theWidth, final int theHeight, final long[] theDoorWords,
+                     final int theCurrentX, final int theCurrentY,
+                     final int theRightAnswers, final int theWrongAnswers,
+                     final int theTrys, final long theTime,
+                     final int[] theRoomIndexes, final int[] theQuestionIds) {
+        this(theWidth, theHeight, LongBuffer.wrap(theDoorWords), theCurrentX, theCurrentY,
+             theRightAnswers, theWrongAnswers, theTrys, theTime, null, theRoomIndexes,
+             theQuestionIds);
+    }
+
+    /**
+     * Creates a snapshot whose doors and saved rooms are buffers, such as views of a
+     * mapped file. The buffers are kept, not copied, from their position to their limit,
+     * and must not change afterwards.
+     * @param theWidth - The number of rooms in each row.
+     * @param theHeight - The number of rows.
+     * @param theDoorWords - The packed door flags.
+     * @param theCurrentX - The player's x coordinate.
+     * @param theCurrentY - The player's y coordinate.
+     * @param theRightAnswers - The number of right answers.
+     * @param theWrongAnswers - The number of wrong answers.
+     * @param theTrys - The number of tries.
+     * @param theTime - The time played, in milliseconds.
+     * @param theSavedRooms - The saved room of every room index, or null.
+     * @param theRoomIndexes - The indexes of the rooms created on top of the saved
+     *                         rooms, in increasing order.
+     * @param theQuestionIds - The question id of each of those rooms.
+     * @throws IllegalArgumentException if the parts do not fit together.
+     */
+    public MazeState(final int theWidth, final int theHeight, final LongBuffer theDoorWords,
+                     final int theCurrentX, final int theCurrentY,
+                     final int theRightAnswers, final int theWrongAnswers,
+                     final int theTrys, final long theTime, final IntBuffer theSavedRooms,
+                     final int[] theRoomIndexes, final int[] theQuestionIds) {
+        if (theWidth < 1 || theHeight < 1
+            || (long) theWidth * theHeight > Maze.MAX_ROOMS) {
+            throw new IllegalArgumentException("Invalid maze size " + theWidth + "x"
+                                                + theHeight);
+        }
+        if (theDoorWords.remaining() != DoorGrid.wordCount(theWidth, theHeight)) {
+            throw new IllegalArgumentException("Door bitmap does not match a "
+                                                + theWidth + "x" + theHeight + " maze");
+        }
+        if (theCurrentX < 0 || theCurrentX >= theWidth
+            || theCurrentY < 0 || theCurrentY >= theHeight) {
+            throw new IllegalArgumentException("Position " + theCurrentX + ", "
+                                                + theCurrentY + " is outside the maze");
+        }
+        if (theSavedRooms != null && theSavedRooms.remaining() != theWidth * theHeight) {
+            throw new IllegalArgumentException("Saved rooms do not match a "
+                                                + theWidth + "x" + theHeight + " maze");
+        }
+        if (theRoomIndexes.length != theQuestionIds.length) {
+            throw new IllegalArgumentException("Every room needs a question id");
+        }
+        for (int index : theRoomIndexes) {
+            if (index < 0 || index >= theWidth * theHeight) {
+                throw new IllegalArgumentException("Room " + index + " is outside the maze");
+            }
+        }
+        myWidth = theWidth;
+        myHeight = theHeight;
+        myDoorWords = theDoorWords.slice();
+        myDoorGrid = null;
+        myCurrentX = theCurrentX;
+        myCurrentY = theCurrentY;
+        myRightAnswers = theRightAnswers;
+        myWrongAnswers = theWrongAnswers;
+        myTrys = theTrys;
+        myTime = theTime;
+        mySavedRooms = theSavedRooms == null ? null : theSavedRooms.slice();
+        myRoomIndexes = theRoomIndexes;
+        myQuestionIds = theQuestionIds;
+        myRoomsSorted = true;
+    }
+
+    /**
+     * Creates a snapshot of a live game. The grid and arrays are kept, not copied, and
+     * must not change afterwards.
+     * @param theDoors - The doors, a copy of the game's own.
+     * @param theCurrentX - The player's x coordinate.
+     * @param theCurrentY - The player's y coordinate.
+     * @param theRightAnswers - The number of right answers.
+     * @param theWrongAnswers - The number of wrong answers.
+     * @param theTrys - The number of tries.
+     * @param theTime - The time played, in milliseconds.
+     * @param theSavedRooms - The saved room of every room index, or null.
+     * @param theRoomIndexes - The indexes of the rooms created on top of the saved
+     *                         rooms, in any order.
+     * @param theQuestionIds - The question id of each of those rooms.
+     */
+    MazeState(final DoorGrid theDoors, final int theCurrentX, final int theCurrentY,
+              final int theRightAnswers, final int theWrongAnswers, final int theTrys,
+              final long theTime, final IntBuffer theSavedRooms,
+              final int[] theRoomIndexes, final int[] theQuestionIds) {
+        myWidth = theDoors.getWidth();
+        myHeight = theDoors.getHeight();
+        myDoorGrid = theDoors;
+        myCurrentX = theCurrentX;
+        myCurrentY = theCurrentY;
+        myRightAnswers = theRightAnswers;
+        myWrongAnswers = theWrongAnswers;
+        myTrys = theTrys;
+        myTime = theTime;
+        mySavedRooms = theSavedRooms == null ? null : theSavedRooms.slice();
+        myRoomIndexes = theRoomIndexes;
+        myQuestionIds = theQuestionIds;
+    }
+
+    /**
+     * Gets the value of a question id in the saved rooms.
+     * @param theQuestionId - The question id of a created room.
+     * @return The value to store for the room.
+     */
+    public static int savedRoomOf(final int theQuestionId) {
+        return theQuestionId == Question.NO_ID ? ROOM_WITHOUT_ID : theQuestionId;
+    }
+
+    /**
+     * Gets the question id of a created room from its value in the saved rooms.
+     * @param theSavedRoom - The value stored for the room, not {@link #ROOM_NOT_CREATED}.
+     * @return The question id.
+     */
+    public static int questionIdOf(final int theSavedRoom) {
+        return theSavedRoom == ROOM_WITHOUT_ID ? Question.NO_ID : theSavedRoom;
+    }
+
+    /**
+     * Gets the number of rooms in each row.
+     * @return The width.
+     */
+    public int getWidth() {
+        return myWidth;
+    }
+
+    /**
+     * Gets the number of rows.
+     * @return The height.
+     */
+    public int getHeight() {
+        return myHeight;
+    }
+
+    /**
+     * Gets the packed door flags. The array is shared, not copied, unless the doors are
+     * held in a buffer, in which case they are copied into a new array.
+     * @return The door flags.
+     */
+    public long[] getDoorWords() {
+        final LongBuffer doorWords = doorWords();
+        if (doorWords.hasArray() && doorWords.arrayOffset() == 0
+            && doorWords.array().length == doorWords.capacity()) {
+            return doorWords.array();
+        }
+        final long[] words = new long[doorWords.capacity()];
+        doorWords.duplicate().get(words);
+        return words;
+    }
+
+    /**
+     * Gets the packed door flags without copying them.
+     * @return A read only view of the door flags.
+     */
+    public LongBuffer getDoorBuffer() {
+        return doorWords().asReadOnlyBuffer();
+    }
+
+    /**
+     * Gets the doors as a grid that can be changed without changing the snapshot. A
+     * snapshot of a live game shares the grid's pages instead of copying the doors.
+     * @return The doors.
+     */
+    synchronized DoorGrid copyDoors() {
+        if (myDoorGrid != null) {
+            return myDoorGrid.copy();
+        }
+        final DoorGrid doors = new DoorGrid(myWidth, myHeight);
+        doors.setWords(myDoorWords);
+        return doors;
+    }
+
+    /**
+     * Gets the doors of a snapshot of a live game, to tell which pages it shares.
+     * @return The doors, which must not be changed, or null.
+     */
+    DoorGrid getDoorGrid() {
+        return myDoorGrid;
+    }
+
+    /**
+     * Gets the packed door flags, reading them from the grid the first time.
+     * @return The door flags.
+     */
+    private synchronized LongBuffer doorWords() {
+        if (myDoorWords == null) {
+            myDoorWords = LongBuffer.wrap(myDoorGrid.getWords());
+        }
+        return myDoorWords;
+    }
+
+    /**
+     * Gets the player's x coordinate.
+     * @return The x coordinate.
+     */
+    public int getCurrentX() {
+        return myCurrentX;
+    }
+
+    /**
+     * Gets the player's y coordinate.
+     * @return The y coordinate.
+     */
+    public int getCurrentY() {
+        return myCurrentY;
+    }
+
+    /**
+     * Gets the number of right answers.
+     * @return The right answers.
+     */
+    public int getRightAnswers() {
+        return myRightAnswers;
+    }
+
+    /**
+     * Gets the number of wrong answers.
+     * @return The wrong answers.
+     */
+    public int getWrongAnswers() {
+        return myWrongAnswers;
+    }
+
+    /**
+     * Gets the number of tries.
+     * @return The tries.
+     */
+    public int getTrys() {
+        return myTrys;
+    }
+
+    /**
+     * Gets the time played.
+     * @return The time in milliseconds.
+     */
+    public long getTime() {
+        return myTime;
+    }
+
+    /**
+     * Gets the indexes of the created rooms. The array is shared, not copied. With saved
+     * rooms, every saved room is read the first time this is called.
+     * @return The room indexes, in increasing order.
+     */
+    public int[] getRoomIndexes() {
+        return mySavedRooms == null ? sortedRooms()[0] : mergedRooms()[0];
+    }
+
+    /**
+     * Gets the question id of each created room. The array is shared, not copied. With
+     * saved rooms, every saved room is read the first time this is called.
+     * @return The question ids, matching {@link #getRoomIndexes()}.
+     */
+    public int[] getQuestionIds() {
+        return mySavedRooms == null ? sortedRooms()[1] : mergedRooms()[1];
+    }
+
+    /**
+     * Gets the saved rooms, one int per room in row by row order:
+     * {@link #ROOM_NOT_CREATED} for a room that has not been created,
+     * {@link #ROOM_WITHOUT_ID} for one whose question did not come from the bank, and
+     * the question id otherwise. Rooms created on top of them are in
+     * {@link #getAddedRoomIndexes()}.
+     * @return A read only view of the saved rooms, or null if there are none.
+     */
+    public IntBuffer getSavedRooms() {
+        return mySavedRooms == null ? null : mySavedRooms.asReadOnlyBuffer();
+    }
+
+    /**
+     * Gets the indexes of the rooms created on top of the saved rooms, or of every
+     * created room if there are no saved rooms. The array is shared, not copied.
+     * @return The room indexes.
+     */
+    public int[] getAddedRoomIndexes() {
+        return sortedRooms()[0];
+    }
+
+    /**
+     * Gets the question id of each room created on top of the saved rooms. The array
+     * is shared, not copied.
+     * @return The question ids, matching {@link #getAddedRoomIndexes()}.
+     */
+    public int[] getAddedQuestionIds() {
+        return sortedRooms()[1];
+    }
+
+    /**
+     * Merges the saved rooms with the rooms created on top of them, which are in
+     * increasing order of index.
+     * @return The room indexes and the matching question ids.
+     */
+    private synchronized int[][] mergedRooms() {
+        if (myMergedRooms == null) {
+            sortedRooms();
+            final int rooms = mySavedRooms.capacity();
+            int count = myRoomIndexes.length;
+            int next = 0;
+            for (int index = 0; index < rooms; index++) {
+                if (next < myRoomIndexes.length && myRoomIndexes[next] == index) {
+                    next++;
+                } else if (mySavedRooms.get(index) != ROOM_NOT_CREATED) {
+                    count++;
+                }
+            }
+            final int[] indexes = new int[count];
+            final int[] questionIds = new int[count];
+            int i = 0;
+            next = 0;
+            for (int index = 0; index < rooms; index++) {
+                if (next < myRoomIndexes.length && myRoomIndexes[next] == index) {
+                    indexes[i] = index;
+                    questionIds[i++] = myQuestionIds[next++];
+                } else if (mySavedRooms.get(index) != ROOM_NOT_CREATED) {
+                    indexes[i] = index;
+                    questionIds[i++] = questionIdOf(mySavedRooms.get(index));
+                }
+            }
+            myMergedRooms = new int[][] {indexes, questionIds};
+        }
+        return myMergedRooms;
+    }
+
+    /**
+     * Sorts the rooms created on top of the saved rooms by index the first time they
+     * are read, keeping each question id with its room.
+     * @return The room indexes and the matching question ids.
+     */
+    private synchronized int[][] sortedRooms() {
+        if (!myRoomsSorted) {
+            final long[] rooms = new long[myRoomIndexes.length];
+            for (int i = 0; i < rooms.length; i++) {
+                rooms[i] = (long) myRoomIndexes[i] << 32 | (myQuestionIds[i] & 0xFFFF_FFFFL);
+            }
+            Arrays.sort(rooms);
+            for (int i = 0; i < rooms.length; i++) {
+                myRoomIndexes[i] = (int) (rooms[i] >>> 32);
+                myQuestionIds[i] = (int) rooms[i];
+            }
+            myRoomsSorted = true;
+        }
+        return new int[][] {myRoomIndexes, myQuestionIds};
+    }
+}
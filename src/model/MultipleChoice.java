@@ -37,14 +37,16 @@ public class MultipleChoice extends Question{
     }
 
     /**
-     * Deletes two wrong choices from the question.
+     * Deletes two wrong choices from the question, picking them with the given source of
+     * randomness so the same seed removes the same choices.
+     * @param theRandom - The source of randomness, usually
+     *                    {@link QuestionGenerator#getRandom()}.
      */
-    protected void deleteChoice() {
+    protected void deleteChoice(final Random theRandom) {
 
         //Create two different maps.
         Map<String, String> wrongChoices = new HashMap<>();
         Map<String, String> correctChoice = new HashMap<>();
-        Random randChoice = new Random();
 
         //Separate the correct choice from the wrong choice.
         for (Map.Entry<String, String> entry : myChoices.entrySet()) {
@@ -59,7 +61,7 @@ public class MultipleChoice extends Question{
 
         // Randomly remove two choices from the wrong choice map.
         while (wrongChoices.size() > 1) {
-            String removeKeys = (String) keys[randChoice.nextInt(keys.length)];
+            String removeKeys = (String) keys[theRandom.nextInt(keys.length)];
             wrongChoices.remove(removeKeys);
             keys = wrongChoices.keySet().toArray();
         }
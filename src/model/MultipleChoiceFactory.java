@@ -8,11 +8,14 @@ import java.io.Serial;
 import java.io.Serializable;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -26,6 +29,20 @@ public class MultipleChoiceFactory implements QuestionFactory, Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Reads every multiple choice question together with its choices, one row per choice.
+     */
+    private static final String BULK_QUERY =
+            "SELECT q.id, q.question, q.correct_answer, c.choice, c.choice_text "
+            + "FROM MultipleQuestion q LEFT JOIN MultipleChoice c ON c.question_id = q.id "
+            + "ORDER BY q.id";
+
+    /**
+     * Reads the choices of one question.
+     */
+    private static final String CHOICE_QUERY =
+            "SELECT choice, choice_text FROM MultipleChoice WHERE question_id = ?";
+
     /**
      * The database connector.
      */
@@ -51,7 +68,65 @@ public class MultipleChoiceFactory implements QuestionFactory, Serializable {
         String question = theRS.getString("question");
         String answer = theRS.getString("correct_answer");
         Map<String, String> choices = fetchChoices(id);
-        return new MultipleChoice(question, choices, answer);
+        Question result = new MultipleChoice(question, choices, answer);
+        result.setId(id);
+        return result;
+    }
+
+    /**
+     * Creates every multiple choice question with a single query that joins each
+     * question to its choices, instead of one extra query per question.
+     * @param theStmt - The statement to run the query on.
+     * @param theTableName - The table holding the questions (always MultipleQuestion).
+     * @return The multiple choice questions.
+     * @throws SQLException when it cannot access the database.
+     */
+    @Override
+    public List<Question> createQuestions(final Statement theStmt, final String theTableName)
+                                          throws SQLException {
+        final List<Question> questions = new ArrayList<>();
+        try (ResultSet rs = theStmt.executeQuery(BULK_QUERY)) {
+            int currentId = 0;
+            String question = null;
+            String answer = null;
+            Map<String, String> choices = null;
+            while (rs.next()) {
+                final int id = rs.getInt("id");
+                if (choices == null || id != currentId) {
+                    if (choices != null) {
+                        questions.add(multipleChoice(currentId, question, choices, answer));
+                    }
+                    currentId = id;
+                    question = rs.getString("question");
+                    answer = rs.getString("correct_answer");
+                    choices = new HashMap<>();
+                }
+                final String choice = rs.getString("choice");
+                if (choice != null) {
+                    choices.put(choice, rs.getString("choice_text"));
+                }
+            }
+            if (choices != null) {
+                questions.add(multipleChoice(currentId, question, choices, answer));
+            }
+        }
+        return questions;
+    }
+
+    /**
+     * Creates a multiple choice question with its bank id.
+     * @param theId - The id of the question.
+     * @param theQuestion - The question.
+     * @param theChoices - The choices.
+     * @param theAnswer - The correct choice.
+     * @return The question.
+     */
+    private static Question multipleChoice(final int theId, final String theQuestion,
+                                           final Map<String, String> theChoices,
+                                           final String theAnswer) {
+        final Question result = new MultipleChoice(theQuestion, theChoices, theAnswer);
+        result.setId(theId);
+        return result;
     }
 
     /**
@@ -61,17 +136,16 @@ public class MultipleChoiceFactory implements QuestionFactory, Serializable {
      */
     private Map<String, String> fetchChoices(final int theQuestionId) {
         Map<String, String> choices = new HashMap<>();
-        String query = "SELECT choice, choice_text FROM MultipleChoice WHERE question_id = "
-                        + theQuestionId;
 
         try (Connection conn = myDBConnector.getDataSource().getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(query)) {
-
-            while (rs.next()) {
-                String choice = rs.getString("choice");
-                String choiceText = rs.getString("choice_text");
-                choices.put(choice, choiceText);
+             PreparedStatement stmt = conn.prepareStatement(CHOICE_QUERY)) {
+            stmt.setInt(1, theQuestionId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String choice = rs.getString("choice");
+                    String choiceText = rs.getString("choice_text");
+                    choices.put(choice, choiceText);
+                }
             }
         } catch (SQLException e) {
            System.out.println("There's seem to be an SQLException: " + e.getMessage());
@@ -20,6 +20,17 @@ public abstract class Question implements Serializable {
 
     private final String myAnswer;
 
+    /**
+     * The id of the question in the question bank, or {@link #NO_ID} if it did not come
+     * from the bank.
+     */
+    private int myId = NO_ID;
+
+    /**
+     * The id of a question that did not come from the question bank.
+     */
+    public static final int NO_ID = 0;
+
     /**
      * The question constructor. Super should be called in Multiple choice, short answer,
      * and T/F classes.
@@ -48,6 +59,23 @@ public abstract class Question implements Serializable {
         return myAnswer;
     }
 
+    /**
+     * Gets the id of the question in the question bank, which stays the same between
+     * games so saved games can refer to the question by id.
+     * @return The id, or {@link #NO_ID} if the question did not come from the bank.
+     */
+    public int getId() {
+        return myId;
+    }
+
+    /**
+     * Sets the id of the question in the question bank.
+     * @param theId - The id from the question's database row.
+     */
+    void setId(final int theId) {
+        myId = theId;
+    }
+
     /**
      * Checks if the player answer is the same as the correct answer.
      * @param thePlayerAnswer - The answer given by the player.
@@ -6,6 +6,10 @@ package model;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * An interface that requires any classes that inherit this to create a question
@@ -22,4 +26,24 @@ public interface QuestionFactory {
      * @throws SQLException when game can't access database.
      */
     Question createQuestion(final ResultSet theRS) throws SQLException;
+
+    /**
+     * Creates every question of a table. By default this reads the whole table with one
+     * query and calls {@link #createQuestion(ResultSet)} for each row; factories whose
+     * questions span several tables override it to keep the number of queries fixed.
+     * @param theStmt - The statement to run the queries on.
+     * @param theTableName - The table holding the questions.
+     * @return The questions of the table.
+     * @throws SQLException when game can't access database.
+     */
+    default List<Question> createQuestions(final Statement theStmt, final String theTableName)
+                                           throws SQLException {
+        final List<Question> questions = new ArrayList<>();
+        try (ResultSet rs = theStmt.executeQuery("SELECT * FROM " + theTableName)) {
+            while (rs.next()) {
+                questions.add(createQuestion(rs));
+            }
+        }
+        return questions;
+    }
 }
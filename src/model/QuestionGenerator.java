@@ -6,19 +6,19 @@ package model;
 
 import java.io.Serial;
 import java.io.Serializable;
-import java.sql.Connection;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.sql.Statement;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 
 /**
  * The QuestionGenerator class is responsible for generating random questions
- * from the database for the TriviaMaze game. It fetches questions from
- * True/False, Short Answer, and Multiple Choice tables.
+ * from the database for the TriviaMaze game. It draws from a {@link QuestionPool}
+ * holding the True/False, Short Answer, and Multiple Choice tables, which is
+ * loaded once and reused for every question.
+ * <p>
+ * Every random choice of a game is drawn from the generator's single seeded
+ * {@link Random}, so a game started with the same seed and the same question bank
+ * gets the same questions in the same rooms.
+ * </p>
  */
 public class QuestionGenerator implements Serializable {
     /**
@@ -32,6 +32,11 @@ public class QuestionGenerator implements Serializable {
      */
     private final Random myRandom;
 
+    /**
+     * The seed the random variable was started with.
+     */
+    private final long mySeed;
+
     /**
      * The database connector
      */
@@ -41,56 +46,100 @@ public class QuestionGenerator implements Serializable {
      * A question factory provider.
      */
     private final QuestionFactoryProvider myFactoryProvider;
+
+    /**
+     * The questions to draw from. Recreated on first use after loading.
+     */
+    private transient QuestionPool myPool;
+
     /**
      * Constructs a new QuestionGenerator with the given DatabaseConnector.
      *
      * @param theDBConn The DatabaseConnector object for accessing the database.
      */
     public QuestionGenerator(final DatabaseConnector theDBConn) {
+        this(theDBConn, new Random().nextLong());
+    }
+
+    /**
+     * Constructs a new QuestionGenerator with the given DatabaseConnector whose random
+     * choices start from a seed.
+     *
+     * @param theDBConn The DatabaseConnector object for accessing the database.
+     * @param theSeed The seed of the random choices.
+     */
+    public QuestionGenerator(final DatabaseConnector theDBConn, final long theSeed) {
         this.myDataConn = theDBConn;
-        this.myRandom = new Random();
+        this.mySeed = theSeed;
+        this.myRandom = new Random(theSeed);
         this.myFactoryProvider = new QuestionFactoryProvider(theDBConn);
+        this.myPool = new QuestionPool(theDBConn, myFactoryProvider);
+    }
+
+    /**
+     * Constructs a new QuestionGenerator that draws from a fixed pool of questions,
+     * without a database. The pool is not saved with the generator.
+     *
+     * @param thePool The questions to draw from.
+     */
+    public QuestionGenerator(final QuestionPool thePool) {
+        this(thePool, new Random().nextLong());
     }
 
     /**
-     * Retrieves a random question from the database.
+     * Constructs a new QuestionGenerator that draws from a fixed pool of questions,
+     * without a database, with random choices starting from a seed.
+     *
+     * @param thePool The questions to draw from.
+     * @param theSeed The seed of the random choices.
+     */
+    public QuestionGenerator(final QuestionPool thePool, final long theSeed) {
+        this.myDataConn = null;
+        this.mySeed = theSeed;
+        this.myRandom = new Random(theSeed);
+        this.myFactoryProvider = null;
+        this.myPool = thePool;
+    }
+
+    /**
+     * Retrieves a random question from the question pool. The pool is loaded from the
+     * database the first time this is called.
      *
      * @return A random Question object, or null if no questions are found.
      */
     public Question getRandomQes () {
-        List<Question> questions = new ArrayList<>();
-        try(Connection conn = myDataConn.getDataSource().getConnection();
-            Statement stmt  = conn.createStatement()) {
-            questions.addAll(getTable(stmt, "TrueFalse"));
-            questions.addAll(getTable(stmt,"ShortAnswer"));
-            questions.addAll(getTable(stmt,"MultipleQuestion"));
-        } catch (SQLException e) {
-            System.out.println(e.getMessage());
-        }
-        if (questions.isEmpty()) {
-            return null;
-        }
-        return questions.get(myRandom.nextInt(questions.size()));
+        return getPool().getRandom(myRandom);
     }
 
     /**
-     * Retrieves questions from a specific table and converts them to Question objects.
+     * Gets the question pool, which can be refreshed or invalidated when the
+     * question bank changes.
      *
-     * @param theStmt The Statement object for executing the query.
-     * @param theTableName The name of the table to query.
-     * @return A list of Question objects.
-     * @throws SQLException If a database access error occurs.
+     * @return The question pool.
      */
-    private List<Question> getTable(final Statement theStmt, final String theTableName)
-                                    throws SQLException {
-        List<Question> questions = new ArrayList<>();
-        String query = "SELECT * FROM " + theTableName;
-        ResultSet rs = theStmt.executeQuery(query);
-
-        QuestionFactory factory = myFactoryProvider.getFactory(theTableName);
-        while (rs.next()) {
-            questions.add(factory.createQuestion(rs));
+    public QuestionPool getPool() {
+        if (myPool == null) {
+            myPool = new QuestionPool(myDataConn, myFactoryProvider);
         }
-        return questions;
+        return myPool;
+    }
+
+    /**
+     * Gets the seed the random choices started from.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return mySeed;
+    }
+
+    /**
+     * Gets the source of every random choice made for the game, such as which wrong
+     * choices of a multiple choice question to remove.
+     *
+     * @return The seeded random variable.
+     */
+    public Random getRandom() {
+        return myRandom;
     }
 }
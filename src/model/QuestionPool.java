@@ -0,0 +1,212 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * QuestionPool.java
+ */
+package model;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.CRC32C;
+
+/**
+ * The QuestionPool class holds every question of the question bank in memory. The
+ * bank is read from the database with a single connection the first time a question
+ * is needed and kept until it is invalidated or refreshed, so picking a random
+ * question is a single array lookup.
+ * <p>
+ * A pool can also be built from a fixed collection of questions, which is useful
+ * when no database is available.
+ * </p>
+ *
+ * @version 10/17/2026
+ */
+public class QuestionPool {
+
+    /**
+     * The question tables, in the order they are loaded.
+     */
+    private static final String[] TABLES = {"TrueFalse", "ShortAnswer", "MultipleQuestion"};
+
+    /**
+     * The database connector, or null for a fixed pool.
+     */
+    private final DatabaseConnector myDataConn;
+
+    /**
+     * Factories that turn table rows into questions.
+     */
+    private final QuestionFactoryProvider myFactoryProvider;
+
+    /**
+     * The loaded questions, or null if the pool needs to be (re)loaded.
+     */
+    private List<Question> myQuestions;
+
+    /**
+     * The loaded questions by id, built the first time a question is looked up.
+     */
+    private Map<Integer, Question> myById;
+
+    /**
+     * The checksum of the loaded questions, or null if not computed yet.
+     */
+    private Integer myVersion;
+
+    /**
+     * Creates a pool that loads its questions from the database on first use.
+     * @param theDBConn - The database connector.
+     * @param theFactoryProvider - Factories for each question table.
+     */
+    public QuestionPool(final DatabaseConnector theDBConn,
+                        final QuestionFactoryProvider theFactoryProvider) {
+        myDataConn = theDBConn;
+        myFactoryProvider = theFactoryProvider;
+    }
+
+    /**
+     * Creates a pool holding a fixed set of questions.
+     * @param theQuestions - The questions in the pool.
+     */
+    public QuestionPool(final Collection<? extends Question> theQuestions) {
+        myDataConn = null;
+        myFactoryProvider = null;
+        myQuestions = new ArrayList<>(theQuestions);
+    }
+
+    /**
+     * Picks a random question, loading the pool first if needed.
+     * @param theRandom - The source of randomness.
+     * @return A random question, or null if the pool is empty.
+     */
+    public Question getRandom(final Random theRandom) {
+        if (myQuestions == null) {
+            refresh();
+        }
+        if (myQuestions == null || myQuestions.isEmpty()) {
+            return null;
+        }
+        return myQuestions.get(theRandom.nextInt(myQuestions.size()));
+    }
+
+    /**
+     * Looks up a question by its id in the question bank, loading the pool first if
+     * needed.
+     * @param theId - The id of the question.
+     * @return The question, or null if the pool has no question with that id.
+     */
+    public Question getById(final int theId) {
+        if (myById == null) {
+            final List<Question> questions = getQuestions();
+            final Map<Integer, Question> byId = new HashMap<>(questions.size() * 2);
+            for (Question question : questions) {
+                if (question.getId() != Question.NO_ID) {
+                    byId.put(question.getId(), question);
+                }
+            }
+            myById = byId;
+        }
+        return myById.get(theId);
+    }
+
+    /**
+     * Gets every question in the pool, loading it first if needed.
+     * @return An unmodifiable list of the questions.
+     */
+    public List<Question> getQuestions() {
+        if (myQuestions == null) {
+            refresh();
+        }
+        if (myQuestions == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(myQuestions);
+    }
+
+    /**
+     * Gets a checksum of the questions in the pool, in order, loading it first if
+     * needed. Pools with the same version hand out the same questions for the same
+     * random draws, so a recorded game replays the same only against the same version.
+     * @return The version of the question bank.
+     */
+    public int getVersion() {
+        if (myVersion == null) {
+            final CRC32C crc = new CRC32C();
+            for (Question question : getQuestions()) {
+                final int id = question.getId();
+                crc.update(new byte[] {(byte) (id >>> 24), (byte) (id >>> 16),
+                                       (byte) (id >>> 8), (byte) id});
+                crc.update((question.getClass().getSimpleName() + '\0'
+                            + question.getQuestion() + '\0' + question.getAnswer() + '\0')
+                           .getBytes(StandardCharsets.UTF_8));
+            }
+            myVersion = (int) crc.getValue();
+        }
+        return myVersion;
+    }
+
+    /**
+     * Gets the number of questions in the pool, loading it first if needed.
+     * @return The number of questions.
+     */
+    public int size() {
+        return getQuestions().size();
+    }
+
+    /**
+     * Drops the loaded questions so the next request reloads them from the database.
+     * Does nothing for a fixed pool.
+     */
+    public void invalidate() {
+        if (myDataConn != null) {
+            myQuestions = null;
+            myById = null;
+            myVersion = null;
+        }
+    }
+
+    /**
+     * Reloads every question from the database now. If the database cannot be read the
+     * pool stays unloaded, so the next request tries again. Does nothing for a fixed pool.
+     */
+    public void refresh() {
+        if (myDataConn == null) {
+            return;
+        }
+        final List<Question> questions = new ArrayList<>();
+        try (Connection conn = myDataConn.getDataSource().getConnection();
+             Statement stmt = conn.createStatement()) {
+            for (String table : TABLES) {
+                questions.addAll(getTable(stmt, table));
+            }
+            myQuestions = questions;
+            myById = null;
+            myVersion = null;
+        } catch (SQLException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves questions from a specific table and converts them to Question objects.
+     *
+     * @param theStmt The Statement object for executing the query.
+     * @param theTableName The name of the table to query.
+     * @return A list of Question objects.
+     * @throws SQLException If a database access error occurs.
+     */
+    private List<Question> getTable(final Statement theStmt, final String theTableName)
+                                    throws SQLException {
+        return myFactoryProvider.getFactory(theTableName).createQuestions(theStmt, theTableName);
+    }
+}
@@ -0,0 +1,160 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * Reachability.java
+ */
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Answers "can the player still walk from one room to another" for a {@link DoorGrid}.
+ * <p>
+ * The search is an iterative depth first search, so it cannot overflow the call stack
+ * on large mazes. The visited bitmap and the work stack are kept between calls and only
+ * the part of the bitmap that was touched is cleared, so once the stack has grown to
+ * the size a maze needs, a search allocates nothing.
+ * </p>
+ * <p>
+ * Instances are not thread safe; each maze keeps its own.
+ * </p>
+ *
+ * @version 10/17/2026
+ */
+public final class Reachability {
+
+    /**
+     * The directions, cached because {@code Direction.values()} copies its array.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * Starting size of the work stack.
+     */
+    private static final int INITIAL_STACK = 64;
+
+    /**
+     * The grid being searched.
+     */
+    private final DoorGrid myGrid;
+
+    /**
+     * One bit per room, set once the room has been pushed.
+     */
+    private final long[] myVisited;
+
+    /**
+     * Rooms waiting to be expanded.
+     */
+    private int[] myStack;
+
+    /**
+     * Lowest word of the visited bitmap written by the last search.
+     */
+    private int myLowWord;
+
+    /**
+     * Highest word of the visited bitmap written by the last search.
+     */
+    private int myHighWord;
+
+    /**
+     * Creates a reachability search for a grid.
+     * @param theGrid - The grid to search.
+     */
+    public Reachability(final DoorGrid theGrid) {
+        myGrid = theGrid;
+        myVisited = new long[(theGrid.getRoomCount() + 63) >>> 6];
+        myStack = new int[INITIAL_STACK];
+        myLowWord = Integer.MAX_VALUE;
+        myHighWord = -1;
+    }
+
+    /**
+     * Checks if one room can be reached from another through passable doors.
+     * @param theFrom - The index of the starting room.
+     * @param theTo - The index of the target room.
+     * @return True if a path exists. False otherwise.
+     */
+    public boolean isReachable(final int theFrom, final int theTo) {
+        if (theFrom == theTo) {
+            return true;
+        }
+        clearVisited();
+        int size = 0;
+        visit(theFrom);
+        myStack[size++] = theFrom;
+
+        while (size > 0) {
+            final int room = myStack[--size];
+            final int passable = myGrid.passableDirections(room);
+            for (Direction dir : DIRECTIONS) {
+                if ((passable & (1 << dir.ordinal())) == 0) {
+                    continue;
+                }
+                final int next = step(room, dir);
+                if (next == theTo) {
+                    return true;
+                }
+                if (!isVisited(next)) {
+                    visit(next);
+                    if (size == myStack.length) {
+                        myStack = Arrays.copyOf(myStack, size * 2);
+                    }
+                    myStack[size++] = next;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the room next to another. The caller has already checked that the
+     * neighbour exists.
+     * @param theRoom - The index of the room.
+     * @param theDirection - The direction to step in.
+     * @return The index of the neighbouring room.
+     */
+    private int step(final int theRoom, final Direction theDirection) {
+        return switch (theDirection) {
+            case NORTH -> theRoom - myGrid.getWidth();
+            case SOUTH -> theRoom + myGrid.getWidth();
+            case EAST -> theRoom + 1;
+            case WEST -> theRoom - 1;
+        };
+    }
+
+    /**
+     * Checks if a room was reached by the last search.
+     * @param theRoom - The index of the room.
+     * @return True if the room was visited. False otherwise.
+     */
+    private boolean isVisited(final int theRoom) {
+        return (myVisited[theRoom >>> 6] & (1L << theRoom)) != 0;
+    }
+
+    /**
+     * Marks a room as visited.
+     * @param theRoom - The index of the room.
+     */
+    private void visit(final int theRoom) {
+        final int word = theRoom >>> 6;
+        myVisited[word] |= 1L << theRoom;
+        if (word < myLowWord) {
+            myLowWord = word;
+        }
+        if (word > myHighWord) {
+            myHighWord = word;
+        }
+    }
+
+    /**
+     * Clears the words of the visited bitmap touched by the last search.
+     */
+    private void clearVisited() {
+        if (myHighWord >= myLowWord) {
+            Arrays.fill(myVisited, myLowWord, myHighWord + 1, 0L);
+        }
+        myLowWord = Integer.MAX_VALUE;
+        myHighWord = -1;
+    }
+}
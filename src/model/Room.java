@@ -11,13 +11,12 @@ import java.io.ObjectOutputStream;
 import java.io.Serial;
 import java.io.Serializable;
 
-import java.util.EnumMap;
-import java.util.Map;
-
 
 
 /**
- * Room class for the maze that contains doors.
+ * Room class for the maze that contains doors. The doors live in a {@link DoorGrid}
+ * shared with the rest of the maze, and neighbouring rooms are found from the room's
+ * position in that grid.
  *
  * @author Eric John
  * @version 08/13/2024
@@ -25,17 +24,17 @@ import java.util.Map;
 public class Room implements Serializable {
 
     @Serial
-    private static final long serialVersionUID = 2L;
+    private static final long serialVersionUID = 3L;
 
     /**
-     * A map for the doors with the key being direction and the value being the door.
+     * The grid holding the doors of this room.
      */
-    private final Map<Direction, Door> myDoors;
+    private final DoorGrid myGrid;
 
     /**
-     * A map for adjacent rooms with the key being direction and the value being the door.
+     * The index of this room in the grid.
      */
-    private final Map<Direction, Room> myAdjacentRooms;
+    private final int myIndex;
 
     /**
      * The trivia for the game.
@@ -48,26 +47,27 @@ public class Room implements Serializable {
     private final boolean isAnswered;
 
     /**
-     * Creates a room object with the trivia question.
+     * Creates a stand-alone room object with the trivia question and all four doors open.
      * @param theTrivia The question that goes with the room.
      */
     public Room(final Question theTrivia) {
-        this.myTrivia = theTrivia;
-        myDoors = new EnumMap<>(Direction.class);
-        myAdjacentRooms = new EnumMap<>(Direction.class);
+        this(theTrivia, new DoorGrid(1, 1), 0);
         for (Direction dir : Direction.values()) {
-            myDoors.put(dir, new Door(true));
+            myGrid.setOpen(myGrid.edgeOf(myIndex, dir), true);
         }
-        isAnswered = false;
     }
 
     /**
-     * Setting up the adjacent rooms in the maze
-     * @param theDirection - The direction.
-     * @param theRoom - The room
+     * Creates a room at a position of a maze's door grid.
+     * @param theTrivia The question that goes with the room.
+     * @param theGrid The grid holding the doors of the maze.
+     * @param theIndex The index of the room in the grid.
      */
-    public void setAdjacentRoom(final Direction theDirection, final Room theRoom) {
-        myAdjacentRooms.put(theDirection, theRoom);
+    Room(final Question theTrivia, final DoorGrid theGrid, final int theIndex) {
+        this.myTrivia = theTrivia;
+        myGrid = theGrid;
+        myIndex = theIndex;
+        isAnswered = false;
     }
 
     /**
@@ -76,7 +76,7 @@ public class Room implements Serializable {
      * @return - The door in the given direction
      */
     public Door getDoor(final Direction theDirection) {
-        return myDoors.get(theDirection);
+        return new Door(myGrid, myGrid.edgeOf(myIndex, theDirection));
     }
 
     public Question getTrivia() {
@@ -92,7 +92,12 @@ public class Room implements Serializable {
      * @return - True if it is closed. False otherwise.
      */
     public boolean allClosed() {
-        return myDoors.values().stream().allMatch(Door::isClosed);
+        for (Direction dir : Direction.values()) {
+            if (isDoorOpen(dir)) {
+                return false;
+            }
+        }
+        return true;
     }
 
 
@@ -110,8 +115,7 @@ public class Room implements Serializable {
      * @return - True if the door is open. False otherwise.
      */
     public boolean isDoorOpen(final Direction theDirection) {
-        Door door = myDoors.get(theDirection);
-        return door != null && !door.isClosed();
+        return myGrid.isOpen(myGrid.edgeOf(myIndex, theDirection));
     }
 
     /**
@@ -120,7 +124,7 @@ public class Room implements Serializable {
      * @return True if it has been answered incorrectly, false otherwise.
      */
     public boolean hasBeenAnsweredIncorrectly(final Direction theDirection) {
-        return myDoors.get(theDirection).hasBeenAnsweredIncorrectly();
+        return myGrid.isAnsweredIncorrectly(myGrid.edgeOf(myIndex, theDirection));
     }
 
     /**
@@ -129,12 +133,7 @@ public class Room implements Serializable {
      * @param isOpen - Checks if the door is open or closed.
      */
     public void setDoorOpen(final Direction theDirection, final boolean isOpen) {
-        Door door = myDoors.get(theDirection);
-        if (isOpen) {
-            door.open();
-        } else {
-            door.close();
-        }
+        myGrid.setOpen(myGrid.edgeOf(myIndex, theDirection), isOpen);
     }
 
     /**
@@ -0,0 +1,212 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * SchemaMigrator.java
+ */
+package model;
+
+import java.nio.charset.StandardCharsets;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Brings a database up to date by running numbered migration steps once each.
+ * <p>
+ * Applied steps are recorded in the {@value #VERSION_TABLE} table together with a
+ * checksum of their SQL. On a warm start every step is already recorded and the
+ * migrator only reads that table. On a cold start the missing steps run in order
+ * inside a single transaction, so a failure leaves the database as it was. A step whose
+ * SQL changed after it was applied is reported as an error rather than run again.
+ * </p>
+ *
+ * @version 10/17/2026
+ */
+public final class SchemaMigrator {
+
+    /**
+     * The table recording which steps have been applied.
+     */
+    public static final String VERSION_TABLE = "schema_version";
+
+    /**
+     * The steps, in version order.
+     */
+    private final List<Migration> myMigrations;
+
+    /**
+     * Creates a migrator for the given steps.
+     * @param theMigrations - The steps. Versions must be unique and increasing.
+     */
+    public SchemaMigrator(final List<Migration> theMigrations) {
+        int last = 0;
+        for (Migration migration : theMigrations) {
+            if (migration.getVersion() <= last) {
+                throw new IllegalArgumentException("Migration versions must increase: "
+                                                    + migration.getVersion());
+            }
+            last = migration.getVersion();
+        }
+        myMigrations = List.copyOf(theMigrations);
+    }
+
+    /**
+     * Runs every step that has not been applied to the database yet.
+     * @param theConn - The connection to the database.
+     * @return The number of steps that were run.
+     * @throws SQLException if a step fails or an applied step was changed.
+     */
+    public int migrate(final Connection theConn) throws SQLException {
+        try (Statement stmt = theConn.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE IF NOT EXISTS " + VERSION_TABLE + " ("
+                               + "version INTEGER PRIMARY KEY,"
+                               + "description TEXT NOT NULL,"
+                               + "checksum INTEGER NOT NULL,"
+                               + "applied_at INTEGER NOT NULL)");
+        }
+        final List<Migration> pending = findPending(theConn);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        final boolean autoCommit = theConn.getAutoCommit();
+        theConn.setAutoCommit(false);
+        try (Statement stmt = theConn.createStatement();
+             PreparedStatement record = theConn.prepareStatement(
+                     "INSERT INTO " + VERSION_TABLE
+                     + " (version, description, checksum, applied_at) VALUES (?, ?, ?, ?)")) {
+            for (Migration migration : pending) {
+                for (String sql : migration.getStatements()) {
+                    stmt.executeUpdate(sql);
+                }
+                record.setInt(1, migration.getVersion());
+                record.setString(2, migration.getDescription());
+                record.setLong(3, migration.getChecksum());
+                record.setLong(4, System.currentTimeMillis());
+                record.executeUpdate();
+            }
+            theConn.commit();
+        } catch (SQLException e) {
+            theConn.rollback();
+            throw e;
+        } finally {
+            theConn.setAutoCommit(autoCommit);
+        }
+        return pending.size();
+    }
+
+    /**
+     * Finds the steps that have not been applied yet, checking the applied ones.
+     * @param theConn - The connection to the database.
+     * @return The steps to run, in order.
+     * @throws SQLException if an applied step no longer matches its checksum.
+     */
+    private List<Migration> findPending(final Connection theConn) throws SQLException {
+        final Map<Integer, Long> applied = new HashMap<>();
+        try (Statement stmt = theConn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT version, checksum FROM "
+                                              + VERSION_TABLE)) {
+            while (rs.next()) {
+                applied.put(rs.getInt("version"), rs.getLong("checksum"));
+            }
+        }
+
+        final List<Migration> pending = new ArrayList<>();
+        for (Migration migration : myMigrations) {
+            final Long checksum = applied.get(migration.getVersion());
+            if (checksum == null) {
+                pending.add(migration);
+            } else if (checksum != migration.getChecksum()) {
+                throw new SQLException("Migration " + migration.getVersion() + " ("
+                                       + migration.getDescription()
+                                       + ") was changed after it was applied");
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * One numbered step of the schema: a list of SQL statements run together.
+     */
+    public static final class Migration {
+
+        /**
+         * The version this step brings the schema to.
+         */
+        private final int myVersion;
+
+        /**
+         * What the step does.
+         */
+        private final String myDescription;
+
+        /**
+         * The SQL statements of the step.
+         */
+        private final List<String> myStatements;
+
+        /**
+         * The CRC32 checksum of the statements.
+         */
+        private final long myChecksum;
+
+        /**
+         * Creates a step.
+         * @param theVersion - The version this step brings the schema to.
+         * @param theDescription - What the step does.
+         * @param theStatements - The SQL statements of the step.
+         */
+        public Migration(final int theVersion, final String theDescription,
+                         final String... theStatements) {
+            myVersion = theVersion;
+            myDescription = theDescription;
+            myStatements = List.of(theStatements);
+            final CRC32 crc = new CRC32();
+            for (String sql : theStatements) {
+                crc.update(sql.getBytes(StandardCharsets.UTF_8));
+                crc.update(';');
+            }
+            myChecksum = crc.getValue();
+        }
+
+        /**
+         * Gets the version this step brings the schema to.
+         * @return The version.
+         */
+        public int getVersion() {
+            return myVersion;
+        }
+
+        /**
+         * Gets what the step does.
+         * @return The description.
+         */
+        public String getDescription() {
+            return myDescription;
+        }
+
+        /**
+         * Gets the SQL statements of the step.
+         * @return The statements.
+         */
+        public List<String> getStatements() {
+            return myStatements;
+        }
+
+        /**
+         * Gets the checksum of the statements.
+         * @return The CRC32 of the statements.
+         */
+        public long getChecksum() {
+            return myChecksum;
+        }
+    }
+}
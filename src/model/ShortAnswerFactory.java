@@ -35,7 +35,9 @@ public class ShortAnswerFactory implements QuestionFactory, Serializable {
     public Question createQuestion(final ResultSet theRS) throws SQLException {
         String question = theRS.getString("question");
         String answer = theRS.getString("correct_answer");
-        return new ShortAnswer(question, answer);
+        Question result = new ShortAnswer(question, answer);
+        result.setId(theRS.getInt("id"));
+        return result;
     }
 
     /**
@@ -157,4 +157,31 @@ public class Trivia implements Serializable {
     public long getTime() {
         return myTotalTime;
     }
+
+    /**
+     * Gets the time played so far, including the time since the timer was last started.
+     * @return The elapsed time in milliseconds.
+     */
+    public long getElapsedTime() {
+        if (myStartTime == 0) {
+            return myTotalTime;
+        }
+        return myTotalTime + System.currentTimeMillis() - myStartTime;
+    }
+
+    /**
+     * Restores the statistics of a saved game and restarts the timer.
+     * @param theRightAnswers - The number of right answers.
+     * @param theWrongAnswers - The number of wrong answers.
+     * @param theTrys - The number of tries.
+     * @param theTime - The time played so far, in milliseconds.
+     */
+    void restore(final int theRightAnswers, final int theWrongAnswers, final int theTrys,
+                 final long theTime) {
+        myRightAnswer = theRightAnswers;
+        myWrongAnswer = theWrongAnswers;
+        myTrys = theTrys;
+        myTotalTime = theTime;
+        startTimer();
+    }
 }
@@ -34,7 +34,9 @@ public class TrueFalseFactory implements QuestionFactory, Serializable {
     public Question createQuestion(ResultSet theRS) throws SQLException {
         String question = theRS.getString("question");
         int answer = theRS.getInt("correct_answer");
-        return new TrueFalse(question, answer);
+        Question result = new TrueFalse(question, answer);
+        result.setId(theRS.getInt("id"));
+        return result;
     }
 
     /**
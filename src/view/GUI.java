@@ -1,10 +1,17 @@
 package view;
 
+import controller.AutosaveService;
+import controller.CorruptSaveException;
+import controller.GameJournal;
+import controller.GameReplay;
 import controller.GameSaver;
+import controller.SaveHeader;
+import controller.SaveSlots;
 
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Dimension;
+import java.awt.event.InputEvent;
 import java.awt.event.KeyEvent;
 import java.awt.image.BufferedImage;
 import java.awt.KeyboardFocusManager;
@@ -18,7 +25,10 @@ import java.io.Serializable;
 
 import java.sql.SQLException;
 
+import java.util.Arrays;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -30,6 +40,7 @@ import javax.swing.JMenuBar;
 import javax.swing.JMenuItem;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.KeyStroke;
 import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 
@@ -37,10 +48,10 @@ import javax.swing.Timer;
 import model.DatabaseConnector;
 import model.Direction;
 import model.Maze;
-import model.MoveEvent;
+import model.MazeEventType;
+import model.MazeState;
 import model.PlayerCharacter;
 import model.Question;
-import model.QuestionEvent;
 import model.Room;
 
 
@@ -111,6 +122,31 @@ public class GUI implements Serializable {
      */
     private static final String LEFT = "WEST";
 
+    /**
+     * The folder games are saved to, one file per slot.
+     */
+    private static final String SAVE_FOLDER = "saves";
+
+    /**
+     * The file the game is autosaved to.
+     */
+    private static final String AUTOSAVE_FILE = "autosave.tmz";
+
+    /**
+     * The snapshot the recovery journal applies to.
+     */
+    private static final String RECOVERY_FILE = "recovery.tmz";
+
+    /**
+     * The recovery journal.
+     */
+    private static final String JOURNAL_FILE = "recovery.journal";
+
+    /**
+     * The replay of the last new game.
+     */
+    private static final String REPLAY_FILE = "last-game.replay";
+
     /**
      * The direction the player intends to go.
      */
@@ -173,6 +209,26 @@ public class GUI implements Serializable {
      */
     private transient SoundPlayer mySound;
 
+    /**
+     * The save slots listed in the load menu.
+     */
+    private transient SaveSlots mySlots;
+
+    /**
+     * Writes autosaves in the background.
+     */
+    private transient AutosaveService myAutosaver;
+
+    /**
+     * Records every change to the game so it can be recovered after a crash.
+     */
+    private transient GameJournal myJournal;
+
+    /**
+     * Records the seed and commands of a new game so it can be played again.
+     */
+    private transient GameReplay myReplay;
+
     /**
      * Creates a new GUI instance and initializes the game.
      *
@@ -188,6 +244,10 @@ public class GUI implements Serializable {
         loadCharacterImages();
         setupFrame();
         setupAnimationTimer();
+        mySlots = new SaveSlots(SAVE_FOLDER);
+        setupAutosave();
+        startReplay();
+        offerRecovery();
         try {
             mySound.playBackgroundMusic();
         } catch (final Exception e) {
@@ -222,6 +282,14 @@ public class GUI implements Serializable {
     private void addKeyEventDispatcher() {
         if (!isKeyDispatcherAdded) {
             KeyboardFocusManager.getCurrentKeyboardFocusManager().addKeyEventDispatcher(e -> {
+                if (e.getID() == KeyEvent.KEY_PRESSED && myMazePanel != null) {
+                    switch (e.getKeyCode()) {
+                        case KeyEvent.VK_EQUALS, KeyEvent.VK_ADD -> myMazePanel.zoomIn();
+                        case KeyEvent.VK_MINUS, KeyEvent.VK_SUBTRACT -> myMazePanel.zoomOut();
+                        default -> {
+                        }
+                    }
+                }
                 if (e.getID() == KeyEvent.KEY_PRESSED && !myMaze.isQuestionPending()) {
                     Direction direction = switch (e.getKeyCode()) {
                         case KeyEvent.VK_W -> Direction.NORTH;
@@ -264,8 +332,7 @@ public class GUI implements Serializable {
             System.out.println("Cannot move in direction: " + theDirection);
         }
 
-        // Repaint both panels
-        myMazePanel.repaint();
+        // The maze panel repaints what the move changed itself.
         myRoomPanel.repaint();
     }
 
@@ -353,7 +420,6 @@ public class GUI implements Serializable {
             if (isAnsweringQuestion) {
                 myMazePanel.updateFrame(myFrameIndex);
             }
-            myMazePanel.repaint();
             if (!isFirstStep) {
                 myRoomPanel.updateFrame(myFrameIndex);
                 myRoomPanel.repaint();
@@ -363,6 +429,70 @@ public class GUI implements Serializable {
         myAnimationTimer.start();
     }
 
+    /**
+     * Starts autosaving every few seconds, as configured by
+     * {@link AutosaveService#PERIOD_PROPERTY}. Only the snapshot is taken on the event
+     * thread; the file is written in the background, and any waiting write is finished
+     * when the game exits.
+     */
+    private void setupAutosave() {
+        myAutosaver = new AutosaveService(AUTOSAVE_FILE);
+        Runtime.getRuntime().addShutdownHook(new Thread(myAutosaver::close,
+                                                        "autosave shutdown"));
+        final int period = AutosaveService.getConfiguredPeriod();
+        if (period > 0) {
+            Timer autosaveTimer = new Timer(period * 1000, e -> {
+                if (myMaze != null) {
+                    myAutosaver.save(myMaze.snapshot());
+                }
+            });
+            autosaveTimer.start();
+        }
+        myJournal = new GameJournal(RECOVERY_FILE, JOURNAL_FILE,
+                                    GameJournal.DEFAULT_THRESHOLD);
+        startJournal();
+    }
+
+    /**
+     * Starts journaling the current game.
+     */
+    private void startJournal() {
+        try {
+            myJournal.attach(myMaze);
+        } catch (IOException e) {
+            System.out.println("Could not start the recovery journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Asks the player whether to continue the game left by the previous session, if it
+     * did not end.
+     */
+    private void offerRecovery() {
+        if (!myJournal.hasPrevious()) {
+            return;
+        }
+        final int choice = JOptionPane.showConfirmDialog(myFrame,
+                "The last game did not finish. Do you want to continue it?",
+                "Recover last game", JOptionPane.YES_NO_OPTION);
+        if (choice == JOptionPane.YES_OPTION) {
+            recoverGameState();
+        }
+    }
+
+    /**
+     * Starts recording the new game. Loaded games are not recorded, since their rooms
+     * did not get their questions from the seed.
+     */
+    private void startReplay() {
+        myReplay = new GameReplay(REPLAY_FILE);
+        try {
+            myReplay.attach(myMaze);
+        } catch (IOException e) {
+            System.out.println("Could not start the replay: " + e.getMessage());
+        }
+    }
+
     /**
      * Sets up the menu bar for the main game window.
      *
@@ -396,6 +526,22 @@ public class GUI implements Serializable {
         loadFileItem.addActionListener(e -> loadGameState());
         theMenuFile.add(loadFileItem);
 
+        JMenuItem undoFileItem = new JMenuItem("Undo answer");
+        undoFileItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_Z,
+                                                           InputEvent.CTRL_DOWN_MASK));
+        undoFileItem.addActionListener(e -> myMaze.getHistory().undo());
+        theMenuFile.add(undoFileItem);
+
+        JMenuItem redoFileItem = new JMenuItem("Redo answer");
+        redoFileItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_Y,
+                                                           InputEvent.CTRL_DOWN_MASK));
+        redoFileItem.addActionListener(e -> myMaze.getHistory().redo());
+        theMenuFile.add(redoFileItem);
+
+        JMenuItem recoverFileItem = new JMenuItem("Recover last game");
+        recoverFileItem.addActionListener(e -> recoverGameState());
+        theMenuFile.add(recoverFileItem);
+
         JMenuItem changeVolumeItem = new JMenuItem("Change Volume");
         changeVolumeItem.addActionListener(e -> changeVolume());
         theMenuFile.add(changeVolumeItem);
@@ -458,48 +604,132 @@ public class GUI implements Serializable {
 
 
     /**
-     * Saves the game.
+     * Saves the game to a new slot in the background.
      */
     private void saveGameState() {
         isBackgroundMusicPlaying = mySound.isBackgroundMusicRunning();
-        try {
-            GameSaver.save(this, "game_state.ser");
-            JOptionPane.showMessageDialog(myFrame, "Game saved successfully!");
-        } catch (IOException e) {
-            JOptionPane.showMessageDialog(myFrame, "Error saving game state: " +
-                    e.getMessage());
-        }
+        final MazeState state = myMaze.snapshot();
+        myAutosaver.saveToSlot(state, mySlots).whenComplete((slot, error) ->
+            SwingUtilities.invokeLater(() -> {
+                if (error == null) {
+                    JOptionPane.showMessageDialog(myFrame, "Game saved to slot " + slot + "!");
+                } else {
+                    final Throwable cause = error.getCause() != null ? error.getCause() : error;
+                    JOptionPane.showMessageDialog(myFrame, "Error saving game state: " +
+                            cause.getMessage());
+                }
+            }));
     }
 
     /**
-     * Loads the game.
+     * Lets the player pick a saved game and loads it. Only the header of each save is
+     * read to build the list.
      */
     private void loadGameState() {
         try {
-            GUI loadedState = GameSaver.load("game_state.ser");
-
-            this.myPlayerCharacter = loadedState.myPlayerCharacter;
-            this.myMaze = loadedState.myMaze;
-
-            if (this.myMaze == null) {
-                throw new IOException("Maze object is null after loading");
+            final List<SaveSlots.Slot> slots = mySlots.list();
+            if (slots.isEmpty()) {
+                JOptionPane.showMessageDialog(myFrame, "There are no saved games.");
+                return;
+            }
+            final String[] choices = new String[slots.size()];
+            for (int i = 0; i < choices.length; i++) {
+                choices[i] = describeSlot(slots.get(i));
+            }
+            final Object choice = JOptionPane.showInputDialog(myFrame, "Choose a saved game:",
+                    "Load game", JOptionPane.PLAIN_MESSAGE, null, choices, choices[0]);
+            if (choice == null) {
+                return;
+            }
+            final int slot = slots.get(Arrays.asList(choices).indexOf(choice)).getNumber();
+            try {
+                resumeGame(mySlots.load(slot));
+            } catch (CorruptSaveException e) {
+                resumeAutosave("Slot " + slot + " is damaged (" + e.getMessage() + ").");
+                return;
             }
-
-            DatabaseConnector dbConnector = new DatabaseConnector();
-            this.myMaze.reinitializeDatabaseConnector(dbConnector);
-
-            mySound = SoundPlayer.getInstance();
-            loadCharacterImages();
-            reinitializeGUI();
-
             JOptionPane.showMessageDialog(myFrame, "Game loaded successfully!");
-        } catch (IOException | ClassNotFoundException e) {
+        } catch (IOException | SQLException e) {
             System.err.println("Error loading game state: " + e.getMessage());
             JOptionPane.showMessageDialog(myFrame, "Error loading game: " +
                     e.getMessage());
         }
     }
 
+    /**
+     * Describes a saved game for the load menu.
+     *
+     * @param theSlot The saved game.
+     * @return The description.
+     */
+    private static String describeSlot(final SaveSlots.Slot theSlot) {
+        final SaveHeader header = theSlot.getHeader();
+        return String.format("Slot %d - %tF %<tR - %dx%d maze, room (%d, %d), %d right, %d wrong",
+                             theSlot.getNumber(), new Date(theSlot.getSavedAt()),
+                             header.getWidth(), header.getHeight(), header.getCurrentX(),
+                             header.getCurrentY(), header.getRightAnswers(),
+                             header.getWrongAnswers());
+    }
+
+    /**
+     * Recovers the game left by the previous session from its recovery journal,
+     * including every move made since it was last saved.
+     */
+    private void recoverGameState() {
+        if (!myJournal.hasPrevious()) {
+            JOptionPane.showMessageDialog(myFrame, "There is no earlier game to recover.");
+            return;
+        }
+        try {
+            try {
+                resumeGame(myJournal.recoverPrevious());
+            } catch (CorruptSaveException e) {
+                resumeAutosave("The recovery file is damaged (" + e.getMessage() + ").");
+                return;
+            }
+            JOptionPane.showMessageDialog(myFrame, "Game recovered successfully!");
+        } catch (IOException | SQLException e) {
+            System.err.println("Error recovering game state: " + e.getMessage());
+            JOptionPane.showMessageDialog(myFrame, "Error recovering game: " +
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Falls back to the most recent valid autosave after a save turned out to be
+     * damaged, and tells the player.
+     *
+     * @param theProblem What was wrong with the save.
+     * @throws IOException If there is no valid autosave either.
+     * @throws SQLException If the question bank cannot be read.
+     */
+    private void resumeAutosave(final String theProblem) throws IOException, SQLException {
+        System.err.println(theProblem);
+        final MazeState state = GameSaver.loadNewest(AUTOSAVE_FILE);
+        resumeGame(state);
+        JOptionPane.showMessageDialog(myFrame, theProblem
+                + "\nLoaded the last autosave instead.");
+    }
+
+    /**
+     * Replaces the current game with a saved one.
+     *
+     * @param theState The saved game.
+     * @throws SQLException If the question bank cannot be read.
+     */
+    private void resumeGame(final MazeState theState) throws SQLException {
+        DatabaseConnector dbConnector = new DatabaseConnector();
+        myReplay.detach();
+        this.myMaze = Maze.fromState(theState, dbConnector);
+        this.myPlayerCharacter = new PlayerCharacter(theState.getCurrentX(),
+                                                     theState.getCurrentY());
+
+        mySound = SoundPlayer.getInstance();
+        loadCharacterImages();
+        reinitializeGUI();
+        startJournal();
+    }
+
 
     /**
      * Sets up the Help menu and its items.
@@ -628,42 +858,36 @@ public class GUI implements Serializable {
         myQuestionPanel.setBounds(theHalfWidth, theHalfHeight, theHalfWidth, theHalfHeight);
         rightPanel.add(myQuestionPanel);
 
-        myMaze.addPropertyChangeListener(evt -> {
-            if ("question".equals(evt.getPropertyName())) {
-
-                QuestionEvent questionEvent = (QuestionEvent) evt.getNewValue();
-                displayQuestion(questionEvent.getQuestion(), questionEvent.getDirection());
-
-            } else if ("move".equals(evt.getPropertyName())) {
-
-                MoveEvent moveEvent = (MoveEvent) evt.getNewValue();
-                myPlayerCharacter.setPosition(moveEvent.getX(), moveEvent.getY());
-                myMazePanel.updatePlayerCharacter(myPlayerCharacter);
-                updateRoomPanel(moveEvent.getRoom(), moveEvent.getX(),moveEvent.getY());
-                myQuestionPanel.clearQuestion();
-
-            } else if ("correct answer".equals(evt.getPropertyName())) {
-
-                mySound.playSFX("audio/mixkit-correct-answer-reward-952.wav");
-                myMaze.getTrivia().incrementTrys();
-                myMaze.getTrivia().incrementRightAnswer();
-
-            } else if ("wrong answer".equals(evt.getPropertyName())) {
-
-                myMazePanel.updateDirectionAndFrame(DOWN, myFrameIndex);
-                myRoomPanel.updateDirectionAndFrame(DOWN, myFrameIndex);
-                updateRoomPanel(myMaze.getCurrentRoom(), myMaze.getCurrentX(),
-                                myMaze.getCurrentY());
-                mySound.playSFX("audio/mixkit-player-losing-or-failing-2042.wav");
-                myMaze.getTrivia().incrementTrys();
-                myMaze.getTrivia().incrementWrongAnswer();
-
-            } else if ("game over".equals(evt.getPropertyName())) {
-
-                boolean playerWon = (boolean) evt.getNewValue();
-                showGameOverDialog(playerWon);
+        myMaze.addMazeListener(evt -> {
+            switch (evt.getType()) {
+                case QUESTION -> displayQuestion(evt.getQuestion(), evt.getDirection());
+                case MOVE -> {
+                    myPlayerCharacter.setPosition(evt.getX(), evt.getY());
+                    myMazePanel.updatePlayerCharacter(myPlayerCharacter);
+                    updateRoomPanel(evt.getRoom(), evt.getX(), evt.getY());
+                    myQuestionPanel.clearQuestion();
+                }
+                case CORRECT_ANSWER ->
+                        mySound.playSFX("audio/mixkit-correct-answer-reward-952.wav");
+                case WRONG_ANSWER -> {
+                    myMazePanel.updateDirectionAndFrame(DOWN, myFrameIndex);
+                    myRoomPanel.updateDirectionAndFrame(DOWN, myFrameIndex);
+                    updateRoomPanel(evt.getRoom(), myMaze.getCurrentX(),
+                                    myMaze.getCurrentY());
+                    mySound.playSFX("audio/mixkit-player-losing-or-failing-2042.wav");
+                }
+                case GAME_OVER -> showGameOverDialog(evt.isWon());
+                case RESTORED -> {
+                    myPlayerCharacter.setPosition(evt.getX(), evt.getY());
+                    myMazePanel.updatePlayerCharacter(myPlayerCharacter);
+                    updateRoomPanel(evt.getRoom(), evt.getX(), evt.getY());
+                    myQuestionPanel.clearQuestion();
+                }
+                default -> {
+                }
             }
-        });
+        }, MazeEventType.QUESTION, MazeEventType.MOVE, MazeEventType.CORRECT_ANSWER,
+           MazeEventType.WRONG_ANSWER, MazeEventType.GAME_OVER, MazeEventType.RESTORED);
     }
 
     /**
@@ -691,6 +915,7 @@ public class GUI implements Serializable {
             try {
                 Thread.sleep(1000);
                 SwingUtilities.invokeLater(() -> {
+                    myJournal.discard();
                     JOptionPane.showMessageDialog(null, finalMessage, "Game Results",
                             JOptionPane.INFORMATION_MESSAGE);
                     System.exit(0);
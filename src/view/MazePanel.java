@@ -7,6 +7,7 @@ package view;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 
 import java.io.IOException;
@@ -17,14 +18,24 @@ import java.io.Serializable;
 
 import javax.swing.JPanel;
 
+import java.util.BitSet;
 import java.util.Map;
 
 import model.Maze;
+import model.MazeEvent;
+import model.MazeEventType;
+import model.MazeListener;
 import model.PlayerCharacter;
 
 
 /**
- * The maze panel for the game that shows the player and the maze.
+ * The maze panel for the game that shows the player and the maze. A camera follows the
+ * player over mazes bigger than the panel, at one of a few zoom levels, and only the
+ * cells inside the panel are ever looked at or drawn, so painting costs the same for
+ * any size of maze. The visible cells are drawn once into an offscreen layer the size of
+ * the panel; afterwards only cells the game reports as changed are drawn again, and
+ * moving or animating the player repaints just the sprite's old and new bounds unless
+ * the camera has to move.
  * @author Eric John
  * @version 8/4/2024
  */
@@ -41,9 +52,37 @@ public class MazePanel extends JPanel implements Serializable {
             "W - Move Up",
             "A - Move Left",
             "S - Move Down",
-            "D - Move Right"
+            "D - Move Right",
+            "+/- - Zoom"
     };
 
+    /**
+     * The size of a cell in pixels at each zoom level, from farthest to closest.
+     */
+    private static final int[] CELL_SIZES = {8, 16, 32, 48, 75};
+
+    /**
+     * The size of a cell the sprite and exit mark were made for.
+     */
+    private static final int FULL_CELL_SIZE = 75;
+
+    /**
+     * The font of the exit mark at each zoom level.
+     */
+    private static final Font[] EXIT_FONTS = new Font[CELL_SIZES.length];
+
+    static {
+        for (int i = 0; i < CELL_SIZES.length; i++) {
+            EXIT_FONTS[i] = new Font("Verdana", Font.BOLD,
+                                     Math.max(1, 30 * CELL_SIZES[i] / FULL_CELL_SIZE));
+        }
+    }
+
+    /**
+     * The font of the controls.
+     */
+    private static final Font CONTROLS_FONT = new Font("Verdana", Font.BOLD, 12);
+
     /**
      * The maze of the game.
      */
@@ -69,12 +108,55 @@ public class MazePanel extends JPanel implements Serializable {
      */
     private final transient Map<String, BufferedImage[]> myCharacterImages;
 
+    /**
+     * The zoom level, an index into {@link #CELL_SIZES}.
+     */
+    private int myZoom = CELL_SIZES.length - 1;
+
+    /**
+     * How big the cells are at the current zoom level.
+     */
+    private int myCellSize = CELL_SIZES[myZoom];
 
     /**
-     * How big the cell sizes should be.
+     * The maze pixel shown at the left edge of the panel.
      */
-    private final int cellSize = 75;
+    private int myCameraX;
 
+    /**
+     * The maze pixel shown at the top edge of the panel.
+     */
+    private int myCameraY;
+
+    /**
+     * The visible cells drawn offscreen, or null until the next paint draws them.
+     */
+    private transient BufferedImage myLayer;
+
+    /**
+     * The camera x position the layer was drawn for.
+     */
+    private transient int myLayerX;
+
+    /**
+     * The camera y position the layer was drawn for.
+     */
+    private transient int myLayerY;
+
+    /**
+     * The cell size the layer was drawn for.
+     */
+    private transient int myLayerCellSize;
+
+    /**
+     * The row by row indexes of the cells to draw again into the layer.
+     */
+    private transient BitSet myDirtyCells = new BitSet();
+
+    /**
+     * Where the player was last drawn on the panel, or null.
+     */
+    private transient Rectangle mySpriteBounds;
 
 
     /**
@@ -91,7 +173,33 @@ public class MazePanel extends JPanel implements Serializable {
         myFrameIndex = theFrameIndex;
         myCharacterImages = theCharacterImage;
         myDirection = theDirection;
-        myMaze.addPropertyChangeListener(e -> repaint());
+        myMaze.addMazeListener(new MazeListener() {
+            @Override
+            public void mazeChanged(final MazeEvent theEvent) {
+                switch (theEvent.getType()) {
+                    case ROOM -> markDirty(theEvent.getIndex());
+                    case DOOR_CLOSED -> markDirty(myMaze.getCurrentY() * myMaze.getWidth()
+                                                  + myMaze.getCurrentX());
+                    case RESTORED -> myLayer = null;
+                    default -> {
+                        // The sprite is repainted in batchEnded.
+                    }
+                }
+            }
+
+            @Override
+            public void batchEnded() {
+                repaintChanges();
+            }
+        }, MazeEventType.ROOM, MazeEventType.START_GAME, MazeEventType.MOVE,
+           MazeEventType.DOOR_CLOSED, MazeEventType.RESTORED);
+        addMouseWheelListener(e -> {
+            if (e.getWheelRotation() < 0) {
+                zoomIn();
+            } else if (e.getWheelRotation() > 0) {
+                zoomOut();
+            }
+        });
     }
 
     /**
@@ -100,44 +208,239 @@ public class MazePanel extends JPanel implements Serializable {
      */
     @Override
     protected void paintComponent(final Graphics theG) {
-        super.paintComponent(theG);
-        drawMaze(theG);
+        updateCamera();
+        final BufferedImage layer = updateLayer();
+        if (layer == null) {
+            super.paintComponent(theG);
+            final Rectangle clip = theG.getClipBounds();
+            drawCells(theG, clip == null ? new Rectangle(0, 0, getWidth(), getHeight())
+                                         : clip);
+        } else {
+            theG.drawImage(layer, 0, 0, null);
+        }
         drawPlayer(theG);
         drawControls(theG);
     }
 
     /**
-     * Draws the maze for the game.
-     * @param theG - The graphics for the game.
+     * Brings the layer up to date. It is drawn whole when the panel is resized or the
+     * camera moved or zoomed, and otherwise only the visible cells marked as changed are
+     * drawn again.
+     * @return The layer, or null if the panel has no size yet.
      */
-    private void drawMaze(final Graphics theG) {
-        for (int x = 0; x < myMaze.getRoomSize(); x++) {
-            for (int y = 0; y < myMaze.getRoomSize(); y++) {
-                if (myMaze.getRoom(x,y).isAnswered()) {
-                    theG.setColor(Color.MAGENTA);
-                } else {
-                    theG.setColor(Color.BLACK);
-                }
-                theG.fillRect(x * cellSize, y * cellSize, cellSize, cellSize);
-                theG.setColor(Color.WHITE);
-                theG.drawRect(x * cellSize, y * cellSize, cellSize, cellSize);
-                if (x == myMaze.getRoomSize() - 1 && y == myMaze.getRoomSize() - 1) {
-                    theG.setFont(new Font("Verdana", Font.BOLD, 30));
-                    theG.drawString("X", (x * cellSize) + 50, (y * cellSize) + 70);
+    private BufferedImage updateLayer() {
+        final int width = getWidth();
+        final int height = getHeight();
+        if (width <= 0 || height <= 0) {
+            return null;
+        }
+        if (myLayer == null || myLayer.getWidth() != width || myLayer.getHeight() != height
+            || myLayerX != myCameraX || myLayerY != myCameraY
+            || myLayerCellSize != myCellSize) {
+            if (myLayer == null || myLayer.getWidth() != width
+                || myLayer.getHeight() != height) {
+                myLayer = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            }
+            final Graphics g = myLayer.getGraphics();
+            g.setColor(getBackground());
+            g.fillRect(0, 0, width, height);
+            drawCells(g, new Rectangle(0, 0, width, height));
+            g.dispose();
+            myLayerX = myCameraX;
+            myLayerY = myCameraY;
+            myLayerCellSize = myCellSize;
+        } else if (!myDirtyCells.isEmpty()) {
+            final Graphics g = myLayer.getGraphics();
+            final Rectangle view = new Rectangle(0, 0, width, height);
+            for (int i = myDirtyCells.nextSetBit(0); i >= 0;
+                 i = myDirtyCells.nextSetBit(i + 1)) {
+                final Rectangle cell = cellBounds(i % myMaze.getWidth(), i / myMaze.getWidth());
+                if (cell.intersects(view)) {
+                    drawCell(g, i % myMaze.getWidth(), i / myMaze.getWidth());
                 }
             }
+            g.dispose();
         }
+        myDirtyCells.clear();
+        return myLayer;
     }
 
     /**
-     * Draws the character for the maze.
+     * Draws the cells of the maze that intersect an area of the panel, and no others.
+     * @param theG - The graphics to draw with.
+     * @param theArea - The area of the panel to fill.
+     */
+    private void drawCells(final Graphics theG, final Rectangle theArea) {
+        final int fromX = Math.max(0, (theArea.x + myCameraX) / myCellSize);
+        final int fromY = Math.max(0, (theArea.y + myCameraY) / myCellSize);
+        final int toX = Math.min(myMaze.getWidth(),
+                (theArea.x + theArea.width + myCameraX + myCellSize - 1) / myCellSize);
+        final int toY = Math.min(myMaze.getHeight(),
+                (theArea.y + theArea.height + myCameraY + myCellSize - 1) / myCellSize);
+        for (int x = fromX; x < toX; x++) {
+            for (int y = fromY; y < toY; y++) {
+                drawCell(theG, x, y);
+            }
+        }
+    }
+
+    /**
+     * Draws one cell of the maze.
+     * @param theG - The graphics to draw with.
+     * @param theX - The column of the cell.
+     * @param theY - The row of the cell.
+     */
+    private void drawCell(final Graphics theG, final int theX, final int theY) {
+        final int left = theX * myCellSize - myCameraX;
+        final int top = theY * myCellSize - myCameraY;
+        if (myMaze.isRoomAnswered(theX, theY)) {
+            theG.setColor(Color.MAGENTA);
+        } else {
+            theG.setColor(Color.BLACK);
+        }
+        theG.fillRect(left, top, myCellSize, myCellSize);
+        theG.setColor(Color.WHITE);
+        theG.drawRect(left, top, myCellSize, myCellSize);
+        if (theX == myMaze.getWidth() - 1 && theY == myMaze.getHeight() - 1) {
+            theG.setFont(EXIT_FONTS[myZoom]);
+            theG.drawString("X", left + scaled(50), top + scaled(70));
+        }
+    }
+
+    /**
+     * Gets where a cell is on the panel, including its right and bottom border.
+     * @param theX - The column of the cell.
+     * @param theY - The row of the cell.
+     * @return The bounds of the cell.
+     */
+    private Rectangle cellBounds(final int theX, final int theY) {
+        return new Rectangle(theX * myCellSize - myCameraX, theY * myCellSize - myCameraY,
+                             myCellSize + 1, myCellSize + 1);
+    }
+
+    /**
+     * Scales a distance made for full size cells to the current zoom level.
+     * @param theDistance - The distance at full size, in pixels.
+     * @return The distance at the current zoom level.
+     */
+    private int scaled(final int theDistance) {
+        return theDistance * myCellSize / FULL_CELL_SIZE;
+    }
+
+    /**
+     * Moves the camera to keep the player in the middle of the panel, without showing
+     * anything past the edges of a maze bigger than the panel.
+     * @return True if the camera moved. False otherwise.
+     */
+    private boolean updateCamera() {
+        final int cameraX = follow(myPlayerCharacter.getMyX(), myMaze.getWidth(), getWidth());
+        final int cameraY = follow(myPlayerCharacter.getMyY(), myMaze.getHeight(),
+                                   getHeight());
+        final boolean moved = cameraX != myCameraX || cameraY != myCameraY;
+        myCameraX = cameraX;
+        myCameraY = cameraY;
+        return moved;
+    }
+
+    /**
+     * Gets the camera position along one axis that centers a cell.
+     * @param theCell - The cell to center.
+     * @param theCells - The number of cells along the axis.
+     * @param theView - The size of the panel along the axis.
+     * @return The maze pixel to show at the panel's edge.
+     */
+    private int follow(final int theCell, final int theCells, final int theView) {
+        final long maze = (long) theCells * myCellSize;
+        if (theView <= 0 || maze <= theView) {
+            return 0;
+        }
+        final long centre = (long) theCell * myCellSize + myCellSize / 2 - theView / 2;
+        return (int) Math.max(0, Math.min(maze - theView, centre));
+    }
+
+    /**
+     * Marks a cell to be drawn again into the layer.
+     * @param theIndex - The row by row index of the cell.
+     */
+    private void markDirty(final int theIndex) {
+        if (myLayer != null) {
+            myDirtyCells.set(theIndex);
+        }
+    }
+
+    /**
+     * Repaints the visible cells marked as changed and the player, or the whole panel
+     * if the layer has to be drawn again.
+     */
+    private void repaintChanges() {
+        if (myLayer == null || updateCamera()) {
+            repaint();
+            return;
+        }
+        for (int i = myDirtyCells.nextSetBit(0); i >= 0; i = myDirtyCells.nextSetBit(i + 1)) {
+            repaint(cellBounds(i % myMaze.getWidth(), i / myMaze.getWidth()));
+        }
+        repaintSprite();
+    }
+
+    /**
+     * Repaints where the player was last drawn and where it is drawn now, or the whole
+     * panel if the camera has to follow the player.
+     */
+    private void repaintSprite() {
+        if (updateCamera()) {
+            repaint();
+            return;
+        }
+        final Rectangle bounds = spriteBounds();
+        if (mySpriteBounds != null) {
+            repaint(mySpriteBounds);
+        }
+        if (bounds != null) {
+            repaint(bounds);
+        } else {
+            repaint();
+        }
+        mySpriteBounds = bounds;
+    }
+
+    /**
+     * Gets where the player is drawn on the panel.
+     * @return The bounds of the sprite, or null if it has no image.
+     */
+    private Rectangle spriteBounds() {
+        final BufferedImage image = spriteImage();
+        if (image == null) {
+            return null;
+        }
+        return new Rectangle(myPlayerCharacter.getMyX() * myCellSize - myCameraX,
+                             myPlayerCharacter.getMyY() * myCellSize + scaled(10) - myCameraY,
+                             Math.max(1, scaled(image.getWidth())),
+                             Math.max(1, scaled(image.getHeight())));
+    }
+
+    /**
+     * Gets the image of the player for its direction and animation frame.
+     * @return The image, or null if there is none.
+     */
+    private BufferedImage spriteImage() {
+        final BufferedImage[] images = myCharacterImages == null ? null
+                : myCharacterImages.get(myDirection.toUpperCase());
+        return images == null ? null : images[myFrameIndex];
+    }
+
+    /**
+     * Draws the character for the maze, scaled to the zoom level.
      * @param theG - The graphics of the game.
      */
     private void drawPlayer(final Graphics theG) {
-        BufferedImage[] images = myCharacterImages.get(myDirection.toUpperCase());
-        BufferedImage currentImage = images[myFrameIndex];
-        theG.drawImage(currentImage, myPlayerCharacter.getMyX() * cellSize,
-                    myPlayerCharacter.getMyY()*cellSize + 10, this);
+        final BufferedImage currentImage = spriteImage();
+        final Rectangle bounds = spriteBounds();
+        if (bounds != null) {
+            theG.drawImage(currentImage, bounds.x, bounds.y, bounds.width, bounds.height,
+                           this);
+        }
+        mySpriteBounds = bounds;
     }
 
 
@@ -147,7 +450,7 @@ public class MazePanel extends JPanel implements Serializable {
      */
     private void drawControls(final Graphics theG) {
         theG.setColor(Color.WHITE);
-        theG.setFont(new Font("Verdana", Font.BOLD, 12));
+        theG.setFont(CONTROLS_FONT);
         int startX = 10;
         int startY = getHeight() / 2 + 20;
 
@@ -157,13 +460,42 @@ public class MazePanel extends JPanel implements Serializable {
         }
     }
 
+    /**
+     * Shows the maze from closer, with bigger cells, if it is not already at the
+     * closest zoom level.
+     */
+    public void zoomIn() {
+        setZoom(myZoom + 1);
+    }
+
+    /**
+     * Shows more of the maze, with smaller cells, if it is not already at the farthest
+     * zoom level.
+     */
+    public void zoomOut() {
+        setZoom(myZoom - 1);
+    }
+
+    /**
+     * Changes the zoom level, keeping it within the available levels.
+     * @param theZoom - The index of the zoom level, 0 being the farthest.
+     */
+    private void setZoom(final int theZoom) {
+        final int zoom = Math.max(0, Math.min(CELL_SIZES.length - 1, theZoom));
+        if (zoom != myZoom) {
+            myZoom = zoom;
+            myCellSize = CELL_SIZES[zoom];
+            repaint();
+        }
+    }
+
     /**
      * Updates the characterSprite
      * @param theFrameIndex - The frame index of a character sprite
      */
     public void updateFrame(final int theFrameIndex) {
         myFrameIndex = theFrameIndex;
-        repaint();
+        repaintSprite();
     }
 
     /**
@@ -175,7 +507,7 @@ public class MazePanel extends JPanel implements Serializable {
                                         final int theNewFrameIndex) {
         myDirection = theNewDirection.toUpperCase();
         myFrameIndex = theNewFrameIndex;
-        repaint();
+        repaintSprite();
     }
 
     /**
@@ -184,7 +516,7 @@ public class MazePanel extends JPanel implements Serializable {
      */
     public void updatePlayerCharacter(final PlayerCharacter thePlayerCharacter) {
         this.myPlayerCharacter = thePlayerCharacter;
-        repaint();
+        repaintSprite();
     }
 
     /**
@@ -207,5 +539,6 @@ public class MazePanel extends JPanel implements Serializable {
     private void readObject(final ObjectInputStream theIn) throws IOException,
                             ClassNotFoundException {
         theIn.defaultReadObject();
+        myDirtyCells = new BitSet();
     }
 }
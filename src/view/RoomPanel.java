@@ -11,8 +11,6 @@ import java.awt.Graphics;
 import java.awt.Graphics2D;
 
 import java.awt.image.BufferedImage;
-import java.beans.PropertyChangeEvent;
-import java.beans.PropertyChangeListener;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
@@ -29,10 +27,12 @@ import java.util.Map;
 import model.Direction;
 import model.DoorState;
 import model.Maze;
-import model.MoveEvent;
+import model.MazeEvent;
+import model.MazeEventType;
+import model.MazeListener;
 import model.Room;
 
-public class RoomPanel extends JPanel implements PropertyChangeListener, Serializable {
+public class RoomPanel extends JPanel implements MazeListener, Serializable {
 
     /**
      * Serial for the RoomPanel
@@ -229,9 +229,9 @@ public class RoomPanel extends JPanel implements PropertyChangeListener, Seriali
      */
     private boolean isEdge(final Direction theDirection) {
         return  (myPlayerY == 0 && theDirection == Direction.NORTH) ||
-                (myPlayerY == myMaze.getMazeSize() - 1 && theDirection == Direction.SOUTH) ||
+                (myPlayerY == myMaze.getHeight() - 1 && theDirection == Direction.SOUTH) ||
                 (myPlayerX == 0 && theDirection == Direction.WEST) ||
-                (myPlayerX == myMaze.getMazeSize() - 1 && theDirection == Direction.EAST);
+                (myPlayerX == myMaze.getWidth() - 1 && theDirection == Direction.EAST);
     }
 
     /**
@@ -256,15 +256,13 @@ public class RoomPanel extends JPanel implements PropertyChangeListener, Seriali
     }
 
     /**
-     * Property change for handling the move event.
-     * @param theEvt A PropertyChangeEvent object describing the event source
-     *          and the property that has changed.
+     * Handles the move event.
+     * @param theEvt The event, of which only moves are handled.
      */
     @Override
-    public void propertyChange(final PropertyChangeEvent theEvt) {
-        if (theEvt.getPropertyName().equals("move")) {
-            MoveEvent moveEvent = (MoveEvent) theEvt.getNewValue();
-            updateRoomPanel(moveEvent.getRoom(), moveEvent.getX(), moveEvent.getY());
+    public void mazeChanged(final MazeEvent theEvt) {
+        if (theEvt.getType() == MazeEventType.MOVE) {
+            updateRoomPanel(theEvt.getRoom(), theEvt.getX(), theEvt.getY());
         }
     }
 
@@ -0,0 +1,209 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * AutosaveServiceTest.java
+ */
+package controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+
+import model.DoorGrid;
+import model.MazeState;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the AutosaveService class and the atomic saves of GameSaver.
+ *
+ * @version 10/17/2026
+ */
+public class AutosaveServiceTest {
+
+    /**
+     * A folder for the save files.
+     */
+    private Path myFolder;
+
+    /**
+     * Creates the folder before each test.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        myFolder = Files.createTempDirectory("autosave-test");
+    }
+
+    /**
+     * Deletes the folder after each test.
+     */
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(myFolder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(myFolder);
+    }
+
+    /**
+     * Creates a snapshot of a 3x3 game with the player at the given column.
+     * @param theX - The player's x coordinate.
+     * @return The snapshot.
+     */
+    private static MazeState state(final int theX) {
+        return new MazeState(3, 3, new long[DoorGrid.wordCount(3, 3)], theX, 0,
+                             0, 0, 0, 0L, new int[0], new int[0]);
+    }
+
+    /**
+     * Counts the files in the save folder.
+     * @return The number of files.
+     */
+    private long fileCount() throws IOException {
+        try (Stream<Path> files = Files.list(myFolder)) {
+            return files.count();
+        }
+    }
+
+    /**
+     * Tests that a save replaces the previous one and leaves no temporary file behind.
+     */
+    @Test
+    void testAtomicSaveReplaces() throws IOException {
+        String file = myFolder.resolve("game.tmz").toString();
+        GameSaver.saveState(state(0), file);
+        GameSaver.saveState(state(2), file);
+        assertEquals(2, GameSaver.loadState(file).getCurrentX());
+        assertEquals(1, fileCount());
+    }
+
+    /**
+     * Writes a save with a given save time.
+     * @param theFile - The save file.
+     * @param theX - The player's x coordinate.
+     * @param theSavedAt - The save time.
+     * @return The file name.
+     */
+    private static String write(final Path theFile, final int theX, final long theSavedAt)
+                                throws IOException {
+        try (OutputStream out = Files.newOutputStream(theFile)) {
+            MazeStateCodec.write(state(theX), theSavedAt, out);
+        }
+        return theFile.toString();
+    }
+
+    /**
+     * Tests that loading falls back from a damaged save to the newest valid one.
+     */
+    @Test
+    void testLoadNewest() throws IOException {
+        String older = write(myFolder.resolve("older.tmz"), 1, 1_000L);
+        String newer = write(myFolder.resolve("newer.tmz"), 2, 2_000L);
+        String missing = myFolder.resolve("missing.tmz").toString();
+        assertEquals(2, GameSaver.loadNewest(older, missing, newer).getCurrentX());
+
+        byte[] bytes = Files.readAllBytes(Path.of(newer));
+        bytes[bytes.length - 6] ^= 1;
+        Files.write(Path.of(newer), bytes);
+        assertThrows(CorruptSaveException.class, () -> GameSaver.loadState(newer));
+        assertEquals(1, GameSaver.loadNewest(older, missing, newer).getCurrentX());
+
+        Files.write(Path.of(older), new byte[] {1, 2, 3});
+        assertThrows(FileNotFoundException.class,
+                     () -> GameSaver.loadNewest(older, missing, newer));
+    }
+
+    /**
+     * Tests that a save cut short is rejected from its missing end marker.
+     */
+    @Test
+    void testCutShort() throws IOException {
+        String file = write(myFolder.resolve("game.tmz"), 1, 1_000L);
+        byte[] bytes = Files.readAllBytes(Path.of(file));
+        Files.write(Path.of(file), Arrays.copyOf(bytes, bytes.length / 2));
+        CorruptSaveException e = assertThrows(CorruptSaveException.class,
+                                              () -> GameSaver.loadState(file));
+        assertEquals("Save is cut short", e.getMessage());
+    }
+
+    /**
+     * Tests that the service writes the snapshot in the background.
+     */
+    @Test
+    void testSave() throws Exception {
+        String file = myFolder.resolve("auto.tmz").toString();
+        try (AutosaveService service = new AutosaveService(file)) {
+            service.save(state(1)).get();
+            assertEquals(1, GameSaver.loadState(file).getCurrentX());
+        }
+        assertEquals(1, fileCount());
+    }
+
+    /**
+     * Tests that once every save has finished the newest snapshot is on disk.
+     */
+    @Test
+    void testNewestWins() throws Exception {
+        String file = myFolder.resolve("auto.tmz").toString();
+        try (AutosaveService service = new AutosaveService(file)) {
+            CompletableFuture<Void> last = null;
+            for (int x = 0; x < 3; x++) {
+                last = service.save(state(x));
+            }
+            last.get();
+            assertEquals(2, GameSaver.loadState(file).getCurrentX());
+        }
+    }
+
+    /**
+     * Tests that a save to a slot is written by the service, after the waiting autosave.
+     */
+    @Test
+    void testSaveToSlot() throws Exception {
+        String file = myFolder.resolve("auto.tmz").toString();
+        SaveSlots slots = new SaveSlots(myFolder.toString());
+        try (AutosaveService service = new AutosaveService(file)) {
+            CompletableFuture<Void> autosave = service.save(state(1));
+            int slot = service.saveToSlot(state(2), slots).get();
+            assertTrue(autosave.isDone());
+            assertEquals(2, slots.load(slot).getCurrentX());
+        }
+        assertEquals(1, GameSaver.loadState(file).getCurrentX());
+    }
+
+    /**
+     * Tests that a failed save is reported through its future.
+     */
+    @Test
+    void testFailure() {
+        String file = myFolder.resolve("missing").resolve("auto.tmz").toString();
+        try (AutosaveService service = new AutosaveService(file)) {
+            ExecutionException e = assertThrows(ExecutionException.class,
+                                                () -> service.save(state(0)).get());
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+    /**
+     * Tests that closing the service writes the waiting snapshot first.
+     */
+    @Test
+    void testCloseFlushes() throws IOException {
+        String file = myFolder.resolve("auto.tmz").toString();
+        AutosaveService service = new AutosaveService(file);
+        service.save(state(1));
+        service.close();
+        assertEquals(1, GameSaver.loadState(file).getCurrentX());
+    }
+}
@@ -0,0 +1,344 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * GameJournalTest.java
+ */
+package controller;
+
+import static model.TestMazes.assertSameGame;
+import static model.TestMazes.generator;
+import static model.TestMazes.maze;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import model.Direction;
+import model.DoorGrid;
+import model.Maze;
+import model.MazeState;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the GameJournal class.
+ *
+ * @version 10/17/2026
+ */
+public class GameJournalTest {
+
+    /**
+     * A folder for the snapshot and journal.
+     */
+    private Path myFolder;
+
+    /**
+     * The snapshot file.
+     */
+    private String mySnapshot;
+
+    /**
+     * The journal file.
+     */
+    private String myJournalFile;
+
+    /**
+     * Creates the folder before each test.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        myFolder = Files.createTempDirectory("journal-test");
+        mySnapshot = myFolder.resolve("recovery.tmz").toString();
+        myJournalFile = myFolder.resolve("recovery.journal").toString();
+    }
+
+    /**
+     * Deletes the folder after each test.
+     */
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(myFolder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(myFolder);
+    }
+
+    /**
+     * Tests that moves and answers made after the snapshot are recovered.
+     */
+    @Test
+    void testRecover() throws IOException {
+        Maze maze = maze(4, 3);
+        try (GameJournal journal = new GameJournal(mySnapshot, myJournalFile,
+                                                   GameJournal.DEFAULT_THRESHOLD)) {
+            journal.attach(maze);
+            long headerSize = journal.size();
+            maze.move(Direction.EAST);
+            maze.processAnswer(Direction.EAST, true);
+            maze.move(Direction.SOUTH);
+            maze.processAnswer(Direction.SOUTH, false);
+            assertTrue(journal.size() > headerSize);
+        }
+        assertSameGame(maze.snapshot(), GameJournal.recover(mySnapshot, myJournalFile));
+        assertEquals(1, maze.snapshot().getCurrentX());
+    }
+
+    /**
+     * Tests that a compressed journal and snapshot are recovered, including after the
+     * journal is cut short.
+     */
+    @Test
+    void testCompressedRecover() throws IOException {
+        Maze maze = maze(4, 4);
+        try (GameJournal journal = new GameJournal(mySnapshot, myJournalFile,
+                GameJournal.DEFAULT_THRESHOLD, SaveCompression.FAST)) {
+            journal.attach(maze);
+            maze.move(Direction.EAST);
+            maze.processAnswer(Direction.EAST, true);
+            maze.move(Direction.SOUTH);
+            maze.processAnswer(Direction.SOUTH, false);
+        }
+        assertEquals(SaveCompression.CODEC_DEFLATE,
+                     GameSaver.readHeader(mySnapshot).getCodec());
+        assertSameGame(maze.snapshot(), GameJournal.recover(mySnapshot, myJournalFile));
+
+        Path journalPath = Path.of(myJournalFile);
+        byte[] bytes = Files.readAllBytes(journalPath);
+        Files.write(journalPath, Arrays.copyOf(bytes, bytes.length - 2));
+        assertEquals(1, GameJournal.recover(mySnapshot, myJournalFile).getCurrentX());
+    }
+
+    /**
+     * Tests that a missing journal recovers the snapshot alone.
+     */
+    @Test
+    void testMissingJournal() throws IOException {
+        Maze maze = maze(3, 3);
+        GameSaver.saveState(maze.snapshot(), mySnapshot);
+        assertSameGame(maze.snapshot(), GameJournal.recover(mySnapshot, myJournalFile));
+    }
+
+    /**
+     * Tests that a record cut short by a crash is ignored.
+     */
+    @Test
+    void testTornRecord() throws IOException {
+        Maze maze = maze(3, 3);
+        try (GameJournal journal = new GameJournal(mySnapshot, myJournalFile,
+                                                   GameJournal.DEFAULT_THRESHOLD)) {
+            journal.attach(maze);
+            maze.move(Direction.EAST);
+            maze.processAnswer(Direction.EAST, true);
+        }
+        MazeState expected = maze.snapshot();
+        Path journalPath = Path.of(myJournalFile);
+        byte[] bytes = Files.readAllBytes(journalPath);
+        byte[] torn = new byte[bytes.length + 3];
+        System.arraycopy(bytes, 0, torn, 0, bytes.length);
+        torn[bytes.length] = 2;
+        Files.write(journalPath, torn);
+
+        assertSameGame(expected, GameJournal.recover(mySnapshot, myJournalFile));
+    }
+
+    /**
+     * Tests that the journal is compacted once it passes its threshold, and that the game
+     * can be recovered while the compaction is being written and after it.
+     */
+    @Test
+    void testCompaction() throws IOException {
+        Maze maze = maze(5, 5);
+        try (GameJournal journal = new GameJournal(mySnapshot, myJournalFile, 40)) {
+            journal.attach(maze);
+            maze.move(Direction.EAST);
+            maze.processAnswer(Direction.EAST, true);
+            maze.move(Direction.SOUTH);
+            maze.processAnswer(Direction.SOUTH, true);
+            assertSameGame(maze.snapshot(), GameJournal.recover(mySnapshot, myJournalFile));
+            maze.move(Direction.EAST);
+            maze.processAnswer(Direction.EAST, false);
+            assertSameGame(maze.snapshot(), GameJournal.recover(mySnapshot, myJournalFile));
+
+            long size = journal.size();
+            journal.awaitCompaction();
+            assertTrue(journal.size() <= size);
+            assertTrue(GameSaver.loadState(mySnapshot).getRightAnswers() > 0);
+            assertFalse(Files.exists(Path.of(myJournalFile + ".old")));
+            assertSameGame(maze.snapshot(), GameJournal.recover(mySnapshot, myJournalFile));
+        }
+        assertSameGame(maze.snapshot(), GameJournal.recover(mySnapshot, myJournalFile));
+    }
+
+    /**
+     * Tests that a crash while the journal is being started over after a compaction
+     * recovers the records in the old journal.
+     */
+    @Test
+    void testCrashDuringCompaction() throws IOException {
+        Maze maze = maze(4, 4);
+        try (GameJournal journal = new GameJournal(mySnapshot, myJournalFile,
+                                                   GameJournal.DEFAULT_THRESHOLD)) {
+            journal.attach(maze);
+            maze.move(Direction.EAST);
+            maze.processAnswer(Direction.EAST, true);
+            maze.move(Direction.SOUTH);
+            maze.processAnswer(Direction.SOUTH, false);
+        }
+        Path journalPath = Path.of(myJournalFile);
+        Path old = Path.of(myJournalFile + ".old");
+        Files.move(journalPath, old);
+        assertSameGame(maze.snapshot(), GameJournal.recover(mySnapshot, myJournalFile));
+
+        byte[] bytes = Files.readAllBytes(old);
+        Files.write(journalPath, Arrays.copyOf(bytes, 7));
+        assertSameGame(maze.snapshot(), GameJournal.recover(mySnapshot, myJournalFile));
+        Files.write(journalPath, bytes);
+        assertSameGame(maze.snapshot(), GameJournal.recover(mySnapshot, myJournalFile));
+    }
+
+    /**
+     * Tests that undo, redo and seek are journaled as records instead of a new snapshot,
+     * and recovered.
+     */
+    @Test
+    void testUndoRedo() throws IOException {
+        Maze maze = maze(4, 4);
+        try (GameJournal journal = new GameJournal(mySnapshot, myJournalFile,
+                                                   GameJournal.DEFAULT_THRESHOLD)) {
+            journal.attach(maze);
+            maze.move(Direction.EAST);
+            maze.processAnswer(Direction.EAST, true);
+            maze.move(Direction.SOUTH);
+            maze.processAnswer(Direction.SOUTH, false);
+            maze.move(Direction.EAST);
+            maze.processAnswer(Direction.EAST, true);
+            long snapshotTime = Files.getLastModifiedTime(Path.of(mySnapshot)).toMillis();
+
+            long size = journal.size();
+            maze.getHistory().undo();
+            maze.getHistory().undo();
+            assertTrue(journal.size() > size);
+            assertSameGame(maze.snapshot(), GameJournal.recover(mySnapshot, myJournalFile));
+            assertEquals(0, GameJournal.recover(mySnapshot, myJournalFile).getWrongAnswers());
+
+            maze.getHistory().redo();
+            assertSameGame(maze.snapshot(), GameJournal.recover(mySnapshot, myJournalFile));
+            assertEquals(1, GameJournal.recover(mySnapshot, myJournalFile).getWrongAnswers());
+
+            maze.getHistory().seek(0);
+            assertSameGame(maze.snapshot(), GameJournal.recover(mySnapshot, myJournalFile));
+            maze.getHistory().seek(3);
+            maze.move(Direction.SOUTH);
+            maze.processAnswer(Direction.SOUTH, true);
+            assertSameGame(maze.snapshot(), GameJournal.recover(mySnapshot, myJournalFile));
+            assertEquals(snapshotTime,
+                         Files.getLastModifiedTime(Path.of(mySnapshot)).toMillis());
+        }
+    }
+
+    /**
+     * Tests that a game left by a crash can still be recovered after the next session
+     * attaches a new game.
+     */
+    @Test
+    void testRecoverPreviousAfterCrash() throws IOException {
+        Maze crashed = maze(4, 4);
+        GameJournal before = new GameJournal(mySnapshot, myJournalFile,
+                                             GameJournal.DEFAULT_THRESHOLD);
+        before.attach(crashed);
+        crashed.move(Direction.EAST);
+        crashed.processAnswer(Direction.EAST, true);
+        crashed.move(Direction.SOUTH);
+        crashed.processAnswer(Direction.SOUTH, false);
+        before.detach();
+        MazeState expected = crashed.snapshot();
+
+        Maze next = maze(4, 4);
+        try (GameJournal journal = new GameJournal(mySnapshot, myJournalFile,
+                                                   GameJournal.DEFAULT_THRESHOLD)) {
+            journal.attach(next);
+            next.move(Direction.EAST);
+            next.processAnswer(Direction.EAST, true);
+            assertTrue(journal.hasPrevious());
+            assertSameGame(expected, journal.recoverPrevious());
+
+            Maze recovered = Maze.fromState(journal.recoverPrevious(), generator());
+            journal.attach(recovered);
+            assertSameGame(expected, journal.recoverPrevious());
+            assertSameGame(recovered.snapshot(), GameJournal.recover(mySnapshot,
+                                                                     myJournalFile));
+        }
+        try (GameJournal journal = new GameJournal(mySnapshot, myJournalFile,
+                                                   GameJournal.DEFAULT_THRESHOLD)) {
+            MazeState recovered = GameJournal.recover(mySnapshot, myJournalFile);
+            journal.attach(maze(4, 4));
+            assertSameGame(recovered, journal.recoverPrevious());
+        }
+    }
+
+    /**
+     * Tests that a discarded game is not offered for recovery by the next session.
+     */
+    @Test
+    void testDiscard() throws IOException {
+        try (GameJournal journal = new GameJournal(mySnapshot, myJournalFile,
+                                                   GameJournal.DEFAULT_THRESHOLD)) {
+            assertFalse(journal.hasPrevious());
+            journal.attach(maze(3, 3));
+            journal.discard();
+        }
+        try (GameJournal journal = new GameJournal(mySnapshot, myJournalFile,
+                                                   GameJournal.DEFAULT_THRESHOLD)) {
+            journal.attach(maze(3, 3));
+            assertFalse(journal.hasPrevious());
+            assertThrows(IOException.class, journal::recoverPrevious);
+        }
+    }
+
+    /**
+     * Tests that a detached journal stops recording.
+     */
+    @Test
+    void testDetach() throws IOException {
+        Maze maze = maze(3, 3);
+        GameJournal journal = new GameJournal(mySnapshot, myJournalFile,
+                                              GameJournal.DEFAULT_THRESHOLD);
+        journal.attach(maze);
+        journal.detach();
+        assertEquals(0, journal.size());
+        maze.move(Direction.EAST);
+        maze.processAnswer(Direction.EAST, true);
+        assertEquals(0, GameJournal.recover(mySnapshot, myJournalFile).getCurrentX());
+    }
+
+    /**
+     * Tests that journals with another magic number, another version or bad records
+     * are rejected.
+     */
+    @Test
+    void testInvalidJournal() {
+        MazeState base = new MazeState(3, 3, new long[DoorGrid.wordCount(3, 3)], 0, 0,
+                                       0, 0, 0, 0L, new int[0], new int[0]);
+        assertThrows(StreamCorruptedException.class, () -> GameJournal.replay(base,
+                new DataInputStream(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 0, 1}))));
+        assertThrows(StreamCorruptedException.class, () -> GameJournal.replay(base,
+                new DataInputStream(new ByteArrayInputStream(new byte[] {
+                    0x54, 0x4D, 0x5A, 0x4A, 0, 2, 0, 9}))));
+        assertThrows(StreamCorruptedException.class, () -> GameJournal.replay(base,
+                new DataInputStream(new ByteArrayInputStream(new byte[] {
+                    0x54, 0x4D, 0x5A, 0x4A, 0, 2, 0, 2, 0, 0, 0, 7, 0, 0, 0, 0}))));
+        IOException e = assertThrows(IOException.class, () -> GameJournal.replay(base,
+                new DataInputStream(new ByteArrayInputStream(new byte[] {
+                    0x54, 0x4D, 0x5A, 0x4A, 0, 1, 2, 0, 0, 0, 0, 0, 0, 0, 0}))));
+        assertFalse(e instanceof StreamCorruptedException);
+    }
+}
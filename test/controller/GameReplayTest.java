@@ -0,0 +1,174 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * GameReplayTest.java
+ */
+package controller;
+
+import static model.TestMazes.bank;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import model.Direction;
+import model.Maze;
+import model.MazeState;
+import model.QuestionGenerator;
+import model.TestMazes;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the GameReplay class.
+ *
+ * @version 10/17/2026
+ */
+public class GameReplayTest {
+
+    /**
+     * A folder for the replay.
+     */
+    private Path myFolder;
+
+    /**
+     * The replay file.
+     */
+    private String myFile;
+
+    /**
+     * Creates the folder before each test.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        myFolder = Files.createTempDirectory("replay-test");
+        myFile = myFolder.resolve("game.replay").toString();
+    }
+
+    /**
+     * Deletes the folder after each test.
+     */
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(myFolder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(myFolder);
+    }
+
+    /**
+     * Plays a few turns, some right and some wrong.
+     * @param theMaze - The game.
+     */
+    private static void playTurns(final Maze theMaze) {
+        theMaze.move(Direction.EAST);
+        theMaze.processAnswer(Direction.EAST, true);
+        theMaze.move(Direction.SOUTH);
+        theMaze.processAnswer(Direction.SOUTH, false);
+        theMaze.move(Direction.WEST);
+        theMaze.move(Direction.EAST);
+        theMaze.processAnswer(Direction.EAST, true);
+        theMaze.move(Direction.SOUTH);
+        theMaze.processAnswer(Direction.SOUTH, true);
+    }
+
+    /**
+     * Checks that two games have the same doors, position, statistics and questions.
+     * @param theExpected - The recorded game.
+     * @param theActual - The replayed game.
+     */
+    private static void assertSameGame(final Maze theExpected, final Maze theActual) {
+        MazeState expected = theExpected.snapshot();
+        TestMazes.assertSameGame(expected, theActual.snapshot());
+        for (int index : expected.getRoomIndexes()) {
+            int x = index % expected.getWidth();
+            int y = index / expected.getWidth();
+            assertEquals(theExpected.getRoom(x, y).getTrivia().getQuestion(),
+                         theActual.getRoom(x, y).getTrivia().getQuestion());
+        }
+    }
+
+    /**
+     * Tests that a replay plays the recorded game again, with the same questions.
+     */
+    @Test
+    void testPlay() throws IOException {
+        Maze maze = new Maze(new QuestionGenerator(bank(20), 42L), 4, 4);
+        try (GameReplay replay = new GameReplay(myFile)) {
+            replay.attach(maze);
+            playTurns(maze);
+        }
+        Maze replayed = GameReplay.play(myFile, bank(20));
+        assertEquals(0, replayed.getHistory().size());
+        assertTrue(replayed.getHistory().isRecording());
+        assertSameGame(maze, replayed);
+        assertEquals(2, replayed.getCurrentX());
+        assertEquals(1, replayed.getCurrentY());
+        assertEquals(3, replayed.getTrivia().getRightAnswer());
+        assertEquals(1, replayed.getTrivia().getWrongAnswer());
+        assertTrue(Files.size(Path.of(myFile)) < 100);
+    }
+
+    /**
+     * Tests that the same seed gives the same questions and another seed does not.
+     */
+    @Test
+    void testSeed() {
+        StringBuilder first = new StringBuilder();
+        StringBuilder second = new StringBuilder();
+        StringBuilder other = new StringBuilder();
+        QuestionGenerator a = new QuestionGenerator(bank(50), 7L);
+        QuestionGenerator b = new QuestionGenerator(bank(50), 7L);
+        QuestionGenerator c = new QuestionGenerator(bank(50), 8L);
+        for (int i = 0; i < 20; i++) {
+            first.append(a.getRandomQes().getQuestion());
+            second.append(b.getRandomQes().getQuestion());
+            other.append(c.getRandomQes().getQuestion());
+        }
+        assertEquals(first.toString(), second.toString());
+        assertNotEquals(first.toString(), other.toString());
+        assertEquals(7L, a.getSeed());
+    }
+
+    /**
+     * Tests that a replay recorded with another question bank is rejected.
+     */
+    @Test
+    void testOtherBank() throws IOException {
+        Maze maze = new Maze(new QuestionGenerator(bank(20), 1L), 3, 3);
+        try (GameReplay replay = new GameReplay(myFile)) {
+            replay.attach(maze);
+            playTurns(maze);
+        }
+        assertThrows(IOException.class, () -> GameReplay.play(myFile, bank(21)));
+    }
+
+    /**
+     * Tests that a record cut short is ignored and the rest are played.
+     */
+    @Test
+    void testCutShort() throws IOException {
+        Maze maze = new Maze(new QuestionGenerator(bank(20), 3L), 4, 4);
+        try (GameReplay replay = new GameReplay(myFile)) {
+            replay.attach(maze);
+            maze.move(Direction.EAST);
+            maze.processAnswer(Direction.EAST, true);
+        }
+        byte[] bytes = Files.readAllBytes(Path.of(myFile));
+        Maze replayed = GameReplay.play(new ByteArrayInputStream(
+                Arrays.copyOf(bytes, bytes.length - 1)), bank(20));
+        assertEquals(0, replayed.getCurrentX());
+        assertTrue(replayed.isQuestionPending());
+
+        bytes[0] = 'X';
+        assertThrows(IOException.class,
+                     () -> GameReplay.play(new ByteArrayInputStream(bytes), bank(20)));
+    }
+}
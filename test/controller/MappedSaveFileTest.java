@@ -0,0 +1,184 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * MappedSaveFileTest.java
+ */
+package controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import model.Direction;
+import model.DoorGrid;
+import model.MazeState;
+import model.Question;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the MappedSaveFile class and mapped saves through GameSaver.
+ *
+ * @version 10/17/2026
+ */
+public class MappedSaveFileTest {
+
+    /**
+     * A folder for the save files.
+     */
+    private Path myFolder;
+
+    /**
+     * The save file.
+     */
+    private String myFile;
+
+    /**
+     * Creates the folder before each test.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        myFolder = Files.createTempDirectory("mapped-test");
+        myFile = myFolder.resolve("game.tmz").toString();
+    }
+
+    /**
+     * Deletes the folder after each test.
+     */
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(myFolder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(myFolder);
+    }
+
+    /**
+     * Creates a snapshot of a 6x4 game with three rooms, one without a bank question.
+     * @return The snapshot.
+     */
+    private static MazeState sample() {
+        DoorGrid grid = new DoorGrid(6, 4);
+        grid.openInterior();
+        grid.markAnsweredIncorrectly(grid.edgeOf(7, Direction.SOUTH));
+        return new MazeState(6, 4, grid.getWords(), 1, 1, 3, 1, 4, 9_000L,
+                             new int[] {0, 1, 23}, new int[] {41, Question.NO_ID, 7});
+    }
+
+    /**
+     * Tests that a mapped save loads with the same doors, rooms and statistics.
+     */
+    @Test
+    void testRoundTrip() throws IOException {
+        MazeState state = sample();
+        GameSaver.saveMapped(state, myFile);
+        MazeState read = GameSaver.loadState(myFile);
+
+        assertEquals(6, read.getWidth());
+        assertEquals(4, read.getHeight());
+        assertEquals(1, read.getCurrentX());
+        assertEquals(3, read.getRightAnswers());
+        assertEquals(4, read.getTrys());
+        assertEquals(9_000L, read.getTime());
+        assertArrayEquals(state.getDoorWords(), read.getDoorWords());
+        assertArrayEquals(new int[] {0, 1, 23}, read.getRoomIndexes());
+        assertArrayEquals(new int[] {41, Question.NO_ID, 7}, read.getQuestionIds());
+
+        IntBuffer rooms = read.getSavedRooms();
+        assertEquals(24, rooms.remaining());
+        assertEquals(MazeState.ROOM_WITHOUT_ID, rooms.get(1));
+        assertEquals(MazeState.ROOM_NOT_CREATED, rooms.get(2));
+        assertEquals(Files.size(Path.of(myFile)),
+                     MappedSaveFile.HEADER_SIZE + 8L * DoorGrid.wordCount(6, 4) + 4L * 24);
+    }
+
+    /**
+     * Tests that the header of a mapped save is read for listing, like other saves.
+     */
+    @Test
+    void testReadHeader() throws IOException {
+        GameSaver.saveMapped(sample(), myFile);
+        SaveHeader header = GameSaver.readHeader(myFile);
+        assertEquals(6, header.getWidth());
+        assertEquals(1, header.getCurrentY());
+        assertEquals(1, header.getWrongAnswers());
+        assertTrue(header.getSavedAt() > 0);
+    }
+
+    /**
+     * Tests that rooms added on top of mapped rooms are saved with them.
+     */
+    @Test
+    void testAddedRooms() throws IOException {
+        GameSaver.saveMapped(sample(), myFile);
+        MazeState read = GameSaver.loadState(myFile);
+        MazeState grown = new MazeState(6, 4, read.getDoorBuffer(), 2, 1, 3, 1, 4, 9_000L,
+                                        read.getSavedRooms(), new int[] {1, 5},
+                                        new int[] {9, 12});
+        assertArrayEquals(new int[] {0, 1, 5, 23}, grown.getRoomIndexes());
+        assertArrayEquals(new int[] {41, 9, 12, 7}, grown.getQuestionIds());
+
+        String other = myFolder.resolve("other.tmz").toString();
+        GameSaver.saveMapped(grown, other);
+        assertArrayEquals(new int[] {41, 9, 12, 7},
+                          GameSaver.loadState(other).getQuestionIds());
+        try (OutputStream out = Files.newOutputStream(Path.of(other))) {
+            MazeStateCodec.write(grown, out);
+        }
+        assertArrayEquals(new int[] {0, 1, 5, 23},
+                          GameSaver.loadState(other).getRoomIndexes());
+    }
+
+    /**
+     * Tests that a mapped save cut short or damaged is rejected.
+     */
+    @Test
+    void testDamage() throws IOException {
+        GameSaver.saveMapped(sample(), myFile);
+        Path path = Path.of(myFile);
+        byte[] bytes = Files.readAllBytes(path);
+
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 4));
+        assertThrows(CorruptSaveException.class, () -> GameSaver.loadState(myFile));
+
+        byte[] header = bytes.clone();
+        header[20] ^= 1;
+        Files.write(path, header);
+        assertThrows(CorruptSaveException.class, () -> GameSaver.loadState(myFile));
+        assertThrows(CorruptSaveException.class, () -> GameSaver.readHeader(myFile));
+
+        byte[] doors = bytes.clone();
+        doors[MappedSaveFile.HEADER_SIZE + 3] ^= 1;
+        Files.write(path, doors);
+        CorruptSaveException e = assertThrows(CorruptSaveException.class,
+                                              () -> GameSaver.loadState(myFile));
+        assertEquals("Doors failed their checksum", e.getMessage());
+    }
+
+    /**
+     * Tests that large mazes are saved as mapped saves and small ones are not.
+     */
+    @Test
+    void testLargeMazesMapped() throws IOException {
+        GameSaver.saveState(sample(), myFile);
+        assertNull(GameSaver.loadState(myFile).getSavedRooms());
+
+        MazeState large = new MazeState(1000, 1000, new long[DoorGrid.wordCount(1000, 1000)],
+                                        0, 0, 0, 0, 0, 0L, new int[] {999_999},
+                                        new int[] {3});
+        GameSaver.saveState(large, myFile);
+        MazeState read = GameSaver.loadState(myFile);
+        assertNotNull(read.getSavedRooms());
+        assertEquals(3, read.getSavedRooms().get(999_999));
+        assertArrayEquals(new int[] {999_999}, read.getRoomIndexes());
+    }
+}
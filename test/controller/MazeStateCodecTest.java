@@ -0,0 +1,319 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * MazeStateCodecTest.java
+ */
+package controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+import model.DoorGrid;
+import model.MazeState;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the MazeStateCodec class.
+ *
+ * @version 10/17/2026
+ */
+public class MazeStateCodecTest {
+
+    /**
+     * Creates a snapshot of a 5x5 game.
+     * @return The snapshot.
+     */
+    private static MazeState sample() {
+        DoorGrid grid = new DoorGrid(5, 5);
+        grid.openInterior();
+        grid.markAnsweredIncorrectly(grid.edgeOf(6, model.Direction.EAST));
+        return new MazeState(5, 5, grid.getWords(), 1, 1, 3, 1, 2, 65_000L,
+                             new int[] {0, 1, 6}, new int[] {41, 7, 22});
+    }
+
+    /**
+     * Encodes a snapshot.
+     * @param theState - The snapshot.
+     * @return The encoded bytes.
+     */
+    private static byte[] encode(final MazeState theState) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        MazeStateCodec.write(theState, new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a snapshot.
+     * @param theBytes - The encoded bytes.
+     * @return The snapshot.
+     */
+    private static MazeState decode(final byte[] theBytes) throws IOException {
+        return MazeStateCodec.read(new DataInputStream(new ByteArrayInputStream(theBytes)));
+    }
+
+    /**
+     * Recomputes the checksum of a save's header after it was changed.
+     * @param theBytes - The save, changed in place.
+     * @return The save.
+     */
+    private static byte[] withHeaderChecksum(final byte[] theBytes) {
+        CRC32C crc = new CRC32C();
+        crc.update(theBytes, 0, MazeStateCodec.HEADER_SIZE - 4);
+        ByteBuffer.wrap(theBytes).putInt(MazeStateCodec.HEADER_SIZE - 4, (int) crc.getValue());
+        return theBytes;
+    }
+
+    /**
+     * Builds a save from the header of another and a new uncompressed body, split into
+     * checksummed blocks, so a body that passes its checksums can hold bad values.
+     * @param theBytes - A save whose header is kept.
+     * @param theBody - The body.
+     * @return The save.
+     */
+    private static byte[] withBody(final byte[] theBytes, final byte[] theBody)
+                                   throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(theBytes, 0, MazeStateCodec.HEADER_SIZE);
+        CrcBlockOutputStream blocks = new CrcBlockOutputStream(bytes);
+        blocks.write(theBody);
+        blocks.finish();
+        new DataOutputStream(bytes).writeInt(MazeStateCodec.END);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Creates a snapshot of a game large enough to take several blocks.
+     * @return The snapshot.
+     */
+    private static MazeState large() {
+        DoorGrid grid = new DoorGrid(200, 200);
+        grid.openInterior();
+        int[] indexes = new int[200 * 200];
+        int[] questionIds = new int[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i;
+            questionIds[i] = i % 60 + 1;
+        }
+        return new MazeState(200, 200, grid.getWords(), 0, 0, 0, 0, 0, 0L,
+                             indexes, questionIds);
+    }
+
+    /**
+     * Tests that a snapshot survives a round trip.
+     */
+    @Test
+    void testRoundTrip() throws IOException {
+        MazeState state = sample();
+        MazeState read = decode(encode(state));
+        assertEquals(5, read.getWidth());
+        assertEquals(5, read.getHeight());
+        assertEquals(1, read.getCurrentX());
+        assertEquals(1, read.getCurrentY());
+        assertEquals(3, read.getRightAnswers());
+        assertEquals(1, read.getWrongAnswers());
+        assertEquals(2, read.getTrys());
+        assertEquals(65_000L, read.getTime());
+        assertArrayEquals(state.getDoorWords(), read.getDoorWords());
+        assertArrayEquals(new int[] {0, 1, 6}, read.getRoomIndexes());
+        assertArrayEquals(new int[] {41, 7, 22}, read.getQuestionIds());
+    }
+
+    /**
+     * Tests that a small game saves to a small file.
+     */
+    @Test
+    void testCompact() throws IOException {
+        assertTrue(encode(sample()).length < 128);
+    }
+
+    /**
+     * Tests that a file that is not a save is rejected.
+     */
+    @Test
+    void testBadMagic() throws IOException {
+        byte[] bytes = encode(sample());
+        bytes[0] = 'X';
+        assertThrows(StreamCorruptedException.class, () -> decode(bytes));
+    }
+
+    /**
+     * Tests that a save from a newer version is rejected.
+     */
+    @Test
+    void testNewerVersion() throws IOException {
+        byte[] bytes = encode(sample());
+        bytes[5] = (byte) (MazeStateCodec.VERSION + 1);
+        IOException e = assertThrows(IOException.class, () -> decode(bytes));
+        assertFalse(e instanceof StreamCorruptedException);
+    }
+
+    /**
+     * Tests that a truncated save is rejected, wherever it is cut.
+     */
+    @Test
+    void testTruncated() throws IOException {
+        byte[] bytes = encode(sample());
+        assertThrows(CorruptSaveException.class,
+                     () -> decode(Arrays.copyOf(bytes, bytes.length - 3)));
+        assertThrows(CorruptSaveException.class,
+                     () -> decode(Arrays.copyOf(bytes, MazeStateCodec.HEADER_SIZE)));
+        assertThrows(CorruptSaveException.class,
+                     () -> decode(Arrays.copyOf(bytes, 20)));
+
+        byte[] large = encode(large());
+        int secondBlock = MazeStateCodec.HEADER_SIZE + CrcBlockOutputStream.BLOCK_SIZE + 8;
+        assertThrows(CorruptSaveException.class,
+                     () -> decode(Arrays.copyOf(large, secondBlock)));
+    }
+
+    /**
+     * Tests that a damaged byte anywhere in the header or body is caught by a checksum.
+     */
+    @Test
+    void testChecksums() throws IOException {
+        byte[] bytes = encode(sample());
+        for (int i : new int[] {10, 30, MazeStateCodec.HEADER_SIZE + 6, bytes.length - 9}) {
+            byte[] damaged = bytes.clone();
+            damaged[i] ^= 0x10;
+            CorruptSaveException e = assertThrows(CorruptSaveException.class,
+                                                  () -> decode(damaged));
+            assertTrue(e.getMessage().contains("checksum"), e.getMessage());
+        }
+    }
+
+    /**
+     * Tests that a save spanning several blocks is read back, and that damage in its
+     * last block is caught even when compressed.
+     */
+    @Test
+    void testMultipleBlocks() throws IOException {
+        MazeState state = large();
+        byte[] bytes = encode(state);
+        assertTrue(bytes.length > 3 * CrcBlockOutputStream.BLOCK_SIZE);
+        MazeState read = decode(bytes);
+        assertArrayEquals(state.getDoorWords(), read.getDoorWords());
+        assertArrayEquals(state.getQuestionIds(), read.getQuestionIds());
+
+        bytes[bytes.length - 100] ^= 1;
+        assertThrows(CorruptSaveException.class, () -> decode(bytes));
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        MazeStateCodec.write(state, 0L, SaveCompression.FAST, compressed);
+        byte[] deflated = compressed.toByteArray();
+        deflated[deflated.length - 10] ^= 1;
+        assertThrows(CorruptSaveException.class, () -> decode(deflated));
+    }
+
+    /**
+     * Tests that a door bitmap of the wrong size is rejected before it is read.
+     */
+    @Test
+    void testWrongWordCount() throws IOException {
+        byte[] bytes = withBody(encode(sample()),
+                                ByteBuffer.allocate(Integer.BYTES).putInt(0x7F).array());
+        CorruptSaveException e = assertThrows(CorruptSaveException.class,
+                                              () -> decode(bytes));
+        assertTrue(e.getMessage().contains("Door bitmap"), e.getMessage());
+    }
+
+    /**
+     * Tests that the header can be read on its own from the start of a save.
+     */
+    @Test
+    void testReadHeader() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        MazeStateCodec.write(sample(), 1_700_000_000_000L, new DataOutputStream(bytes));
+        byte[] header = Arrays.copyOf(bytes.toByteArray(), MazeStateCodec.HEADER_SIZE);
+
+        SaveHeader read = MazeStateCodec.readHeader(
+                new DataInputStream(new ByteArrayInputStream(header)));
+        assertEquals(1_700_000_000_000L, read.getSavedAt());
+        assertEquals(5, read.getWidth());
+        assertEquals(5, read.getHeight());
+        assertEquals(1, read.getCurrentX());
+        assertEquals(1, read.getCurrentY());
+        assertEquals(3, read.getRightAnswers());
+        assertEquals(1, read.getWrongAnswers());
+        assertEquals(2, read.getTrys());
+        assertEquals(65_000L, read.getTime());
+    }
+
+    /**
+     * Tests that a save of an older version of the format is rejected.
+     */
+    @Test
+    void testOlderVersion() throws IOException {
+        byte[] bytes = encode(sample());
+        bytes[5] = (byte) (MazeStateCodec.VERSION - 1);
+        IOException e = assertThrows(IOException.class,
+                                     () -> decode(withHeaderChecksum(bytes)));
+        assertFalse(e instanceof StreamCorruptedException);
+    }
+
+    /**
+     * Tests that compressed snapshots survive a round trip at every setting.
+     */
+    @Test
+    void testCompressedRoundTrip() throws IOException {
+        MazeState state = sample();
+        for (SaveCompression compression : new SaveCompression[] {
+                SaveCompression.FAST, SaveCompression.DEFAULT, SaveCompression.deflate(9)}) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            MazeStateCodec.write(state, 0L, compression, bytes);
+            MazeState read = decode(bytes.toByteArray());
+            assertArrayEquals(state.getDoorWords(), read.getDoorWords());
+            assertArrayEquals(state.getRoomIndexes(), read.getRoomIndexes());
+            assertArrayEquals(state.getQuestionIds(), read.getQuestionIds());
+            assertEquals(SaveCompression.CODEC_DEFLATE, MazeStateCodec.readHeader(
+                    new ByteArrayInputStream(bytes.toByteArray())).getCodec());
+        }
+    }
+
+    /**
+     * Tests that compression shrinks the save of a large maze.
+     */
+    @Test
+    void testCompressionShrinksLargeMaze() throws IOException {
+        DoorGrid grid = new DoorGrid(200, 200);
+        grid.openInterior();
+        MazeState state = new MazeState(200, 200, grid.getWords(), 0, 0, 0, 0, 0, 0L,
+                                        new int[0], new int[0]);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        MazeStateCodec.write(state, 0L, SaveCompression.FAST, compressed);
+        assertTrue(compressed.size() * 10 < encode(state).length);
+    }
+
+    /**
+     * Tests that an unknown compression codec is rejected.
+     */
+    @Test
+    void testUnknownCodec() throws IOException {
+        byte[] bytes = encode(sample());
+        bytes[6] = 9;
+        StreamCorruptedException e = assertThrows(StreamCorruptedException.class,
+                                                  () -> decode(withHeaderChecksum(bytes)));
+        assertFalse(e.getMessage().contains("checksum"), e.getMessage());
+    }
+
+    /**
+     * Tests the compression names accepted by the system property.
+     */
+    @Test
+    void testParseCompression() {
+        assertSame(SaveCompression.NONE, SaveCompression.parse("none"));
+        assertSame(SaveCompression.FAST, SaveCompression.parse("Fast"));
+        assertSame(SaveCompression.DEFAULT, SaveCompression.parse("deflate"));
+        assertEquals(9, SaveCompression.parse("9").getLevel());
+        assertThrows(IllegalArgumentException.class, () -> SaveCompression.parse("0"));
+        assertThrows(IllegalArgumentException.class, () -> SaveCompression.parse("zip"));
+    }
+}
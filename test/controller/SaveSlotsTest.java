@@ -0,0 +1,147 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * SaveSlotsTest.java
+ */
+package controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import model.DoorGrid;
+import model.MazeState;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the SaveSlots class.
+ *
+ * @version 10/17/2026
+ */
+public class SaveSlotsTest {
+
+    /**
+     * A folder holding the save folder.
+     */
+    private Path myFolder;
+
+    /**
+     * The save folder.
+     */
+    private Path mySaves;
+
+    /**
+     * The slots under test.
+     */
+    private SaveSlots mySlots;
+
+    /**
+     * Creates the folder before each test.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        myFolder = Files.createTempDirectory("slots-test");
+        mySaves = myFolder.resolve("saves");
+        mySlots = new SaveSlots(mySaves.toString());
+    }
+
+    /**
+     * Deletes the folders after each test.
+     */
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(myFolder)) {
+            for (Path file : (Iterable<Path>) files.sorted((a, b) -> b.compareTo(a))::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Creates a snapshot of a 3x3 game with the player at the given column.
+     * @param theX - The player's x coordinate.
+     * @return The snapshot.
+     */
+    private static MazeState state(final int theX) {
+        return new MazeState(3, 3, new long[DoorGrid.wordCount(3, 3)], theX, 0,
+                             theX, 0, theX, 0L, new int[0], new int[0]);
+    }
+
+    /**
+     * Tests that an empty or missing folder lists no saves.
+     */
+    @Test
+    void testEmpty() throws IOException {
+        assertTrue(mySlots.list().isEmpty());
+    }
+
+    /**
+     * Tests that new saves take the next slot and list with their headers.
+     */
+    @Test
+    void testSaveAndList() throws IOException {
+        assertEquals(1, mySlots.saveNew(state(0)));
+        assertEquals(2, mySlots.saveNew(state(1)));
+        assertEquals(3, mySlots.saveNew(state(2)));
+
+        List<SaveSlots.Slot> slots = mySlots.list();
+        assertEquals(3, slots.size());
+        for (SaveSlots.Slot slot : slots) {
+            assertEquals(slot.getNumber() - 1, slot.getHeader().getCurrentX());
+            assertEquals(slot.getNumber() - 1, slot.getHeader().getRightAnswers());
+            assertEquals(3, slot.getHeader().getWidth());
+        }
+        assertTrue(slots.get(0).getSavedAt() >= slots.get(2).getSavedAt());
+        assertEquals(2, mySlots.load(3).getCurrentX());
+    }
+
+    /**
+     * Tests that saving over a slot replaces it and shows in the next listing.
+     */
+    @Test
+    void testOverwrite() throws IOException {
+        mySlots.save(4, state(0));
+        assertEquals(0, mySlots.list().get(0).getHeader().getCurrentX());
+        mySlots.save(4, state(2));
+        Files.setLastModifiedTime(mySaves.resolve("slot-4.tmz"),
+                                  FileTime.fromMillis(2_000L));
+        List<SaveSlots.Slot> slots = mySlots.list();
+        assertEquals(1, slots.size());
+        assertEquals(2, slots.get(0).getHeader().getCurrentX());
+        assertEquals(5, mySlots.saveNew(state(1)));
+    }
+
+    /**
+     * Tests that unchanged saves are listed from the index without being read again.
+     */
+    @Test
+    void testIndexReused() throws IOException {
+        mySlots.saveNew(state(1));
+        SaveSlots.Slot first = mySlots.list().get(0);
+        assertSame(first, mySlots.list().get(0));
+    }
+
+    /**
+     * Tests that files that are not saves and deleted slots are left out.
+     */
+    @Test
+    void testSkipsInvalid() throws IOException {
+        mySlots.saveNew(state(0));
+        mySlots.saveNew(state(1));
+        Files.write(mySaves.resolve("slot-7.tmz"), new byte[] {1, 2, 3});
+        Files.write(mySaves.resolve("slot-x.tmz"), new byte[] {1, 2, 3});
+        Files.write(mySaves.resolve("notes.txt"), new byte[] {1, 2, 3});
+        mySlots.delete(1);
+
+        List<SaveSlots.Slot> slots = mySlots.list();
+        assertEquals(1, slots.size());
+        assertEquals(2, slots.get(0).getNumber());
+    }
+}
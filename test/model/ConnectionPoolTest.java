@@ -0,0 +1,250 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * ConnectionPoolTest.java
+ */
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Proxy;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the ConnectionPool class. The pool is given fake connections that
+ * only track whether they are open and valid, so no database is needed.
+ *
+ * @version 10/17/2026
+ */
+public class ConnectionPoolTest {
+
+    /**
+     * The fake connections opened so far.
+     */
+    private List<FakeConnection> myOpened;
+
+    /**
+     * A pool of two connections over the fake connections.
+     */
+    private ConnectionPool myPool;
+
+    /**
+     * Sets up a pool before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        myOpened = new ArrayList<>();
+        myPool = new ConnectionPool(source(), 2, 50);
+    }
+
+    /**
+     * Tests that a returned connection is reused instead of opening a new one.
+     */
+    @Test
+    void testReuse() throws SQLException {
+        try (Connection conn = myPool.getConnection()) {
+            assertFalse(conn.isClosed());
+            assertEquals(1, myPool.getActiveCount());
+        }
+        try (Connection conn = myPool.getConnection()) {
+            assertFalse(conn.isClosed());
+        }
+        assertEquals(1, myPool.getOpenCount());
+        assertEquals(2, myPool.getBorrowCount());
+        assertEquals(0, myPool.getActiveCount());
+        assertEquals(1, myPool.getIdleCount());
+        assertFalse(myOpened.get(0).myClosed);
+    }
+
+    /**
+     * Tests that closing a borrowed connection twice only returns it once.
+     */
+    @Test
+    void testDoubleClose() throws SQLException {
+        Connection conn = myPool.getConnection();
+        conn.close();
+        conn.close();
+        assertTrue(conn.isClosed());
+        assertEquals(1, myPool.getIdleCount());
+        assertThrows(SQLException.class, conn::getAutoCommit);
+    }
+
+    /**
+     * Tests that borrowing from an exhausted pool times out.
+     */
+    @Test
+    void testExhausted() throws SQLException {
+        Connection first = myPool.getConnection();
+        Connection second = myPool.getConnection();
+        assertThrows(SQLException.class, myPool::getConnection);
+        assertEquals(2, myPool.getActiveCount());
+        first.close();
+        myPool.getConnection().close();
+        second.close();
+        assertEquals(0, myPool.getActiveCount());
+        assertEquals(2, myPool.getOpenCount());
+    }
+
+    /**
+     * Tests that an idle connection that stopped working is replaced.
+     */
+    @Test
+    void testValidation() throws SQLException {
+        myPool.getConnection().close();
+        myOpened.get(0).myValid = false;
+        try (Connection conn = myPool.getConnection()) {
+            assertFalse(conn.isClosed());
+        }
+        assertEquals(2, myPool.getOpenCount());
+        assertTrue(myOpened.get(0).myClosed);
+        assertFalse(myOpened.get(1).myClosed);
+    }
+
+    /**
+     * Tests that an unfinished transaction is rolled back when a connection is returned.
+     */
+    @Test
+    void testRollbackOnReturn() throws SQLException {
+        try (Connection conn = myPool.getConnection()) {
+            conn.setAutoCommit(false);
+        }
+        assertTrue(myOpened.get(0).myRolledBack);
+        assertTrue(myOpened.get(0).myAutoCommit);
+    }
+
+    /**
+     * Tests that the pool gives back its permit when a connection cannot be opened.
+     */
+    @Test
+    void testOpenFailure() {
+        ConnectionPool pool = new ConnectionPool(failingSource(), 1, 50);
+        assertThrows(SQLException.class, pool::getConnection);
+        assertThrows(SQLException.class, pool::getConnection);
+        assertEquals(0, pool.getActiveCount());
+    }
+
+    /**
+     * Tests that wait times are recorded.
+     */
+    @Test
+    void testWaitMetrics() throws SQLException {
+        assertEquals(0, myPool.getAverageWaitNanos());
+        myPool.getConnection().close();
+        assertTrue(myPool.getMaxWaitNanos() >= myPool.getAverageWaitNanos());
+        assertTrue(myPool.getAverageWaitNanos() >= 0);
+    }
+
+    /**
+     * Tests that every session using the same database shares one pool.
+     */
+    @Test
+    void testSharedByUrl() {
+        ConnectionPool pool = ConnectionPool.forUrl("jdbc:sqlite:shared-test.db");
+        assertSame(pool, ConnectionPool.forUrl("jdbc:sqlite:shared-test.db"));
+        assertNotSame(pool, ConnectionPool.forUrl("jdbc:sqlite:other-test.db"));
+        assertEquals(ConnectionPool.DEFAULT_SIZE, pool.getSize());
+    }
+
+    /**
+     * Tests that an invalid size is rejected.
+     */
+    @Test
+    void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> new ConnectionPool(source(), 0, 50));
+    }
+
+    /**
+     * Creates a data source that opens fake connections.
+     * @return The data source.
+     */
+    private DataSource source() {
+        return (DataSource) Proxy.newProxyInstance(
+                DataSource.class.getClassLoader(), new Class<?>[] {DataSource.class},
+                (proxy, method, args) -> {
+                    if ("getConnection".equals(method.getName())) {
+                        FakeConnection fake = new FakeConnection();
+                        myOpened.add(fake);
+                        return fake.asConnection();
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Creates a data source that cannot open connections.
+     * @return The data source.
+     */
+    private static DataSource failingSource() {
+        return (DataSource) Proxy.newProxyInstance(
+                DataSource.class.getClassLoader(), new Class<?>[] {DataSource.class},
+                (proxy, method, args) -> {
+                    throw new SQLException("No database");
+                });
+    }
+
+    /**
+     * The state of a fake connection.
+     */
+    private static final class FakeConnection {
+
+        /**
+         * True once the connection has been closed.
+         */
+        private boolean myClosed;
+
+        /**
+         * False to make validation fail.
+         */
+        private boolean myValid = true;
+
+        /**
+         * The auto-commit mode.
+         */
+        private boolean myAutoCommit = true;
+
+        /**
+         * True once a rollback was requested.
+         */
+        private boolean myRolledBack;
+
+        /**
+         * Creates a connection backed by this state.
+         * @return The connection.
+         */
+        private Connection asConnection() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "close":
+                                myClosed = true;
+                                return null;
+                            case "isClosed":
+                                return myClosed;
+                            case "isValid":
+                                return myValid;
+                            case "getAutoCommit":
+                                return myAutoCommit;
+                            case "setAutoCommit":
+                                myAutoCommit = (Boolean) args[0];
+                                return null;
+                            case "rollback":
+                                myRolledBack = true;
+                                return null;
+                            default:
+                                return null;
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * DoorGridTest.java
+ */
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the DoorGrid class.
+ *
+ * @version 10/17/2026
+ */
+public class DoorGridTest {
+
+    /**
+     * A 3 wide, 2 high grid with every interior door open.
+     */
+    private DoorGrid myGrid;
+
+    /**
+     * Sets up the grid.
+     */
+    @BeforeEach
+    void setUp() {
+        myGrid = new DoorGrid(3, 2);
+        myGrid.openInterior();
+    }
+
+    /**
+     * Tests that a new grid has every door closed.
+     */
+    @Test
+    void testNewGridClosed() {
+        DoorGrid grid = new DoorGrid(4, 4);
+        for (int e = 0; e < grid.getEdgeCount(); e++) {
+            assertFalse(grid.isOpen(e));
+            assertFalse(grid.isAnsweredIncorrectly(e));
+        }
+    }
+
+    /**
+     * Tests that openInterior leaves the outer wall closed.
+     */
+    @Test
+    void testOpenInterior() {
+        int corner = myGrid.indexOf(0, 0);
+        assertFalse(myGrid.isOpen(myGrid.edgeOf(corner, Direction.NORTH)));
+        assertFalse(myGrid.isOpen(myGrid.edgeOf(corner, Direction.WEST)));
+        assertTrue(myGrid.isOpen(myGrid.edgeOf(corner, Direction.EAST)));
+        assertTrue(myGrid.isOpen(myGrid.edgeOf(corner, Direction.SOUTH)));
+
+        int last = myGrid.indexOf(2, 1);
+        assertFalse(myGrid.isOpen(myGrid.edgeOf(last, Direction.EAST)));
+        assertFalse(myGrid.isOpen(myGrid.edgeOf(last, Direction.SOUTH)));
+    }
+
+    /**
+     * Tests that openInterior opens exactly the doors between two rooms for sizes
+     * that do and do not line up with the packed words.
+     */
+    @Test
+    void testOpenInteriorSizes() {
+        int[][] sizes = {{1, 1}, {1, 40}, {40, 1}, {7, 5}, {33, 3}, {64, 64}};
+        for (int[] size : sizes) {
+            DoorGrid grid = new DoorGrid(size[0], size[1]);
+            grid.openInterior();
+            for (int room = 0; room < grid.getRoomCount(); room++) {
+                for (Direction dir : Direction.values()) {
+                    assertEquals(grid.neighbour(room, dir) >= 0,
+                                grid.isOpen(grid.edgeOf(room, dir)),
+                                size[0] + "x" + size[1] + " room " + room + " " + dir);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that neighbouring rooms share the edge between them.
+     */
+    @Test
+    void testSharedEdges() {
+        for (int room = 0; room < myGrid.getRoomCount(); room++) {
+            for (Direction dir : Direction.values()) {
+                int other = myGrid.neighbour(room, dir);
+                if (other >= 0) {
+                    assertEquals(myGrid.edgeOf(room, dir),
+                                myGrid.edgeOf(other, dir.getOpposite()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests the neighbour index arithmetic at the edges of the grid.
+     */
+    @Test
+    void testNeighbour() {
+        assertEquals(-1, myGrid.neighbour(0, Direction.NORTH));
+        assertEquals(-1, myGrid.neighbour(0, Direction.WEST));
+        assertEquals(1, myGrid.neighbour(0, Direction.EAST));
+        assertEquals(3, myGrid.neighbour(0, Direction.SOUTH));
+        assertEquals(-1, myGrid.neighbour(5, Direction.EAST));
+        assertEquals(-1, myGrid.neighbour(5, Direction.SOUTH));
+    }
+
+    /**
+     * Tests marking a door as answered incorrectly.
+     */
+    @Test
+    void testMarkAnsweredIncorrectly() {
+        int edge = myGrid.edgeOf(0, Direction.EAST);
+        assertTrue(myGrid.canPass(0, Direction.EAST));
+        myGrid.markAnsweredIncorrectly(edge);
+        assertFalse(myGrid.isOpen(edge));
+        assertTrue(myGrid.isAnsweredIncorrectly(edge));
+        assertFalse(myGrid.canPass(0, Direction.EAST));
+        assertFalse(myGrid.canPass(1, Direction.WEST));
+    }
+
+    /**
+     * Tests that the passable direction mask matches canPass.
+     */
+    @Test
+    void testPassableDirections() {
+        myGrid.markAnsweredIncorrectly(myGrid.edgeOf(4, Direction.WEST));
+        for (int room = 0; room < myGrid.getRoomCount(); room++) {
+            int mask = myGrid.passableDirections(room);
+            for (Direction dir : Direction.values()) {
+                assertEquals(myGrid.canPass(room, dir), (mask & (1 << dir.ordinal())) != 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * ExitConnectivityTest.java
+ */
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the ExitConnectivity class.
+ *
+ * @version 10/17/2026
+ */
+public class ExitConnectivityTest {
+
+    /**
+     * Tests that every room of an open grid reaches the exit.
+     */
+    @Test
+    void testOpenGrid() {
+        DoorGrid grid = new DoorGrid(4, 3);
+        grid.openInterior();
+        ExitConnectivity connectivity = new ExitConnectivity(grid, 11);
+        for (int room = 0; room < grid.getRoomCount(); room++) {
+            assertTrue(connectivity.isExitReachable(room));
+        }
+    }
+
+    /**
+     * Tests that a tracker for an open grid matches one built by searching.
+     */
+    @Test
+    void testForOpenGrid() {
+        DoorGrid grid = new DoorGrid(5, 5);
+        grid.openInterior();
+        ExitConnectivity open = ExitConnectivity.forOpenGrid(grid, 24);
+        lock(grid, open, 24, Direction.NORTH);
+        lock(grid, open, 24, Direction.WEST);
+        ExitConnectivity searched = new ExitConnectivity(grid, 24);
+        for (int room = 0; room < grid.getRoomCount(); room++) {
+            assertEquals(searched.isExitReachable(room), open.isExitReachable(room));
+        }
+    }
+
+    /**
+     * Tests cutting off the corner room, which is the smaller side of the cut.
+     */
+    @Test
+    void testCutOffCorner() {
+        DoorGrid grid = new DoorGrid(3, 3);
+        grid.openInterior();
+        ExitConnectivity connectivity = new ExitConnectivity(grid, 8);
+        lock(grid, connectivity, 0, Direction.EAST);
+        assertTrue(connectivity.isExitReachable(0));
+        lock(grid, connectivity, 0, Direction.SOUTH);
+        assertFalse(connectivity.isExitReachable(0));
+        assertTrue(connectivity.isExitReachable(1));
+    }
+
+    /**
+     * Tests cutting off the exit room, so the large side is the one disconnected.
+     */
+    @Test
+    void testCutOffExit() {
+        DoorGrid grid = new DoorGrid(3, 3);
+        grid.openInterior();
+        ExitConnectivity connectivity = new ExitConnectivity(grid, 8);
+        lock(grid, connectivity, 8, Direction.NORTH);
+        lock(grid, connectivity, 8, Direction.WEST);
+        assertTrue(connectivity.isExitReachable(8));
+        for (int room = 0; room < 8; room++) {
+            assertFalse(connectivity.isExitReachable(room));
+        }
+    }
+
+    /**
+     * Tests random door locks against a search from scratch after every lock.
+     */
+    @Test
+    void testMatchesFullSearch() {
+        Random random = new Random(360);
+        DoorGrid grid = new DoorGrid(9, 7);
+        grid.openInterior();
+        int exit = grid.getRoomCount() - 1;
+        ExitConnectivity connectivity = new ExitConnectivity(grid, exit);
+        Reachability reach = new Reachability(grid);
+        Direction[] directions = Direction.values();
+
+        for (int i = 0; i < 80; i++) {
+            int room = random.nextInt(grid.getRoomCount());
+            lock(grid, connectivity, room, directions[random.nextInt(directions.length)]);
+            for (int r = 0; r < grid.getRoomCount(); r++) {
+                assertEquals(reach.isReachable(r, exit), connectivity.isExitReachable(r),
+                            "Room " + r + " after lock " + i);
+            }
+        }
+    }
+
+    /**
+     * Tests that rebuild picks up doors locked without telling the tracker.
+     */
+    @Test
+    void testRebuild() {
+        DoorGrid grid = new DoorGrid(2, 1);
+        grid.openInterior();
+        ExitConnectivity connectivity = new ExitConnectivity(grid, 1);
+        grid.markAnsweredIncorrectly(grid.edgeOf(0, Direction.EAST));
+        assertTrue(connectivity.isExitReachable(0));
+        connectivity.rebuild();
+        assertFalse(connectivity.isExitReachable(0));
+    }
+
+    /**
+     * Locks a door and tells the tracker about it.
+     * @param theGrid - The grid.
+     * @param theConnectivity - The tracker.
+     * @param theRoom - The room next to the door.
+     * @param theDirection - The side of the room the door is on.
+     */
+    private static void lock(final DoorGrid theGrid, final ExitConnectivity theConnectivity,
+                             final int theRoom, final Direction theDirection) {
+        theGrid.markAnsweredIncorrectly(theGrid.edgeOf(theRoom, theDirection));
+        theConnectivity.onDoorLocked(theRoom, theDirection);
+    }
+}
@@ -0,0 +1,268 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * GameHistoryTest.java
+ */
+package model;
+
+import static model.TestMazes.assertSameProgress;
+import static model.TestMazes.maze;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the GameHistory class.
+ *
+ * @version 10/17/2026
+ */
+public class GameHistoryTest {
+
+    /**
+     * Moves and answers.
+     * @param theMaze - The maze.
+     * @param theDirection - The direction to move.
+     * @param isRight - Whether the answer is right.
+     */
+    private static void play(final Maze theMaze, final Direction theDirection,
+                             final boolean isRight) {
+        theMaze.move(theDirection);
+        theMaze.processAnswer(theDirection, isRight);
+    }
+
+    /**
+     * Tests that undo and redo move the game between its answers.
+     */
+    @Test
+    void testUndoRedo() {
+        Maze maze = maze(4, 4);
+        GameHistory history = maze.getHistory();
+        MazeState start = maze.snapshot();
+        play(maze, Direction.EAST, true);
+        MazeState first = maze.snapshot();
+        play(maze, Direction.SOUTH, false);
+        MazeState second = maze.snapshot();
+        assertEquals(2, history.size());
+
+        assertTrue(history.undo());
+        assertSameProgress(first, maze.snapshot());
+        assertTrue(maze.canMove(Direction.SOUTH));
+        assertTrue(history.undo());
+        assertSameProgress(start, maze.snapshot());
+        assertFalse(history.undo());
+        assertEquals(0, history.getPosition());
+
+        assertTrue(history.redo());
+        assertTrue(history.redo());
+        assertFalse(history.redo());
+        assertSameProgress(second, maze.snapshot());
+        assertFalse(maze.canMove(Direction.SOUTH));
+    }
+
+    /**
+     * Tests that a move that only asks a question is not a step of the history, and that
+     * an answer after an undo drops the undone answers.
+     */
+    @Test
+    void testNewAnswerDropsRedo() {
+        Maze maze = maze(4, 4);
+        GameHistory history = maze.getHistory();
+        maze.move(Direction.EAST);
+        assertEquals(0, history.size());
+        maze.processAnswer(Direction.EAST, true);
+        play(maze, Direction.EAST, true);
+        assertEquals(2, history.size());
+
+        history.undo();
+        assertTrue(history.canRedo());
+        play(maze, Direction.SOUTH, true);
+        assertFalse(history.canRedo());
+        assertEquals(2, history.size());
+        assertEquals(1, maze.getCurrentX());
+        assertEquals(1, maze.getCurrentY());
+    }
+
+    /**
+     * Tests that the state after any answer is rebuilt exactly, near and far from the
+     * snapshots the history keeps, without changing the game.
+     */
+    @Test
+    void testStateAt() {
+        Maze maze = maze(4, 4);
+        GameHistory history = maze.getHistory();
+        List<MazeState> states = new ArrayList<>();
+        states.add(maze.snapshot());
+        play(maze, Direction.SOUTH, false);
+        states.add(maze.snapshot());
+        for (int i = 0; i < 2 * GameHistory.CHECKPOINT_INTERVAL + 50; i++) {
+            play(maze, i % 2 == 0 ? Direction.EAST : Direction.WEST, true);
+            states.add(maze.snapshot());
+        }
+        assertEquals(states.size() - 1, history.size());
+
+        history.seek(300);
+        MazeState live = maze.snapshot();
+        for (int position : new int[] {0, 1, 2, 200, 255, 256, 257, 300, 400, 512,
+                                       history.size()}) {
+            MazeState state = history.stateAt(position);
+            assertSameProgress(states.get(position), state);
+            assertArrayEquals(states.get(position).getRoomIndexes(), state.getRoomIndexes());
+            assertArrayEquals(states.get(position).getQuestionIds(), state.getQuestionIds());
+        }
+        assertSameProgress(live, maze.snapshot());
+        assertEquals(300, history.getPosition());
+    }
+
+    /**
+     * Tests that the state after an answer does not depend on whether the answers after
+     * it were undone, including the rooms they created, and that the rooms of dropped
+     * answers join the next one.
+     */
+    @Test
+    void testStateAtSameAfterUndo() {
+        Maze maze = maze(4, 4);
+        GameHistory history = maze.getHistory();
+        play(maze, Direction.EAST, true);
+        play(maze, Direction.SOUTH, true);
+        MazeState before = history.stateAt(1);
+        MazeState last = history.stateAt(2);
+
+        history.undo();
+        MazeState after = history.stateAt(1);
+        assertSameProgress(before, after);
+        assertArrayEquals(before.getRoomIndexes(), after.getRoomIndexes());
+        assertArrayEquals(before.getQuestionIds(), after.getQuestionIds());
+        assertArrayEquals(last.getRoomIndexes(), history.stateAt(2).getRoomIndexes());
+
+        play(maze, Direction.EAST, false);
+        assertArrayEquals(before.getRoomIndexes(), history.stateAt(1).getRoomIndexes());
+        assertArrayEquals(maze.snapshot().getRoomIndexes(), history.stateAt(2).getRoomIndexes());
+        history.undo();
+        assertArrayEquals(before.getRoomIndexes(), history.stateAt(1).getRoomIndexes());
+    }
+
+    /**
+     * Tests that the snapshots a long game keeps hold only the pages of doors changed
+     * since they were taken, and no more than {@link GameHistory#MAX_CHECKPOINTS} of
+     * them, instead of a copy of every door each.
+     */
+    @Test
+    void testCheckpointMemoryBounded() {
+        List<Question> bank = new ArrayList<>();
+        bank.add(new ShortAnswer("Question", "Answer"));
+        Maze maze = new Maze(new QuestionGenerator(new QuestionPool(bank), 1L), 1000, 1000);
+        GameHistory history = maze.getHistory();
+        MazeState start = maze.snapshot();
+        int commands = 20 * GameHistory.CHECKPOINT_INTERVAL;
+        int y = 0;
+        int step = 1;
+        while (history.size() < commands) {
+            if (y + step < 0 || y + step >= 1000) {
+                play(maze, Direction.EAST, true);
+                step = -step;
+            } else {
+                play(maze, Direction.EAST, false);
+                play(maze, step > 0 ? Direction.SOUTH : Direction.NORTH, true);
+                y += step;
+            }
+        }
+
+        long doorBytes = (long) Long.BYTES * DoorGrid.wordCount(1000, 1000);
+        assertTrue(history.getCheckpointBytes() < doorBytes,
+                   history.getCheckpointBytes() + " bytes of snapshots");
+        assertSameProgress(start, history.stateAt(0));
+    }
+
+    /**
+     * Tests that seeking moves the game to any answer and back.
+     */
+    @Test
+    void testSeek() {
+        Maze maze = maze(4, 4);
+        GameHistory history = maze.getHistory();
+        play(maze, Direction.EAST, true);
+        MazeState first = maze.snapshot();
+        play(maze, Direction.EAST, false);
+        play(maze, Direction.SOUTH, true);
+        MazeState last = maze.snapshot();
+
+        history.seek(1);
+        assertSameProgress(first, maze.snapshot());
+        history.seek(3);
+        assertSameProgress(last, maze.snapshot());
+        assertThrows(IndexOutOfBoundsException.class, () -> history.seek(4));
+    }
+
+    /**
+     * Tests the changes an answer is made of.
+     */
+    @Test
+    void testChangesBetween() {
+        Maze maze = maze(4, 4);
+        GameHistory history = maze.getHistory();
+        play(maze, Direction.EAST, true);
+        play(maze, Direction.SOUTH, false);
+
+        List<GameChange.Kind> kinds = new ArrayList<>();
+        for (GameChange change : history.changesBetween(0, 1)) {
+            kinds.add(change.getKind());
+        }
+        assertEquals(List.of(GameChange.Kind.ROOM, GameChange.Kind.MOVE,
+                             GameChange.Kind.STATS, GameChange.Kind.ROOM), kinds);
+
+        List<GameChange> locked = history.changesBetween(1, 2);
+        assertEquals(2, locked.size());
+        assertEquals(GameChange.Kind.DOOR, locked.get(0).getKind());
+        assertEquals(1, locked.get(1).getWrongAnswers());
+        assertEquals(0, locked.get(1).getOldWrongAnswers());
+        assertThrows(IllegalArgumentException.class, () -> history.changesBetween(2, 1));
+    }
+
+    /**
+     * Tests that an undo is reported with the position it went back to.
+     */
+    @Test
+    void testRestoredEvent() {
+        Maze maze = maze(4, 4);
+        play(maze, Direction.EAST, true);
+        int[] position = {-1, -1};
+        maze.addMazeListener(e -> {
+            position[0] = e.getX();
+            position[1] = e.getY();
+        }, MazeEventType.RESTORED);
+
+        maze.getHistory().undo();
+        assertArrayEquals(new int[] {0, 0}, position);
+    }
+
+    /**
+     * Tests that a history that is not recording keeps no commands, and that turning it
+     * back on starts it over at the current state.
+     */
+    @Test
+    void testNotRecording() {
+        Maze maze = maze(4, 4);
+        GameHistory history = maze.getHistory();
+        play(maze, Direction.EAST, true);
+        history.setRecording(false);
+        assertFalse(history.isRecording());
+        assertEquals(0, history.size());
+        assertFalse(history.canUndo());
+        for (int i = 0; i < 10; i++) {
+            play(maze, i % 2 == 0 ? Direction.WEST : Direction.EAST, true);
+        }
+        play(maze, Direction.SOUTH, false);
+        assertEquals(0, history.size());
+        assertFalse(history.undo());
+        assertSameProgress(maze.snapshot(), history.stateAt(0));
+
+        history.setRecording(true);
+        MazeState start = maze.snapshot();
+        play(maze, Direction.EAST, true);
+        assertEquals(1, history.size());
+        assertTrue(history.undo());
+        assertSameProgress(start, maze.snapshot());
+    }
+}
@@ -0,0 +1,237 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * MazeEventBusTest.java
+ */
+package model;
+
+import static model.TestMazes.maze;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the MazeEventBus class and the events a Maze fires through it.
+ *
+ * @version 10/17/2026
+ */
+public class MazeEventBusTest {
+
+    /**
+     * Tests that a listener only gets the types it subscribed to, and that a move
+     * carries its room, direction and position.
+     */
+    @Test
+    void testSubscribedTypesOnly() {
+        Maze maze = maze(3, 3);
+        List<MazeEventType> types = new ArrayList<>();
+        int[] position = new int[2];
+        Direction[] direction = new Direction[1];
+        Room[] room = new Room[1];
+        maze.addMazeListener(e -> {
+            types.add(e.getType());
+            if (e.getType() == MazeEventType.MOVE) {
+                position[0] = e.getX();
+                position[1] = e.getY();
+                direction[0] = e.getDirection();
+                room[0] = e.getRoom();
+            }
+        }, MazeEventType.MOVE, MazeEventType.GAME_OVER);
+
+        maze.move(Direction.EAST);
+        maze.processAnswer(Direction.EAST, true);
+        maze.move(Direction.SOUTH);
+        maze.processAnswer(Direction.SOUTH, false);
+
+        assertEquals(List.of(MazeEventType.MOVE), types);
+        assertArrayEquals(new int[] {1, 0}, position);
+        assertEquals(Direction.EAST, direction[0]);
+        assertSame(maze.getRoom(1, 0), room[0]);
+    }
+
+    /**
+     * Tests the order of the events of a right and a wrong answer.
+     */
+    @Test
+    void testAnswerEvents() {
+        Maze maze = maze(3, 3);
+        List<MazeEventType> types = new ArrayList<>();
+        maze.addMazeListener(e -> types.add(e.getType()), MazeEventType.values());
+
+        maze.move(Direction.EAST);
+        maze.processAnswer(Direction.EAST, true);
+        maze.move(Direction.SOUTH);
+        maze.processAnswer(Direction.SOUTH, false);
+
+        assertEquals(List.of(MazeEventType.ROOM, MazeEventType.QUESTION,
+                             MazeEventType.ROOM, MazeEventType.MOVE, MazeEventType.STATS,
+                             MazeEventType.CORRECT_ANSWER, MazeEventType.QUESTION,
+                             MazeEventType.DOOR_CLOSED, MazeEventType.STATS,
+                             MazeEventType.WRONG_ANSWER), types);
+    }
+
+    /**
+     * Tests that event objects are reused from one event to the next.
+     */
+    @Test
+    void testEventReused() {
+        MazeEventBus bus = new MazeEventBus();
+        List<MazeEvent> events = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        bus.subscribe(e -> {
+            events.add(e);
+            indexes.add(e.getIndex());
+        }, MazeEventType.DOOR_CLOSED);
+
+        bus.fireIndex(MazeEventType.DOOR_CLOSED, 4);
+        bus.fireIndex(MazeEventType.DOOR_CLOSED, 9);
+        bus.fireIndex(MazeEventType.ROOM, 2);
+
+        assertEquals(List.of(4, 9), indexes);
+        assertSame(events.get(0), events.get(1));
+        assertTrue(bus.hasListeners(MazeEventType.DOOR_CLOSED));
+        assertFalse(bus.hasListeners(MazeEventType.ROOM));
+    }
+
+    /**
+     * Tests that an event fired by a listener of the same type does not overwrite the
+     * event the listener is reading.
+     */
+    @Test
+    void testNestedEvent() {
+        MazeEventBus bus = new MazeEventBus();
+        List<Integer> after = new ArrayList<>();
+        bus.subscribe(e -> {
+            if (e.getIndex() == 1) {
+                bus.fireIndex(MazeEventType.ROOM, 2);
+                after.add(e.getIndex());
+            }
+        }, MazeEventType.ROOM);
+
+        bus.fireIndex(MazeEventType.ROOM, 1);
+        assertEquals(List.of(1), after);
+    }
+
+    /**
+     * Tests that a listener can unsubscribe while an event is delivered, and that the
+     * other listeners still get it.
+     */
+    @Test
+    void testUnsubscribe() {
+        MazeEventBus bus = new MazeEventBus();
+        List<String> calls = new ArrayList<>();
+        MazeListener first = new MazeListener() {
+            @Override
+            public void mazeChanged(final MazeEvent theEvent) {
+                calls.add("first");
+                bus.unsubscribe(this);
+            }
+        };
+        bus.subscribe(first, MazeEventType.STATS, MazeEventType.GAME_OVER);
+        bus.subscribe(e -> calls.add("second"), MazeEventType.STATS);
+
+        bus.fireStats(null);
+        bus.fireStats(null);
+        bus.fireGameOver(true);
+
+        assertEquals(List.of("first", "second", "second"), calls);
+        assertFalse(bus.hasListeners(MazeEventType.GAME_OVER));
+    }
+
+    /**
+     * A listener that records the events and batches it is given.
+     */
+    private static final class Recorder implements MazeListener {
+
+        /**
+         * The types of the events given, with "|" at the end of each batch.
+         */
+        private final StringBuilder myLog = new StringBuilder();
+
+        @Override
+        public void mazeChanged(final MazeEvent theEvent) {
+            myLog.append(theEvent.getType()).append(' ');
+        }
+
+        @Override
+        public void batchEnded() {
+            myLog.append('|');
+        }
+
+        /**
+         * Gets what was recorded.
+         * @return The log.
+         */
+        String log() {
+            return myLog.toString();
+        }
+    }
+
+    /**
+     * Tests that events fired in a batch are held back until the batch ends and then
+     * end with a single batchEnded call.
+     */
+    @Test
+    void testBatch() {
+        MazeEventBus bus = new MazeEventBus();
+        Recorder recorder = new Recorder();
+        bus.subscribe(recorder, MazeEventType.MOVE, MazeEventType.STATS);
+
+        bus.beginBatch();
+        bus.fireMove(null, Direction.EAST, 1, 0);
+        bus.beginBatch();
+        bus.fireStats(null);
+        bus.endBatch();
+        assertEquals("", recorder.log());
+        bus.fireGameOver(true);
+        bus.endBatch();
+        assertEquals("MOVE STATS |", recorder.log());
+
+        bus.fireStats(null);
+        assertEquals("MOVE STATS |STATS |", recorder.log());
+        assertThrows(IllegalStateException.class, bus::endBatch);
+    }
+
+    /**
+     * Tests that each command of a maze is delivered as one batch.
+     */
+    @Test
+    void testCommandIsOneBatch() {
+        Maze maze = maze(3, 3);
+        Recorder recorder = new Recorder();
+        maze.addMazeListener(recorder, MazeEventType.values());
+
+        maze.move(Direction.EAST);
+        assertEquals("ROOM QUESTION |", recorder.log());
+        maze.processAnswer(Direction.EAST, true);
+        assertEquals("ROOM QUESTION |ROOM MOVE STATS CORRECT_ANSWER |", recorder.log());
+    }
+
+    /**
+     * Tests that an event fired when a batch ends is delivered as another batch.
+     */
+    @Test
+    void testFiredFromBatchEnded() {
+        MazeEventBus bus = new MazeEventBus();
+        List<String> calls = new ArrayList<>();
+        bus.subscribe(new MazeListener() {
+            @Override
+            public void mazeChanged(final MazeEvent theEvent) {
+                calls.add(theEvent.getType() + " " + theEvent.getIndex());
+            }
+
+            @Override
+            public void batchEnded() {
+                calls.add("end");
+                if (calls.size() < 3) {
+                    bus.fireIndex(MazeEventType.ROOM, 2);
+                }
+            }
+        }, MazeEventType.ROOM);
+
+        bus.fireIndex(MazeEventType.ROOM, 1);
+        assertEquals(List.of("ROOM 1", "end", "ROOM 2", "end"), calls);
+    }
+}
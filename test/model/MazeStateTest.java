@@ -0,0 +1,169 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * MazeStateTest.java
+ */
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the MazeState class and for taking and restoring snapshots of a maze.
+ * The maze draws from a fixed pool of questions with bank ids, so no database is needed.
+ *
+ * @version 10/17/2026
+ */
+public class MazeStateTest {
+
+    /**
+     * The question bank.
+     */
+    private List<Question> myBank;
+
+    /**
+     * Sets up a question bank with ids before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        myBank = new ArrayList<>();
+        for (int id = 1; id <= 10; id++) {
+            Question question = new ShortAnswer("Question " + id, "Answer " + id);
+            question.setId(id);
+            myBank.add(question);
+        }
+    }
+
+    /**
+     * Creates a generator over the question bank.
+     * @return The generator.
+     */
+    private QuestionGenerator generator() {
+        return new QuestionGenerator(new QuestionPool(myBank));
+    }
+
+    /**
+     * Tests that a restored maze has the same doors, position, rooms and statistics.
+     */
+    @Test
+    void testRoundTrip() {
+        Maze maze = new Maze(generator(), 4, 3);
+        maze.move(Direction.EAST);
+        maze.processAnswer(Direction.EAST, true);
+        maze.move(Direction.SOUTH);
+        maze.processAnswer(Direction.SOUTH, false);
+
+        MazeState state = maze.snapshot();
+        Maze restored = Maze.fromState(state, generator());
+
+        assertEquals(4, restored.getWidth());
+        assertEquals(3, restored.getHeight());
+        assertEquals(1, restored.getCurrentX());
+        assertEquals(0, restored.getCurrentY());
+        assertFalse(restored.canMove(Direction.SOUTH));
+        assertTrue(restored.getCurrentRoom().hasBeenAnsweredIncorrectly(Direction.SOUTH));
+        assertTrue(restored.canMove(Direction.WEST));
+        assertEquals(1, restored.getTrivia().getRightAnswer());
+        assertEquals(1, restored.getTrivia().getWrongAnswer());
+        assertEquals(2, restored.getTrivia().getTrys());
+        assertArrayEquals(state.getDoorWords(), restored.snapshot().getDoorWords());
+        assertEquals(maze.getCurrentRoom().getTrivia().getId(),
+                     restored.getCurrentRoom().getTrivia().getId());
+        assertSame(myBank.get(maze.getCurrentRoom().getTrivia().getId() - 1),
+                   restored.getCurrentRoom().getTrivia());
+    }
+
+    /**
+     * Tests that a snapshot records only the rooms created so far, by question id.
+     */
+    @Test
+    void testSnapshotRooms() {
+        Maze maze = new Maze(generator(), 5, 5);
+        maze.getRoom(3, 2);
+        maze.getRoom(0, 0);
+        MazeState state = maze.snapshot();
+        assertArrayEquals(new int[] {0, 13}, state.getRoomIndexes());
+        for (int id : state.getQuestionIds()) {
+            assertTrue(id >= 1 && id <= 10);
+        }
+    }
+
+    /**
+     * Tests that a room whose question is gone from the bank gets a new one.
+     */
+    @Test
+    void testMissingQuestion() {
+        MazeState state = new MazeState(2, 2, new long[DoorGrid.wordCount(2, 2)], 0, 0,
+                                        0, 0, 0, 0L, new int[] {0}, new int[] {99});
+        Maze maze = Maze.fromState(state, generator());
+        assertNotNull(maze.getRoom(0, 0).getTrivia());
+    }
+
+    /**
+     * Tests that a game over is detected after restoring a maze with the player locked in.
+     */
+    @Test
+    void testRestoredGameOver() {
+        Maze maze = new Maze(generator(), 2, 2);
+        maze.move(Direction.EAST);
+        maze.processAnswer(Direction.EAST, false);
+        maze.move(Direction.SOUTH);
+        maze.processAnswer(Direction.SOUTH, false);
+        assertTrue(maze.isGameOver());
+        assertTrue(Maze.fromState(maze.snapshot(), generator()).isGameOver());
+    }
+
+    /**
+     * Tests that saved rooms, as read from a mapped save, are only turned into rooms
+     * when needed, and that snapshots keep the ones not needed yet.
+     */
+    @Test
+    void testSavedRoomsReadLazily() {
+        DoorGrid grid = new DoorGrid(3, 3);
+        grid.openInterior();
+        int[] saved = new int[9];
+        saved[1] = 4;
+        saved[4] = MazeState.ROOM_WITHOUT_ID;
+        saved[8] = 6;
+        MazeState state = new MazeState(3, 3, LongBuffer.wrap(grid.getWords()), 0, 0, 0, 0,
+                                        0, 0L, IntBuffer.wrap(saved), new int[0], new int[0]);
+        Maze maze = Maze.fromState(state, generator());
+        assertEquals(0, maze.getMaterializedRoomCount());
+
+        assertSame(myBank.get(3), maze.getRoom(1, 0).getTrivia());
+        assertNotNull(maze.getRoom(1, 1).getTrivia());
+        maze.getRoom(0, 2);
+        assertEquals(3, maze.getMaterializedRoomCount());
+
+        MazeState snapshot = maze.snapshot();
+        assertArrayEquals(new int[] {1, 4, 6, 8}, snapshot.getRoomIndexes());
+        assertEquals(4, snapshot.getQuestionIds()[0]);
+        assertEquals(6, snapshot.getQuestionIds()[3]);
+        assertSame(myBank.get(5), Maze.fromState(snapshot, generator())
+                                      .getRoom(2, 2).getTrivia());
+    }
+
+    /**
+     * Tests that inconsistent snapshots are rejected.
+     */
+    @Test
+    void testInvalidState() {
+        long[] words = new long[DoorGrid.wordCount(3, 3)];
+        assertThrows(IllegalArgumentException.class, () -> new MazeState(
+                3, 3, new long[5], 0, 0, 0, 0, 0, 0L, new int[0], new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> new MazeState(
+                3, 3, words, 3, 0, 0, 0, 0, 0L, new int[0], new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> new MazeState(
+                3, 3, words, 0, 0, 0, 0, 0, 0L, new int[] {9}, new int[] {1}));
+        assertThrows(IllegalArgumentException.class, () -> new MazeState(
+                3, 3, words, 0, 0, 0, 0, 0, 0L, new int[] {1}, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> new MazeState(
+                0, 3, words, 0, 0, 0, 0, 0, 0L, new int[0], new int[0]));
+    }
+}
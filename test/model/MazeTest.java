@@ -9,7 +9,16 @@ import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.sql.SQLException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 
 
@@ -104,4 +113,191 @@ public class MazeTest {
         assertTrue(myMaze.isAdjacentToExit(Direction.EAST));
     }
 
-}
\ No newline at end of file
+    /**
+     * Tests that a rectangular maze keeps its width and height apart.
+     * @throws SQLException - Cannot access the database.
+     */
+    @Test
+    void testRectangularMaze() throws SQLException {
+        Maze maze = new Maze(myDBConnector, 3, 2);
+        assertEquals(3, maze.getWidth());
+        assertEquals(2, maze.getHeight());
+        assertNotNull(maze.getRoom(2, 1));
+        assertNull(maze.getRoom(1, 2));
+        assertFalse(maze.canMove(Direction.NORTH));
+        assertTrue(maze.canMove(Direction.SOUTH));
+    }
+
+    /**
+     * Tests that the exit sits in the bottom right corner of a rectangular maze.
+     * @throws SQLException - Cannot access the database.
+     */
+    @Test
+    void testRectangularExit() throws SQLException {
+        Maze maze = new Maze(myDBConnector, 3, 2);
+        maze.move(Direction.SOUTH);
+        maze.processAnswer(Direction.SOUTH, true);
+        maze.move(Direction.EAST);
+        maze.processAnswer(Direction.EAST, true);
+        assertTrue(maze.isAdjacentToExit(Direction.EAST));
+    }
+
+    /**
+     * Tests that the game is over once both doors out of the start are locked.
+     */
+    @Test
+    void testGameOverWhenLockedIn() {
+        assertFalse(myMaze.isGameOver());
+        myMaze.move(Direction.EAST);
+        myMaze.processAnswer(Direction.EAST, false);
+        assertFalse(myMaze.isGameOver());
+        myMaze.move(Direction.SOUTH);
+        myMaze.processAnswer(Direction.SOUTH, false);
+        assertTrue(myMaze.isGameOver());
+    }
+
+    /**
+     * Tests that rooms are only created once the player reaches them.
+     * @throws SQLException - Cannot access the database.
+     */
+    @Test
+    void testLazyRooms() throws SQLException {
+        Maze maze = new Maze(myDBConnector, Maze.DEFAULT_SIZE, Maze.DEFAULT_SIZE);
+        assertEquals(0, maze.getMaterializedRoomCount());
+        assertFalse(maze.isRoomAnswered(4, 4));
+        assertEquals(0, maze.getMaterializedRoomCount());
+        maze.move(Direction.EAST);
+        assertEquals(1, maze.getMaterializedRoomCount());
+        maze.processAnswer(Direction.EAST, true);
+        assertEquals(2, maze.getMaterializedRoomCount());
+    }
+
+    /**
+     * Tests that the largest maze can be built and played without creating its rooms.
+     * @throws SQLException - Cannot access the database.
+     */
+    @Test
+    void testLargestMaze() throws SQLException {
+        Maze maze = new Maze(myDBConnector, 10_000, 10_000);
+        maze.move(Direction.EAST);
+        maze.processAnswer(Direction.EAST, false);
+        assertFalse(maze.isGameOver());
+        assertEquals(1, maze.getMaterializedRoomCount());
+    }
+
+    /**
+     * Tests that invalid dimensions are rejected.
+     */
+    @Test
+    void testInvalidDimensions() {
+        assertThrows(IllegalArgumentException.class, () -> new Maze(myDBConnector, 0, 5));
+        assertThrows(IllegalArgumentException.class,
+                    () -> new Maze(myDBConnector, 10_001, 10_000));
+    }
+
+    /**
+     * Saves a maze with Java serialization and reads it back.
+     * @param theMaze - The maze to save.
+     * @return The maze that was read back.
+     */
+    private static Maze serialize(final Maze theMaze) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(theMaze);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (Maze) in.readObject();
+        }
+    }
+
+    /**
+     * Tests that serialization keeps the doors, rooms and position of a maze.
+     */
+    @Test
+    void testSerializationRoundTrip() throws IOException, ClassNotFoundException {
+        myMaze.move(Direction.EAST);
+        myMaze.processAnswer(Direction.EAST, true);
+        myMaze.move(Direction.SOUTH);
+        myMaze.processAnswer(Direction.SOUTH, false);
+
+        Maze loaded = serialize(myMaze);
+        assertEquals(1, loaded.getCurrentX());
+        assertEquals(0, loaded.getCurrentY());
+        assertEquals(myMaze.getMaterializedRoomCount(), loaded.getMaterializedRoomCount());
+        assertFalse(loaded.canMove(Direction.SOUTH));
+        assertTrue(loaded.getCurrentRoom().hasBeenAnsweredIncorrectly(Direction.SOUTH));
+        assertTrue(loaded.canMove(Direction.WEST));
+        assertFalse(loaded.isGameOver());
+    }
+
+    /**
+     * Tests that a maze with every room created can be saved on a thread with a small
+     * stack, since rooms are written in a flat loop rather than by following neighbours.
+     */
+    @Test
+    void testSerializationStackDepth() throws InterruptedException {
+        Maze maze = new Maze(new QuestionGenerator(new QuestionPool(
+                List.of(new ShortAnswer("Question", "Answer")))), 300, 300);
+        for (int y = 0; y < 300; y++) {
+            for (int x = 0; x < 300; x++) {
+                maze.getRoom(x, y);
+            }
+        }
+        Maze[] loaded = new Maze[1];
+        Thread thread = new Thread(null, () -> {
+            try {
+                loaded[0] = serialize(maze);
+            } catch (IOException | ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        }, "small-stack", 64 * 1024);
+        thread.start();
+        thread.join();
+        assertNotNull(loaded[0]);
+        assertEquals(300 * 300, loaded[0].getMaterializedRoomCount());
+        assertEquals("Question", loaded[0].getRoom(299, 299).getTrivia().getQuestion());
+    }
+
+    /**
+     * Tests that a saved maze holds only the ids of bank questions and that loading it
+     * gives every room the single pooled copy of its question.
+     */
+    @Test
+    void testSerializationStoresIds() throws IOException, ClassNotFoundException {
+        List<Question> bank = new ArrayList<>();
+        for (int id = 1; id <= 3; id++) {
+            Question question = new MultipleChoice("Bank question " + id,
+                    Map.of("A", "Choice A", "B", "Choice B"), "A");
+            question.setId(id);
+            bank.add(question);
+        }
+        Maze maze = new Maze(new QuestionGenerator(new QuestionPool(bank)), 4, 4);
+        for (int y = 0; y < 4; y++) {
+            for (int x = 0; x < 4; x++) {
+                maze.getRoom(x, y);
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(maze);
+        }
+        assertFalse(new String(bytes.toByteArray(), StandardCharsets.ISO_8859_1)
+                            .contains("Bank question"));
+
+        Maze loaded;
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            loaded = (Maze) in.readObject();
+        }
+        loaded.reinitializeQuestionGenerator(new QuestionGenerator(new QuestionPool(bank)));
+        for (int y = 0; y < 4; y++) {
+            for (int x = 0; x < 4; x++) {
+                Question question = loaded.getRoom(x, y).getTrivia();
+                assertSame(bank.get(question.getId() - 1), question);
+                assertEquals(maze.getRoom(x, y).getTrivia().getId(), question.getId());
+            }
+        }
+    }
+}
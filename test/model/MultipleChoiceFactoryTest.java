@@ -0,0 +1,127 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * MultipleChoiceFactoryTest.java
+ */
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Proxy;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the bulk loading of the MultipleChoiceFactory class. The joined rows
+ * are served by an in-memory statement, so no database is needed.
+ *
+ * @version 10/17/2026
+ */
+public class MultipleChoiceFactoryTest {
+
+    /**
+     * The column names of the joined rows.
+     */
+    private static final List<String> COLUMNS =
+            List.of("id", "question", "correct_answer", "choice", "choice_text");
+
+    /**
+     * Tests that every question and its choices come from a single query.
+     */
+    @Test
+    void testCreateQuestionsSingleQuery() throws Exception {
+        List<Object[]> rows = List.of(
+                new Object[] {41, "Question 1", "A", "A", "Choice A1"},
+                new Object[] {41, "Question 1", "A", "B", "Choice B1"},
+                new Object[] {42, "Question 2", "C", "C", "Choice C2"},
+                new Object[] {42, "Question 2", "C", "D", "Choice D2"},
+                new Object[] {42, "Question 2", "C", "A", "Choice A2"});
+        List<String> queries = new ArrayList<>();
+
+        List<Question> questions = new MultipleChoiceFactory(null)
+                .createQuestions(statement(rows, queries), "MultipleQuestion");
+
+        assertEquals(1, queries.size());
+        assertEquals(2, questions.size());
+        MultipleChoice first = (MultipleChoice) questions.get(0);
+        assertEquals("Question 1", first.getQuestion());
+        assertEquals("A", first.getAnswer());
+        assertEquals(Map.of("A", "Choice A1", "B", "Choice B1"), first.getChoices());
+        MultipleChoice second = (MultipleChoice) questions.get(1);
+        assertEquals("Question 2", second.getQuestion());
+        assertEquals(3, second.getChoices().size());
+    }
+
+    /**
+     * Tests that a question without choices is still created.
+     */
+    @Test
+    void testCreateQuestionsWithoutChoices() throws Exception {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] {50, "Question", "A", null, null});
+
+        List<Question> questions = new MultipleChoiceFactory(null)
+                .createQuestions(statement(rows, new ArrayList<>()), "MultipleQuestion");
+
+        assertEquals(1, questions.size());
+        assertTrue(((MultipleChoice) questions.get(0)).getChoices().isEmpty());
+    }
+
+    /**
+     * Tests that an empty table gives no questions.
+     */
+    @Test
+    void testCreateQuestionsEmpty() throws Exception {
+        List<Question> questions = new MultipleChoiceFactory(null)
+                .createQuestions(statement(List.of(), new ArrayList<>()), "MultipleQuestion");
+        assertTrue(questions.isEmpty());
+    }
+
+    /**
+     * Creates a statement whose queries all return the given rows.
+     * @param theRows - The rows of the result set.
+     * @param theQueries - Collects every query run on the statement.
+     * @return The statement.
+     */
+    private static Statement statement(final List<Object[]> theRows,
+                                       final List<String> theQueries) {
+        return (Statement) Proxy.newProxyInstance(
+                Statement.class.getClassLoader(), new Class<?>[] {Statement.class},
+                (proxy, method, args) -> {
+                    if ("executeQuery".equals(method.getName())) {
+                        theQueries.add((String) args[0]);
+                        return resultSet(theRows);
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Creates a forward only result set over the given rows.
+     * @param theRows - The rows.
+     * @return The result set.
+     */
+    private static ResultSet resultSet(final List<Object[]> theRows) {
+        final int[] row = {-1};
+        return (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "next":
+                            return ++row[0] < theRows.size();
+                        case "getInt":
+                            return theRows.get(row[0])[COLUMNS.indexOf(args[0])];
+                        case "getString":
+                            return theRows.get(row[0])[COLUMNS.indexOf(args[0])];
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
@@ -7,6 +7,7 @@ package model;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
 
 
 import org.junit.jupiter.api.Assertions;
@@ -73,7 +74,7 @@ public class MultipleChoiceTest {
         final MultipleChoice Question41 =
                 new MultipleChoice(QUESTION, MULTIPLE_CHOICE, RIGHT_ANSWER);
 
-        Question41.deleteChoice();
+        Question41.deleteChoice(new Random(1L));
 
         Assertions.assertEquals(2, Question41.getChoices().size(),
                 "There should only be two options for this question");
@@ -81,6 +82,28 @@ public class MultipleChoiceTest {
                 "The correct answer should still be there");
     }
 
+    /**
+     * Tests that the same seed deletes the same choices.
+     */
+    @Test
+    public void testDeleteChoiceSeeded() {
+        MULTIPLE_CHOICE.put("A", "Gryffindor");
+        MULTIPLE_CHOICE.put("B", "Hufflepuff");
+        MULTIPLE_CHOICE.put("C", "Ravenclaw");
+        MULTIPLE_CHOICE.put("D", "Slytherin");
+
+        for (long seed = 0; seed < 10; seed++) {
+            final MultipleChoice first =
+                    new MultipleChoice(QUESTION, MULTIPLE_CHOICE, RIGHT_ANSWER);
+            final MultipleChoice second =
+                    new MultipleChoice(QUESTION, MULTIPLE_CHOICE, RIGHT_ANSWER);
+            first.deleteChoice(new Random(seed));
+            second.deleteChoice(new Random(seed));
+            Assertions.assertEquals(first.getChoices(), second.getChoices(),
+                    "The same seed should keep the same choices");
+        }
+    }
+
     /**
      * Tests if the incorrect answer the player typed is false.
      */
@@ -0,0 +1,102 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * QuestionPoolTest.java
+ */
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the QuestionPool class.
+ *
+ * @version 10/17/2026
+ */
+public class QuestionPoolTest {
+
+    /**
+     * Tests that random picks come from the pool.
+     */
+    @Test
+    void testGetRandom() {
+        List<Question> questions = List.of(new ShortAnswer("Question 1", "Answer 1"),
+                                           new TrueFalse("Question 2", 1),
+                                           new ShortAnswer("Question 3", "Answer 3"));
+        QuestionPool pool = new QuestionPool(questions);
+        Random random = new Random(7);
+        for (int i = 0; i < 20; i++) {
+            assertTrue(questions.contains(pool.getRandom(random)));
+        }
+        assertEquals(3, pool.size());
+    }
+
+    /**
+     * Tests that an empty pool gives no question.
+     */
+    @Test
+    void testEmptyPool() {
+        QuestionPool pool = new QuestionPool(Collections.emptyList());
+        assertNull(pool.getRandom(new Random()));
+        assertEquals(0, pool.size());
+    }
+
+    /**
+     * Tests that invalidating and refreshing a fixed pool keeps its questions.
+     */
+    @Test
+    void testFixedPoolKeepsQuestions() {
+        QuestionPool pool = new QuestionPool(List.of(new ShortAnswer("Question", "Answer")));
+        pool.invalidate();
+        assertEquals(1, pool.size());
+        pool.refresh();
+        assertEquals(1, pool.size());
+    }
+
+    /**
+     * Tests that the question list cannot be changed from outside.
+     */
+    @Test
+    void testQuestionsUnmodifiable() {
+        QuestionPool pool = new QuestionPool(List.of(new ShortAnswer("Question", "Answer")));
+        assertThrows(UnsupportedOperationException.class,
+                    () -> pool.getQuestions().clear());
+    }
+
+    /**
+     * Tests looking questions up by their bank id.
+     */
+    @Test
+    void testGetById() {
+        Question first = new ShortAnswer("Question 1", "Answer 1");
+        first.setId(21);
+        Question second = new TrueFalse("Question 2", 0);
+        second.setId(3);
+        QuestionPool pool = new QuestionPool(List.of(first, second,
+                                                     new ShortAnswer("No id", "Answer")));
+        assertSame(first, pool.getById(21));
+        assertSame(second, pool.getById(3));
+        assertNull(pool.getById(4));
+        assertNull(pool.getById(Question.NO_ID));
+    }
+
+    /**
+     * Tests that the version changes with the questions and their order only.
+     */
+    @Test
+    void testVersion() {
+        Question first = new ShortAnswer("Question 1", "Answer 1");
+        Question second = new TrueFalse("Question 2", 1);
+        int version = new QuestionPool(List.of(first, second)).getVersion();
+        assertEquals(version, new QuestionPool(List.of(new ShortAnswer("Question 1", "Answer 1"),
+                                                       new TrueFalse("Question 2", 1)))
+                .getVersion());
+        assertNotEquals(version, new QuestionPool(List.of(second, first)).getVersion());
+        assertNotEquals(version, new QuestionPool(List.of(first,
+                new TrueFalse("Question 2", 0))).getVersion());
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * ReachabilityTest.java
+ */
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the Reachability class.
+ *
+ * @version 10/17/2026
+ */
+public class ReachabilityTest {
+
+    /**
+     * Tests that every room of an open grid reaches the exit.
+     */
+    @Test
+    void testOpenGrid() {
+        DoorGrid grid = new DoorGrid(5, 5);
+        grid.openInterior();
+        Reachability reach = new Reachability(grid);
+        assertTrue(reach.isReachable(0, 24));
+        assertTrue(reach.isReachable(12, 24));
+        assertTrue(reach.isReachable(24, 24));
+    }
+
+    /**
+     * Tests that a wall of locked doors cuts the grid in two.
+     */
+    @Test
+    void testBlockedWall() {
+        DoorGrid grid = new DoorGrid(4, 4);
+        grid.openInterior();
+        Reachability reach = new Reachability(grid);
+        for (int y = 0; y < 4; y++) {
+            assertTrue(reach.isReachable(0, 15), "Wall finished before row " + y);
+            int room = grid.indexOf(1, y);
+            grid.markAnsweredIncorrectly(grid.edgeOf(room, Direction.EAST));
+        }
+        assertFalse(reach.isReachable(0, 15));
+        assertTrue(reach.isReachable(2, 15));
+    }
+
+    /**
+     * Tests that searches reuse their state correctly between calls.
+     */
+    @Test
+    void testRepeatedSearches() {
+        DoorGrid grid = new DoorGrid(3, 1);
+        grid.openInterior();
+        Reachability reach = new Reachability(grid);
+        assertTrue(reach.isReachable(0, 2));
+        grid.markAnsweredIncorrectly(grid.edgeOf(1, Direction.EAST));
+        assertFalse(reach.isReachable(0, 2));
+        assertTrue(reach.isReachable(0, 1));
+        grid.setOpen(grid.edgeOf(1, Direction.EAST), true);
+        assertFalse(reach.isReachable(0, 2), "A locked door stays locked");
+    }
+
+    /**
+     * Tests a corridor far longer than a recursive search could handle.
+     */
+    @Test
+    void testLongCorridor() {
+        DoorGrid grid = new DoorGrid(1_000_000, 1);
+        grid.openInterior();
+        Reachability reach = new Reachability(grid);
+        assertTrue(reach.isReachable(0, 999_999));
+        assertTrue(reach.isReachable(999_999, 0));
+    }
+}
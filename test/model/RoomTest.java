@@ -49,17 +49,25 @@ public class RoomTest {
     }
 
     /**
-     * Tests the setAdjacentRoom and getDoor methods.
+     * Tests the getDoor method.
      */
     @Test
-    void testSetAdjacentRoomAndGetDoor() {
-        Room adjacentRoom = new Room(myMockQuestion);
-        myRoom.setAdjacentRoom(Direction.NORTH, adjacentRoom);
-
+    void testGetDoor() {
         assertNotNull(myRoom.getDoor(Direction.NORTH));
         assertTrue(myRoom.isDoorOpen(Direction.NORTH));
     }
 
+    /**
+     * Tests that a door closed through getDoor is closed in the room as well.
+     */
+    @Test
+    void testGetDoorSharesState() {
+        myRoom.getDoor(Direction.EAST).markAnsweredIncorrectly();
+        assertFalse(myRoom.isDoorOpen(Direction.EAST));
+        assertTrue(myRoom.hasBeenAnsweredIncorrectly(Direction.EAST));
+        assertTrue(myRoom.isDoorOpen(Direction.WEST));
+    }
+
     /**
      * Tests the setTrivia and getTrivia methods.
      */
@@ -0,0 +1,284 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * SchemaMigratorTest.java
+ */
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Proxy;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the SchemaMigrator class. The migrator runs against a fake
+ * connection that records the SQL it is given and keeps the version table in memory,
+ * including commit and rollback.
+ *
+ * @version 10/17/2026
+ */
+public class SchemaMigratorTest {
+
+    /**
+     * The fake database.
+     */
+    private FakeDatabase myDatabase;
+
+    /**
+     * Sets up an empty database before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        myDatabase = new FakeDatabase();
+    }
+
+    /**
+     * Tests that a cold start runs every step in one transaction.
+     */
+    @Test
+    void testColdStart() throws SQLException {
+        SchemaMigrator migrator = new SchemaMigrator(List.of(
+                new SchemaMigrator.Migration(1, "tables", "CREATE TABLE A", "CREATE TABLE B"),
+                new SchemaMigrator.Migration(2, "seed", "INSERT INTO A")));
+        assertEquals(2, migrator.migrate(myDatabase.connect()));
+        assertEquals(List.of("CREATE TABLE A", "CREATE TABLE B", "INSERT INTO A"),
+                     myDatabase.myExecuted);
+        assertEquals(2, myDatabase.myVersions.size());
+        assertEquals(1, myDatabase.myCommits);
+        assertTrue(myDatabase.myAutoCommit);
+    }
+
+    /**
+     * Tests that a warm start runs nothing.
+     */
+    @Test
+    void testWarmStart() throws SQLException {
+        List<SchemaMigrator.Migration> steps = List.of(
+                new SchemaMigrator.Migration(1, "tables", "CREATE TABLE A"));
+        new SchemaMigrator(steps).migrate(myDatabase.connect());
+        myDatabase.myExecuted.clear();
+
+        assertEquals(0, new SchemaMigrator(steps).migrate(myDatabase.connect()));
+        assertTrue(myDatabase.myExecuted.isEmpty());
+        assertEquals(1, myDatabase.myCommits);
+    }
+
+    /**
+     * Tests that only new steps run after an upgrade.
+     */
+    @Test
+    void testUpgrade() throws SQLException {
+        SchemaMigrator.Migration first = new SchemaMigrator.Migration(1, "tables", "CREATE TABLE A");
+        new SchemaMigrator(List.of(first)).migrate(myDatabase.connect());
+        myDatabase.myExecuted.clear();
+
+        SchemaMigrator.Migration second = new SchemaMigrator.Migration(2, "seed", "INSERT INTO A");
+        assertEquals(1, new SchemaMigrator(List.of(first, second)).migrate(myDatabase.connect()));
+        assertEquals(List.of("INSERT INTO A"), myDatabase.myExecuted);
+    }
+
+    /**
+     * Tests that a failing step rolls back every step of the run.
+     */
+    @Test
+    void testFailureRollsBack() {
+        myDatabase.myFailing = "INSERT INTO A";
+        SchemaMigrator migrator = new SchemaMigrator(List.of(
+                new SchemaMigrator.Migration(1, "tables", "CREATE TABLE A"),
+                new SchemaMigrator.Migration(2, "seed", "INSERT INTO A")));
+        assertThrows(SQLException.class, () -> migrator.migrate(myDatabase.connect()));
+        assertTrue(myDatabase.myVersions.isEmpty());
+        assertEquals(0, myDatabase.myCommits);
+        assertTrue(myDatabase.myAutoCommit);
+    }
+
+    /**
+     * Tests that a step changed after being applied is reported.
+     */
+    @Test
+    void testChangedStep() throws SQLException {
+        new SchemaMigrator(List.of(new SchemaMigrator.Migration(1, "tables", "CREATE TABLE A")))
+                .migrate(myDatabase.connect());
+        SchemaMigrator changed = new SchemaMigrator(
+                List.of(new SchemaMigrator.Migration(1, "tables", "CREATE TABLE B")));
+        assertThrows(SQLException.class, () -> changed.migrate(myDatabase.connect()));
+    }
+
+    /**
+     * Tests that steps must be in increasing version order.
+     */
+    @Test
+    void testVersionOrder() {
+        assertThrows(IllegalArgumentException.class, () -> new SchemaMigrator(List.of(
+                new SchemaMigrator.Migration(2, "seed", "INSERT INTO A"),
+                new SchemaMigrator.Migration(1, "tables", "CREATE TABLE A"))));
+    }
+
+    /**
+     * Tests that the question bank steps have distinct checksums and seed idempotently.
+     */
+    @Test
+    void testQuestionBankSteps() {
+        List<SchemaMigrator.Migration> steps = DatabaseConnector.MIGRATIONS;
+        assertEquals(3, steps.size());
+        assertNotEquals(steps.get(0).getChecksum(), steps.get(2).getChecksum());
+        for (String sql : steps.get(2).getStatements()) {
+            assertTrue(sql.startsWith("INSERT OR IGNORE"));
+        }
+    }
+
+    /**
+     * An in-memory stand-in for a database holding only the version table.
+     */
+    private static final class FakeDatabase {
+
+        /**
+         * Every migration statement run, in order.
+         */
+        private final List<String> myExecuted = new ArrayList<>();
+
+        /**
+         * Committed rows of the version table: version to checksum.
+         */
+        private final Map<Integer, Long> myVersions = new HashMap<>();
+
+        /**
+         * Rows inserted in the open transaction.
+         */
+        private final Map<Integer, Long> myPending = new HashMap<>();
+
+        /**
+         * A statement that fails when run, or null.
+         */
+        private String myFailing;
+
+        /**
+         * The auto-commit mode.
+         */
+        private boolean myAutoCommit = true;
+
+        /**
+         * Number of commits.
+         */
+        private int myCommits;
+
+        /**
+         * Opens a connection to the database.
+         * @return The connection.
+         */
+        private Connection connect() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "createStatement":
+                                return statement();
+                            case "prepareStatement":
+                                return insert();
+                            case "getAutoCommit":
+                                return myAutoCommit;
+                            case "setAutoCommit":
+                                myAutoCommit = (Boolean) args[0];
+                                return null;
+                            case "commit":
+                                myVersions.putAll(myPending);
+                                myPending.clear();
+                                myCommits++;
+                                return null;
+                            case "rollback":
+                                myPending.clear();
+                                return null;
+                            default:
+                                return null;
+                        }
+                    });
+        }
+
+        /**
+         * Creates a statement that records updates and reads the version table.
+         * @return The statement.
+         */
+        private Statement statement() {
+            return (Statement) Proxy.newProxyInstance(
+                    Statement.class.getClassLoader(), new Class<?>[] {Statement.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "executeUpdate":
+                                String sql = (String) args[0];
+                                if (sql.contains(SchemaMigrator.VERSION_TABLE)) {
+                                    return 0;
+                                }
+                                if (sql.equals(myFailing)) {
+                                    throw new SQLException("Failed: " + sql);
+                                }
+                                myExecuted.add(sql);
+                                return 0;
+                            case "executeQuery":
+                                return versions(new ArrayList<>(myVersions.entrySet()));
+                            default:
+                                return null;
+                        }
+                    });
+        }
+
+        /**
+         * Creates the statement that records an applied step.
+         * @return The prepared statement.
+         */
+        private PreparedStatement insert() {
+            final Object[] params = new Object[5];
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] {PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "setInt":
+                            case "setLong":
+                            case "setString":
+                                params[(Integer) args[0]] = args[1];
+                                return null;
+                            case "executeUpdate":
+                                myPending.put((Integer) params[1], (Long) params[3]);
+                                return 1;
+                            default:
+                                return null;
+                        }
+                    });
+        }
+
+        /**
+         * Creates a result set over rows of the version table.
+         * @param theRows - The rows.
+         * @return The result set.
+         */
+        private static ResultSet versions(final List<Map.Entry<Integer, Long>> theRows) {
+            final int[] row = {-1};
+            return (ResultSet) Proxy.newProxyInstance(
+                    ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "next":
+                                return ++row[0] < theRows.size();
+                            case "getInt":
+                                return theRows.get(row[0]).getKey();
+                            case "getLong":
+                                return theRows.get(row[0]).getValue();
+                            default:
+                                return null;
+                        }
+                    });
+        }
+    }
+}
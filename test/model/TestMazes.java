@@ -0,0 +1,95 @@
+/**
+ * TCSS 360 - Trivia Maze
+ * TestMazes.java
+ */
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mazes over a small fixed question bank, and checks on their states, shared by the
+ * tests.
+ *
+ * @version 10/17/2026
+ */
+public final class TestMazes {
+
+    /**
+     * The number of questions in the bank of {@link #maze}.
+     */
+    public static final int BANK_SIZE = 5;
+
+    /**
+     * The seed the questions of {@link #maze} are drawn with.
+     */
+    public static final long SEED = 1L;
+
+    /**
+     * Not instantiable.
+     */
+    private TestMazes() {
+    }
+
+    /**
+     * Creates a question bank of short answer questions "Question i", answered
+     * "Answer i".
+     * @param theSize - The number of questions.
+     * @return The question bank.
+     */
+    public static QuestionPool bank(final int theSize) {
+        List<Question> questions = new ArrayList<>();
+        for (int i = 1; i <= theSize; i++) {
+            questions.add(new ShortAnswer("Question " + i, "Answer " + i));
+        }
+        return new QuestionPool(questions);
+    }
+
+    /**
+     * Creates a seeded question generator over the small fixed bank.
+     * @return The generator.
+     */
+    public static QuestionGenerator generator() {
+        return new QuestionGenerator(bank(BANK_SIZE), SEED);
+    }
+
+    /**
+     * Creates a maze over the small fixed bank.
+     * @param theWidth - The number of rooms in each row.
+     * @param theHeight - The number of rows.
+     * @return The maze.
+     */
+    public static Maze maze(final int theWidth, final int theHeight) {
+        return new Maze(generator(), theWidth, theHeight);
+    }
+
+    /**
+     * Checks that two states have the same doors, rooms, position and statistics.
+     * @param theExpected - The expected state.
+     * @param theActual - The actual state.
+     */
+    public static void assertSameGame(final MazeState theExpected,
+                                      final MazeState theActual) {
+        assertSameProgress(theExpected, theActual);
+        assertArrayEquals(theExpected.getRoomIndexes(), theActual.getRoomIndexes());
+    }
+
+    /**
+     * Checks that two states have the same doors, position and statistics. Rooms are not
+     * compared, since moving back through a game's history leaves its rooms created.
+     * @param theExpected - The expected state.
+     * @param theActual - The actual state.
+     */
+    public static void assertSameProgress(final MazeState theExpected,
+                                          final MazeState theActual) {
+        assertArrayEquals(theExpected.getDoorWords(), theActual.getDoorWords());
+        assertEquals(theExpected.getCurrentX(), theActual.getCurrentX());
+        assertEquals(theExpected.getCurrentY(), theActual.getCurrentY());
+        assertEquals(theExpected.getRightAnswers(), theActual.getRightAnswers());
+        assertEquals(theExpected.getWrongAnswers(), theActual.getWrongAnswers());
+        assertEquals(theExpected.getTrys(), theActual.getTrys());
+    }
+}